@@ -3,11 +3,19 @@ package com.mtvs.flykidsbackend;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
+import java.util.Map;
+
 @SpringBootApplication
 public class FlykidsBackendApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(FlykidsBackendApplication.class, args);
+        SpringApplication app = new SpringApplication(FlykidsBackendApplication.class);
+        // 종료 시 처리 중인 요청을 마무리하도록 graceful shutdown 기본 적용 (외부 설정으로 변경 가능)
+        app.setDefaultProperties(Map.of(
+                "server.shutdown", "graceful",
+                "spring.lifecycle.timeout-per-shutdown-phase", "30s"
+        ));
+        app.run(args);
     }
 
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.mtvs.flykidsbackend.config;
 
 import static org.springframework.security.config.Customizer.withDefaults;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -49,6 +50,8 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        // 비동기(Mono) 응답 재디스패치는 최초 요청에서 이미 인증을 통과함
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/api/users/signup",
                                 "/api/users/login",
@@ -57,6 +60,9 @@ public class SecurityConfig {
                                 "/swagger-ui.html",
                                 "/swagger-resources/**",
                                 "/api/route/points",
+                                "/api/route/tiles",
+                                "/api/route/tiles/**",
+                                "/api/health/**",
                                 "/api/audio-stream",
                                 "/api/voice-feedback",
                                 "/api/tutorials/audio/**",
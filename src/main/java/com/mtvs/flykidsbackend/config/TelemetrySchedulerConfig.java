@@ -0,0 +1,26 @@
+package com.mtvs.flykidsbackend.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 드론 텔레메트리 전용 Reactor 스케줄러 설정 클래스
+ * - /api/drone/position-log 요청의 판단/저장 작업을 서블릿 스레드 밖에서 처리한다.
+ * - 유저, 미션, 음성 API가 사용하는 톰캣 스레드를 텔레메트리 트래픽이 점유하지 않도록 분리
+ */
+@Configuration
+public class TelemetrySchedulerConfig {
+
+    /** 텔레메트리 작업 스레드 최대 개수 */
+    private static final int TELEMETRY_THREAD_CAP = 16;
+
+    /** 대기 가능한 텔레메트리 작업 최대 개수 (초과 시 즉시 거절) */
+    private static final int TELEMETRY_QUEUE_CAP = 10_000;
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler telemetryScheduler() {
+        return Schedulers.newBoundedElastic(TELEMETRY_THREAD_CAP, TELEMETRY_QUEUE_CAP, "telemetry");
+    }
+}
@@ -1,13 +1,17 @@
 package com.mtvs.flykidsbackend.domain.drone.controller;
 
+import com.mtvs.flykidsbackend.config.security.CustomUserDetails;
 import com.mtvs.flykidsbackend.domain.drone.dto.DronePositionRequestDto;
 import com.mtvs.flykidsbackend.domain.drone.dto.DroneResponse;
 import com.mtvs.flykidsbackend.domain.drone.service.DronePositionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 /**
  *  드론 위치 기록 컨트롤러
@@ -31,8 +35,12 @@ public class DroneController {
      * 드론 위치 데이터 저장 및 경로 이탈 여부 판단
      *
      * POST /api/drone/position-log
+     * - 처리는 텔레메트리 전용 스케줄러에서 수행되며, 서블릿 스레드는 응답 대기 중 반납된다.
+     * - 서버 종료(드레인) 중에는 503 + UNAVAILABLE 상태를 반환한다.
+     * - 요청 사용자는 세션이 제한 시간 초과/끊김으로 자동 만료될 때 결과 저장에 사용된다.
      *
-     * @param request 드론 좌표 요청 DTO
+     * @param request     드론 좌표 요청 DTO
+     * @param userDetails 인증 사용자 정보
      * @return 상태 코드 + JSON 메시지
      */
     @Operation(
@@ -42,8 +50,13 @@ public class DroneController {
                     "이를 통해 사용자는 비행 상태를 모니터링하고 안전한 조작이 가능하도록 지원합니다."
     )
     @PostMapping("/position-log")
-    public ResponseEntity<DroneResponse> logDronePosition(@RequestBody DronePositionRequestDto request) {
-        DroneResponse response = dronePositionService.savePosition(request);
-        return ResponseEntity.ok(response);
+    public Mono<ResponseEntity<DroneResponse>> logDronePosition(
+            @RequestBody DronePositionRequestDto request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        Long userId = userDetails != null ? userDetails.getId() : null;
+        return dronePositionService.savePositionAsync(request, userId)
+                .map(response -> "UNAVAILABLE".equals(response.getStatus())
+                        ? ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response)
+                        : ResponseEntity.ok(response));
     }
 }
\ No newline at end of file
@@ -1,15 +1,28 @@
 package com.mtvs.flykidsbackend.domain.drone.controller;
 
+import com.mtvs.flykidsbackend.domain.drone.dto.RouteImportResponseDto;
 import com.mtvs.flykidsbackend.domain.drone.dto.RoutePointRequestDto;
-import com.mtvs.flykidsbackend.domain.drone.entity.RoutePoint;
+import com.mtvs.flykidsbackend.domain.drone.dto.RouteSaveResponseDto;
+import com.mtvs.flykidsbackend.domain.drone.dto.RouteTileIndexResponseDto;
+import com.mtvs.flykidsbackend.domain.drone.model.RouteFileFormat;
+import com.mtvs.flykidsbackend.domain.drone.model.RoutePayload;
+import com.mtvs.flykidsbackend.domain.drone.service.RouteImportService;
+import com.mtvs.flykidsbackend.domain.drone.service.RoutePayloadService;
 import com.mtvs.flykidsbackend.domain.drone.service.RoutePointService;
+import com.mtvs.flykidsbackend.domain.drone.service.RouteTileService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * 기준 경로 API 컨트롤러
@@ -25,25 +38,65 @@ import java.util.List;
 public class RoutePointController {
 
     private final RoutePointService routePointService;
+    private final RouteImportService routeImportService;
+    private final RoutePayloadService routePayloadService;
+    private final RouteTileService routeTileService;
 
     /**
      * 기준 경로 좌표 여러 개 저장
      * POST /api/route/points
      *
      * @param pointList 기준 경로 좌표 리스트
-     * @return 성공 메시지
+     * @return 저장 결과 (요청/저장 포인트 수, 감소 비율)
      */
     @Operation(
             summary = "기준 경로 좌표 등록",
             description = "사용자가 드론 비행의 기준이 될 여러 경로 좌표를 한 번에 서버에 등록합니다. " +
                     "비행 경로 설정이나 미션 준비 시 호출되며, " +
-                    "등록된 경로는 드론 위치 이탈 판단과 미션 수행 평가에 사용됩니다."
+                    "등록된 경로는 드론 위치 이탈 판단과 미션 수행 평가에 사용됩니다. " +
+                    "등록할 때마다 미션별 새 경로 버전이 만들어져 기존 경로를 교체합니다. " +
+                    "저장 전에 너무 촘촘한 포인트와 일직선 위의 포인트를 줄이며(게이트, 통로 값이 바뀌는 포인트는 유지), " +
+                    "응답으로 요청/저장 포인트 수와 감소 비율을 돌려줍니다."
     )
     @PostMapping("/points")
-    public ResponseEntity<String> saveRoutePoints(@RequestBody List<RoutePointRequestDto> pointList) {
+    public ResponseEntity<?> saveRoutePoints(@RequestBody List<RoutePointRequestDto> pointList) {
         try {
-            routePointService.saveRoutePoints(pointList);
-            return ResponseEntity.ok("기준 경로가 저장되었습니다.");
+            RouteSaveResponseDto result = routePointService.saveRoutePoints(pointList);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * 기준 경로 파일 일괄 등록
+     * POST /api/route/import?missionId=1&format=CSV (요청 본문 = 파일 내용)
+     * - 미션의 기존 기준 경로를 파일 내용으로 교체한다.
+     * - multipart 로 받으면 파일 크기 제한과 임시 파일 저장을 거치므로, 요청 본문 스트림을 그대로 파서에 넘긴다.
+     *
+     * @param missionId 미션 ID
+     * @param format    파일 형식 (CSV / GEOJSON)
+     * @param body      요청 본문 스트림 (경로 파일 내용)
+     * @return 등록 결과 (포인트 수, 적재 방식)
+     */
+    @Operation(
+            summary = "기준 경로 파일 일괄 등록",
+            description = "CSV 또는 GeoJSON 경로 파일을 업로드해 미션의 기준 경로를 한 번에 교체합니다. " +
+                    "CSV 는 한 줄에 x,y,z[,gate[,horizontalTolerance,minAltitude,maxAltitude]] 형식이며, " +
+                    "GeoJSON 은 Point / LineString 좌표 [동, 북, 고도] 를 유니티 좌표 (x, z, y) 로 사용합니다. " +
+                    "파일은 스트리밍으로 읽어 적재하므로 포인트 수가 많아도 메모리 사용량이 일정합니다."
+    )
+    @PostMapping(
+            value = "/import",
+            consumes = {"text/csv", "application/geo+json", MediaType.APPLICATION_JSON_VALUE,
+                    MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE}
+    )
+    public ResponseEntity<?> importRoute(@RequestParam("missionId") Long missionId,
+                                         @RequestParam("format") RouteFileFormat format,
+                                         InputStream body) {
+        try {
+            RouteImportResponseDto result = routeImportService.importRoute(missionId, format, body);
+            return ResponseEntity.ok(result);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
@@ -54,19 +107,150 @@ public class RoutePointController {
      *
      * GET /api/route/points?missionId=1
      * 미션 ID에 해당하는 기준 경로 포인트 리스트를 조회한다.
+     * - 경로 버전별로 미리 만든 JSON / gzip 본문을 그대로 내려준다.
+     * - If-None-Match 가 현재 버전 ETag 와 같으면 DB 조회 없이 304 를 반환한다.
+     *   (JSON / gzip 본문은 ETag 가 달라, 내려줄 본문 기준으로 비교한다.)
      *
-     * @param missionId 조회할 미션 ID
-     * @return 기준 경로 좌표 리스트
+     * @param missionId      조회할 미션 ID
+     * @param acceptEncoding Accept-Encoding 헤더 (gzip 포함 시 압축 본문)
+     * @param webRequest     조건부 요청 확인용
+     * @return 기준 경로 좌표 리스트 (JSON)
      */
     @Operation(
             summary = "기준 경로 조회",
             description = "특정 미션에 설정된 기준 경로 좌표 리스트를 조회합니다. " +
                     "미션 수행 전 드론 비행 경로 확인이나 경로 검증을 위해 호출됩니다. " +
-                    "이 데이터를 통해 클라이언트는 드론 경로를 시각화하거나 이탈 판단에 활용할 수 있습니다."
+                    "이 데이터를 통해 클라이언트는 드론 경로를 시각화하거나 이탈 판단에 활용할 수 있습니다. " +
+                    "응답에는 경로 버전별 ETag 가 붙으며, If-None-Match 로 같은 값을 보내면 304 를 반환합니다. " +
+                    "Accept-Encoding 에 gzip 이 있으면(q=0 제외) 압축된 본문을 내려주며, 압축 본문의 ETag 에는 -gz 가 붙습니다."
+    )
+    @GetMapping(value = "/points", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getRoutePoints(
+            @RequestParam("missionId") Long missionId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+
+        // 버전 ETag 는 메모리에서만 확인 (일치하면 304, 본문 생성 없음)
+        boolean gzip = acceptsGzip(acceptEncoding);
+        if (webRequest.checkNotModified(routePayloadService.currentETag(missionId, gzip))) {
+            return null;
+        }
+
+        return payloadResponse(routePayloadService.getPayload(missionId), gzip);
+    }
+
+    /**
+     * 기준 경로 LOD 타일 목록 조회 API
+     *
+     * GET /api/route/tiles?missionId=1
+     * 사용 중인 경로 버전의 단계별 허용 오차, 타일 크기, 타일 ID 목록을 조회한다.
+     *
+     * @param missionId 조회할 미션 ID
+     * @return 단계별 타일 목록
+     */
+    @Operation(
+            summary = "기준 경로 타일 목록 조회",
+            description = "기준 경로를 단순화 단계(LOD)별로 나눈 공간 타일 목록을 조회합니다. " +
+                    "단계 0 은 원본 경로이고 단계가 올라갈수록 포인트가 줄고 타일이 커집니다. " +
+                    "클라이언트는 드론 주변은 낮은 단계, 먼 곳은 높은 단계의 타일만 골라 받을 수 있습니다. " +
+                    "타일 ID 는 {단계}_{floor(x / 타일 크기)}_{floor(z / 타일 크기)} 형식입니다."
+    )
+    @GetMapping("/tiles")
+    public ResponseEntity<RouteTileIndexResponseDto> getRouteTiles(@RequestParam("missionId") Long missionId) {
+        return ResponseEntity.ok(routeTileService.getIndex(missionId));
+    }
+
+    /**
+     * 기준 경로 LOD 타일 조회 API
+     *
+     * GET /api/route/tiles/{tileId}?missionId=1
+     * - 타일 본문은 경로 버전별로 메모리에 캐시된 JSON / gzip 을 그대로 내려준다.
+     * - If-None-Match 가 현재 버전의 타일 ETag 와 같으면 304 를 반환한다.
+     *
+     * @param missionId      조회할 미션 ID
+     * @param tileId         타일 ID
+     * @param acceptEncoding Accept-Encoding 헤더 (gzip 포함 시 압축 본문)
+     * @param webRequest     조건부 요청 확인용
+     * @return 타일 본문 (JSON), 없는 타일이면 404
+     */
+    @Operation(
+            summary = "기준 경로 타일 조회",
+            description = "타일 하나에 들어가는 기준 경로 폴리라인을 조회합니다. " +
+                    "각 포인트의 seq 는 원본 경로 순서이며, 타일 경계를 지나는 선분은 양쪽 타일에 모두 포함됩니다. " +
+                    "응답에는 경로 버전과 타일별 ETag 가 붙으며, If-None-Match 로 같은 값을 보내면 304 를 반환합니다."
     )
-    @GetMapping("/points")
-    public ResponseEntity<List<RoutePoint>> getRoutePoints(@RequestParam("missionId") Long missionId) {
-        List<RoutePoint> points = routePointService.getRouteByMissionId(missionId);
-        return ResponseEntity.ok(points);
+    @GetMapping(value = "/tiles/{tileId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getRouteTile(
+            @RequestParam("missionId") Long missionId,
+            @PathVariable("tileId") String tileId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+
+        boolean gzip = acceptsGzip(acceptEncoding);
+        if (webRequest.checkNotModified(routeTileService.currentETag(missionId, tileId, gzip))) {
+            return null;
+        }
+
+        try {
+            return payloadResponse(routeTileService.getTilePayload(missionId, tileId), gzip);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * 미리 만든 본문으로 응답을 만든다. (본문별 ETag, 재검증 캐시)
+     */
+    private static ResponseEntity<byte[]> payloadResponse(RoutePayload payload, boolean gzip) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return response.eTag(payload.gzipETag())
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(payload.gzip());
+        }
+        return response.eTag(payload.etag()).body(payload.json());
+    }
+
+    /**
+     * Accept-Encoding 으로 gzip 본문을 받을 수 있는지 확인한다.
+     * - q 값이 0 인 코딩은 거부로 본다. (예: "gzip;q=0")
+     * - gzip(x-gzip) 이 따로 없으면 "*" 의 q 값을 따른다.
+     *
+     * @param acceptEncoding Accept-Encoding 헤더 값 (없으면 null)
+     * @return gzip 본문 사용 여부
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double anyQuality = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+            } else if (coding.equals("*")) {
+                anyQuality = quality;
+            }
+        }
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return anyQuality != null && anyQuality > 0;
     }
 }
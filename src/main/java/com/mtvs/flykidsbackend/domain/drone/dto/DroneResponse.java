@@ -9,9 +9,11 @@ import lombok.Setter;
 /**
  * 드론 위치 처리 응답 DTO
  *
- * status: 응답 상태 코드 (예: OK, OUT_OF_BOUNDS, ALTITUDE_ERROR, COLLISION)
+ * status: 응답 상태 코드 (예: OK, PRE_WARNING, OUT_OF_BOUNDS, ALTITUDE_LOW, ALTITUDE_HIGH, COLLISION, NEAR_MISS, EXPIRED, UNAVAILABLE)
  * message: 사용자 또는 시스템용 응답 메시지
  * audioUrl: (선택) 상황별 음성 피드백 mp3 URL
+ * nextIntervalMs: (선택) 서버가 권장하는 다음 위치 전송 간격(ms)
+ * progressPercent / gatesPassed / totalGates: (선택) 서버가 추적한 경로 진행도와 게이트 통과 현황
  */
 @Getter
 @Setter
@@ -23,7 +25,7 @@ public class DroneResponse {
     @Schema(
             description = "응답 상태 코드",
             example = "OK",
-            allowableValues = {"OK", "COLLISION", "OUT_OF_BOUNDS", "ALTITUDE_ERROR", "ERROR"}
+            allowableValues = {"OK", "PRE_WARNING", "COLLISION", "NEAR_MISS", "OUT_OF_BOUNDS", "ALTITUDE_LOW", "ALTITUDE_HIGH", "EXPIRED", "ERROR", "UNAVAILABLE"}
     )
     private String status;
 
@@ -39,4 +41,38 @@ public class DroneResponse {
             nullable = true
     )
     private String audioUrl;
+
+    @Schema(
+            description = "서버 권장 다음 위치 전송 간격 (ms). 경고 상황에서는 짧아지고, 안정 비행 중이거나 서버 부하가 높으면 길어진다.",
+            example = "200",
+            nullable = true
+    )
+    private Integer nextIntervalMs;
+
+    @Schema(
+            description = "기준 경로 진행률 (%, 0 ~ 100). 경로상 현재 위치의 누적 거리 / 전체 경로 길이",
+            example = "42.5",
+            nullable = true
+    )
+    private Float progressPercent;
+
+    @Schema(
+            description = "순서대로 통과한 게이트 수",
+            example = "2",
+            nullable = true
+    )
+    private Integer gatesPassed;
+
+    @Schema(
+            description = "경로에 설정된 전체 게이트 수",
+            example = "5",
+            nullable = true
+    )
+    private Integer totalGates;
+
+    public DroneResponse(String status, String message, String audioUrl) {
+        this.status = status;
+        this.message = message;
+        this.audioUrl = audioUrl;
+    }
 }
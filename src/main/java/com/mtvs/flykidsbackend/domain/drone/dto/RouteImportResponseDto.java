@@ -0,0 +1,33 @@
+package com.mtvs.flykidsbackend.domain.drone.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 기준 경로 파일 일괄 등록 응답 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class RouteImportResponseDto {
+
+    @Schema(description = "미션 ID", example = "1")
+    private Long missionId;
+
+    @Schema(description = "새로 활성화된 경로 버전 ID", example = "7")
+    private Long routeVersionId;
+
+    @Schema(description = "파일에서 읽은 경로 포인트 수", example = "12000")
+    private long receivedCount;
+
+    @Schema(description = "전처리(근접 포인트 제거 + 단순화) 후 등록된 경로 포인트 수", example = "840")
+    private long importedCount;
+
+    @Schema(description = "줄어든 비율 (0.0 ~ 1.0, 1 - 등록 수 / 읽은 수)", example = "0.93")
+    private double reductionRatio;
+
+    @Schema(description = "적재 방식 (COPY: PostgreSQL COPY, BATCH: JDBC 배치 INSERT)", example = "COPY")
+    private String loadMethod;
+}
@@ -29,4 +29,16 @@ public class RoutePointRequestDto {
 
     @Schema(description = "Y축 회전 각도", example = "90.0")
     private double rotationY;
+
+    @Schema(description = "게이트 여부 (순서대로 통과해야 하는 지점)", example = "false", nullable = true)
+    private Boolean gate;
+
+    @Schema(description = "이 포인트부터 다음 포인트까지 구간의 경로 이탈 허용 수평 거리(m), 생략 시 기본값 2.5", example = "2.5", nullable = true)
+    private Double horizontalTolerance;
+
+    @Schema(description = "이 포인트부터 다음 포인트까지 구간의 최소 고도(m), 생략 시 기본값 0.5", example = "0.5", nullable = true)
+    private Double minAltitude;
+
+    @Schema(description = "이 포인트부터 다음 포인트까지 구간의 최대 고도(m), 생략 시 기본값 3.0", example = "3.0", nullable = true)
+    private Double maxAltitude;
 }
@@ -0,0 +1,28 @@
+package com.mtvs.flykidsbackend.domain.drone.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 기준 경로 등록 응답 DTO
+ * - 업로드 전처리(근접 포인트 제거 + 단순화)로 줄어든 포인트 수를 함께 알려준다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class RouteSaveResponseDto {
+
+    @Schema(description = "처리 결과 메시지", example = "기준 경로가 저장되었습니다.")
+    private String message;
+
+    @Schema(description = "요청으로 받은 포인트 수", example = "4200")
+    private int receivedCount;
+
+    @Schema(description = "전처리 후 저장된 포인트 수", example = "310")
+    private int savedCount;
+
+    @Schema(description = "줄어든 비율 (0.0 ~ 1.0, 1 - 저장 수 / 요청 수)", example = "0.926")
+    private double reductionRatio;
+}
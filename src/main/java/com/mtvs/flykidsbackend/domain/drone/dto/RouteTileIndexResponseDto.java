@@ -0,0 +1,28 @@
+package com.mtvs.flykidsbackend.domain.drone.dto;
+
+import com.mtvs.flykidsbackend.domain.drone.model.RouteTileSet;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 기준 경로 LOD 타일 목록 응답 DTO
+ * - 클라이언트는 단계별 타일 크기로 드론 주변 타일 ID를 계산해 필요한 타일만 받는다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class RouteTileIndexResponseDto {
+
+    @Schema(description = "미션 ID", example = "1")
+    private Long missionId;
+
+    @Schema(description = "타일을 만든 경로 버전 ID (타일 요청 시 ETag 와 함께 확인)", example = "7")
+    private long versionId;
+
+    @Schema(description = "단계별 요약 (단계, 허용 오차, 타일 크기, 포인트 수, 타일 ID 목록). 타일 ID 형식은 {단계}_{타일 X}_{타일 Z}")
+    private List<RouteTileSet.Level> levels;
+}
@@ -3,21 +3,20 @@ package com.mtvs.flykidsbackend.domain.drone.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.time.LocalDateTime;
-
 /**
  *  드론 위치 로그 엔티티
  *
  * 유니티에서 전송된 드론의 위치 및 방향 데이터를 기록하는 테이블
  * 미션 수행 중 실시간 이동 경로 분석, 경로 이탈 판별 등에 활용됨
+ * 대량으로 쌓이는 테이블이므로 행 크기를 줄이기 위해 압축된 형태로 저장한다.
  *
  * Fields:
  * - id: 기본 키 (자동 생성)
- * - droneId: 드론 또는 유저 식별자
+ * - droneKey: 드론 정수 키 (DroneRegistry 참조)
  * - missionId: 수행 중인 미션 ID
- * - x, y, z: 드론의 3D 위치 좌표
- * - rotationY: 드론의 방향(회전 각도), Y축 기준
- * - loggedAt: 로그가 기록된 시각 (기본값: 현재 시각)
+ * - x, y, z: 드론의 3D 위치 좌표 (float)
+ * - rotationY: 드론의 방향(회전 각도), Y축 기준 (float)
+ * - loggedAt: 로그가 기록된 시각 (epoch milliseconds, 기본값: 현재 시각)
  */
 @Getter
 @Setter
@@ -25,22 +24,25 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
+@Table(indexes = @Index(name = "idx_drone_position_log_drone_time", columnList = "drone_key, logged_at_ms"))
 public class DronePositionLog {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    private String droneId;
+    @Column(name = "drone_key", nullable = false)
+    private int droneKey;
 
     private Long missionId;
 
-    private double x;
-    private double y;
-    private double z;
+    private float x;
+    private float y;
+    private float z;
 
-    private double rotationY;
+    private float rotationY;
 
     @Builder.Default
-    private LocalDateTime loggedAt = LocalDateTime.now();
+    @Column(name = "logged_at_ms", nullable = false)
+    private long loggedAt = System.currentTimeMillis();
 }
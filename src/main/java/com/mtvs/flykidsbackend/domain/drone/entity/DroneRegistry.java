@@ -0,0 +1,38 @@
+package com.mtvs.flykidsbackend.domain.drone.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 드론 식별자 사전(Dictionary) 엔티티
+ *
+ * 클라이언트가 보내는 문자열 드론 ID(예: drone-user-001)를
+ * 작은 정수 키(droneKey)로 매핑한다.
+ * 위치 로그, 이탈 로그 등 텔레메트리 테이블은 문자열 대신 이 정수 키를 저장한다.
+ *
+ * Fields:
+ * - id: 드론 정수 키 (자동 생성, 텔레메트리 테이블의 drone_key)
+ * - droneId: 클라이언트 드론 식별 문자열 (중복 불가)
+ * - registeredAt: 최초 등록 시각
+ */
+@Entity
+@Table(name = "drone_registry")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DroneRegistry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String droneId;
+
+    @Builder.Default
+    private LocalDateTime registeredAt = LocalDateTime.now();
+}
@@ -3,12 +3,11 @@ package com.mtvs.flykidsbackend.domain.drone.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.time.LocalDateTime;
-
 /**
  * 드론 경로 이탈 로그 엔티티
  *
  * 드론이 기준 경로를 벗어났을 때 저장되는 기록이다.
+ * 드론은 정수 키(DroneRegistry), 좌표는 float, 시간은 epoch milliseconds 로 저장한다.
  */
 @Entity
 @Getter
@@ -24,13 +23,15 @@ public class RouteDeviationLog {
 
     private Long missionId;
 
-    private String droneId;
+    @Column(name = "drone_key", nullable = false)
+    private int droneKey;
 
-    private double x;
-    private double y;
-    private double z;
+    private float x;
+    private float y;
+    private float z;
 
-    private double rotationY;
+    private float rotationY;
 
-    private LocalDateTime timestamp; // 발생 시간
+    @Column(name = "timestamp_ms", nullable = false)
+    private long timestamp; // 발생 시간 (epoch milliseconds)
 }
@@ -7,8 +7,13 @@ import lombok.*;
  * 기준 경로 포인트 엔티티
  *
  * 각 미션에 따라 기준 경로를 구성하는 좌표 점이다.
+ * gate 가 true 인 포인트는 순서대로 통과해야 하는 게이트로 취급한다.
+ * 통로(corridor) 값은 이 포인트에서 다음 포인트까지의 구간에 적용되며, 비어 있으면 기본값을 사용한다.
+ * 포인트는 등록 단위인 경로 버전(RouteVersion)에 속하며, 버전 안의 순서는 seq 로 정한다.
+ * (버전 도입 전에 저장된 포인트는 routeVersionId 가 null 이고 id 순서를 따른다.)
  */
 @Entity
+@Table(indexes = @Index(name = "idx_route_point_version_seq", columnList = "route_version_id, seq"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -22,7 +27,28 @@ public class RoutePoint {
 
     private Long missionId;
 
+    /** 소속 경로 버전 ID (버전 도입 전 포인트는 null) */
+    @Column(name = "route_version_id")
+    private Long routeVersionId;
+
+    /** 버전 안에서의 순서 (0부터, 버전 도입 전 포인트는 null) */
+    private Integer seq;
+
     private double x;
     private double y;
     private double z;
+
+    /** 게이트 여부 (순서대로 통과해야 하는 지점) */
+    @Builder.Default
+    @Column(nullable = false, columnDefinition = "boolean default false")
+    private boolean gate = false;
+
+    /** 구간 경로 이탈 허용 수평 거리(m), null 이면 기본값 */
+    private Double horizontalTolerance;
+
+    /** 구간 최소 고도(m), null 이면 기본값 */
+    private Double minAltitude;
+
+    /** 구간 최대 고도(m), null 이면 기본값 */
+    private Double maxAltitude;
 }
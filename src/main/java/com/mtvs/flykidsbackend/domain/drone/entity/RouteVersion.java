@@ -0,0 +1,49 @@
+package com.mtvs.flykidsbackend.domain.drone.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기준 경로 버전 엔티티
+ *
+ * 기준 경로를 등록할 때마다 새 버전이 만들어지고, 그 버전의 포인트는 이후 변경되지 않는다.
+ * 미션마다 active 인 버전 하나가 텔레메트리 판단과 경로 조회에 사용된다.
+ * 교체된 버전은 retiredAt 이 기록되고, 유예 시간이 지나면 RouteVersionCollector 가 포인트와 함께 삭제한다.
+ *
+ * Fields:
+ * - id: 버전 ID (자동 생성, 같은 미션 안에서는 클수록 최신)
+ * - missionId: 미션 ID
+ * - pointCount: 포인트 수
+ * - active: 현재 사용 중인 버전 여부
+ * - createdAt: 등록 시각
+ * - retiredAt: 교체된 시각 (사용 중이면 null)
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_route_version_mission_active", columnList = "mission_id, active"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RouteVersion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "mission_id", nullable = false)
+    private Long missionId;
+
+    private long pointCount;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private boolean active = false;
+
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    private LocalDateTime retiredAt;
+}
@@ -0,0 +1,375 @@
+package com.mtvs.flykidsbackend.domain.drone.model;
+
+import com.mtvs.flykidsbackend.domain.drone.entity.RoutePoint;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 텔레메트리 판단용으로 컴파일된 기준 경로
+ *
+ * RoutePoint 엔티티 리스트를 좌표별 float 배열로 변환해 보관한다.
+ * (파일 일괄 등록처럼 엔티티가 없는 경우에는 Builder 로 좌표 값을 하나씩 넣어 컴파일한다.)
+ * 진행도 계산을 위해 포인트별 누적 호 길이(arc length)와 게이트 위치도 함께 계산해 둔다.
+ * 구간별 통로(허용 수평 거리 + 고도 범위)는 구간당 3칸씩 연속 배열로 펼쳐 두어
+ * 샘플 판단 시 구간 인덱스 하나로 바로 읽는다.
+ * 경로 버전(RouteVersion) 하나를 컴파일한 불변 객체이므로 여러 텔레메트리 스레드가 동시에 읽어도 안전하고,
+ * 새 버전은 캐시의 참조를 통째로 바꿔 끼우는 방식으로 반영된다.
+ */
+public final class CompiledRoute {
+
+    /** 진행 구간 탐색 시 이전 구간 기준으로 되돌아볼 구간 수 */
+    private static final int SEARCH_BACK = 2;
+
+    /** 진행 구간 탐색 시 이전 구간 기준으로 앞서 볼 구간 수 */
+    private static final int SEARCH_AHEAD = 8;
+
+    /** 통로 기본값 (포인트에 값이 없을 때) */
+    public static final float DEFAULT_HORIZONTAL_TOLERANCE = 2.5f;
+    public static final float DEFAULT_MIN_ALTITUDE = 0.5f;
+    public static final float DEFAULT_MAX_ALTITUDE = 3.0f;
+
+    /** 통로 배열 stride 및 칸 오프셋 */
+    private static final int CORRIDOR_STRIDE = 3;
+    private static final int TOLERANCE = 0;
+    private static final int MIN_ALTITUDE = 1;
+    private static final int MAX_ALTITUDE = 2;
+
+    private final long missionId;
+    private final long versionId;   // 경로 버전 ID (버전 도입 전 포인트면 0)
+    private final float[] xs;
+    private final float[] ys;
+    private final float[] zs;
+    private final float[] arc;      // 포인트 i 까지의 누적 호 길이
+    private final int[] gates;      // 게이트 포인트 인덱스 (경로 순)
+    private final float[] corridor; // 구간별 (허용 수평 거리, 최소 고도, 최대 고도)
+
+    private CompiledRoute(long missionId, long versionId, float[] xs, float[] ys, float[] zs, float[] arc,
+                          int[] gates, float[] corridor) {
+        this.missionId = missionId;
+        this.versionId = versionId;
+        this.xs = xs;
+        this.ys = ys;
+        this.zs = zs;
+        this.arc = arc;
+        this.gates = gates;
+        this.corridor = corridor;
+    }
+
+    /**
+     * 기준 경로 포인트 리스트를 컴파일한다.
+     *
+     * @param missionId 미션 ID
+     * @param versionId 경로 버전 ID (버전 도입 전 포인트면 0)
+     * @param points    기준 경로 포인트 (경로 순서)
+     * @return 컴파일된 경로
+     */
+    public static CompiledRoute of(long missionId, long versionId, List<RoutePoint> points) {
+        Builder builder = builder(missionId, versionId, points.size());
+        for (RoutePoint p : points) {
+            builder.add(p.getX(), p.getY(), p.getZ(), p.isGate(),
+                    p.getHorizontalTolerance(), p.getMinAltitude(), p.getMaxAltitude());
+        }
+        return builder.build();
+    }
+
+    /**
+     * 포인트를 하나씩 받아 컴파일하는 빌더를 만든다.
+     * - 엔티티 없이 좌표 값만 배열에 쌓으므로, 파일 일괄 등록처럼 포인트를 스트리밍으로 읽는 경우에 쓴다.
+     *
+     * @param missionId    미션 ID
+     * @param versionId    경로 버전 ID
+     * @param expectedSize 예상 포인트 수 (배열 초기 크기, 넘으면 늘어남)
+     */
+    public static Builder builder(long missionId, long versionId, int expectedSize) {
+        return new Builder(missionId, versionId, expectedSize);
+    }
+
+    /**
+     * 컴파일 경로 빌더 (단일 스레드 전용)
+     */
+    public static final class Builder {
+
+        private final long missionId;
+        private final long versionId;
+        private float[] xs;
+        private float[] ys;
+        private float[] zs;
+        private float[] arc;
+        private float[] corridor;
+        private int[] gates = new int[8];
+        private int size;
+        private int gateCount;
+
+        private Builder(long missionId, long versionId, int expectedSize) {
+            int capacity = Math.max(16, expectedSize);
+            this.missionId = missionId;
+            this.versionId = versionId;
+            this.xs = new float[capacity];
+            this.ys = new float[capacity];
+            this.zs = new float[capacity];
+            this.arc = new float[capacity];
+            this.corridor = new float[capacity * CORRIDOR_STRIDE];
+        }
+
+        /**
+         * 경로 순서대로 포인트 하나를 추가한다. (통로 값이 null 이면 기본값)
+         */
+        public Builder add(double x, double y, double z, boolean gate,
+                           Double horizontalTolerance, Double minAltitude, Double maxAltitude) {
+            if (size == xs.length) {
+                grow();
+            }
+            int i = size;
+            xs[i] = (float) x;
+            ys[i] = (float) y;
+            zs[i] = (float) z;
+            if (i > 0) {
+                float dx = xs[i] - xs[i - 1];
+                float dy = ys[i] - ys[i - 1];
+                float dz = zs[i] - zs[i - 1];
+                arc[i] = arc[i - 1] + (float) Math.sqrt(dx * dx + dy * dy + dz * dz);
+            }
+            if (gate) {
+                if (gateCount == gates.length) {
+                    gates = Arrays.copyOf(gates, gates.length * 2);
+                }
+                gates[gateCount++] = i;
+            }
+            corridor[i * CORRIDOR_STRIDE + TOLERANCE] = valueOrDefault(horizontalTolerance, DEFAULT_HORIZONTAL_TOLERANCE);
+            corridor[i * CORRIDOR_STRIDE + MIN_ALTITUDE] = valueOrDefault(minAltitude, DEFAULT_MIN_ALTITUDE);
+            corridor[i * CORRIDOR_STRIDE + MAX_ALTITUDE] = valueOrDefault(maxAltitude, DEFAULT_MAX_ALTITUDE);
+            size++;
+            return this;
+        }
+
+        /** 지금까지 추가된 포인트 수 */
+        public int size() {
+            return size;
+        }
+
+        public CompiledRoute build() {
+            float[] builtCorridor = Arrays.copyOf(corridor, Math.max(1, size) * CORRIDOR_STRIDE);
+            if (size == 0) {
+                builtCorridor[TOLERANCE] = DEFAULT_HORIZONTAL_TOLERANCE;
+                builtCorridor[MIN_ALTITUDE] = DEFAULT_MIN_ALTITUDE;
+                builtCorridor[MAX_ALTITUDE] = DEFAULT_MAX_ALTITUDE;
+            }
+            return new CompiledRoute(missionId, versionId,
+                    Arrays.copyOf(xs, size), Arrays.copyOf(ys, size), Arrays.copyOf(zs, size),
+                    Arrays.copyOf(arc, size), Arrays.copyOf(gates, gateCount), builtCorridor);
+        }
+
+        private void grow() {
+            int capacity = xs.length * 2;
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            zs = Arrays.copyOf(zs, capacity);
+            arc = Arrays.copyOf(arc, capacity);
+            corridor = Arrays.copyOf(corridor, capacity * CORRIDOR_STRIDE);
+        }
+    }
+
+    public long getMissionId() {
+        return missionId;
+    }
+
+    public long getVersionId() {
+        return versionId;
+    }
+
+    public int size() {
+        return xs.length;
+    }
+
+    public boolean isEmpty() {
+        return xs.length == 0;
+    }
+
+    public float x(int i) { return xs[i]; }
+    public float y(int i) { return ys[i]; }
+    public float z(int i) { return zs[i]; }
+
+    /** 구간 수 (포인트 수 - 1) */
+    public int segmentCount() {
+        return Math.max(0, xs.length - 1);
+    }
+
+    /** 경로 전체 길이 */
+    public float totalLength() {
+        return xs.length == 0 ? 0f : arc[xs.length - 1];
+    }
+
+    /** 게이트 수 */
+    public int gateCount() {
+        return gates.length;
+    }
+
+    /** g 번째 게이트의 누적 호 길이 */
+    public float gateArc(int g) {
+        return arc[gates[g]];
+    }
+
+    /** g 번째 게이트의 포인트 인덱스 */
+    public int gatePoint(int g) {
+        return gates[g];
+    }
+
+    /** 구간의 경로 이탈 허용 수평 거리(m) */
+    public float horizontalTolerance(int segment) {
+        return corridor[segment * CORRIDOR_STRIDE + TOLERANCE];
+    }
+
+    /** 구간의 최소 고도(m) */
+    public float minAltitude(int segment) {
+        return corridor[segment * CORRIDOR_STRIDE + MIN_ALTITUDE];
+    }
+
+    /** 구간의 최대 고도(m) */
+    public float maxAltitude(int segment) {
+        return corridor[segment * CORRIDOR_STRIDE + MAX_ALTITUDE];
+    }
+
+    /**
+     * 이전 구간 주변(SEARCH_BACK ~ SEARCH_AHEAD)만 탐색해 현재 좌표에 가장 가까운 구간을 찾는다.
+     * - 전체 경로를 훑지 않으므로 경로 길이와 무관하게 상수 시간이다.
+     * - 주변 구간 밖으로 추적을 놓친 경우(지름길, 되돌아감, 리스폰 등)의 전체 탐색(findCorridorSegment)은
+     *   호출자가 드론별로 빈도를 제한해 따로 수행한다. (RouteProgressTracker)
+     *
+     * @param fromSegment 직전 샘플의 구간 인덱스
+     * @return 가장 가까운 구간 인덱스 (구간이 없으면 0)
+     */
+    public int locateSegment(int fromSegment, float x, float y, float z) {
+        int segments = segmentCount();
+        if (segments == 0) {
+            return 0;
+        }
+
+        int clamped = Math.max(0, Math.min(fromSegment, segments - 1));
+        int from = Math.max(0, clamped - SEARCH_BACK);
+        int to = Math.min(segments - 1, clamped + SEARCH_AHEAD);
+        return nearestSegment(from, to, x, y, z);
+    }
+
+    /**
+     * 전체 구간 중 좌표가 통로 안에 들어가는 구간을 찾는다. (경로 길이에 비례하는 비용)
+     * - 여러 구간의 통로가 겹치면 좌표에 가장 가까운 구간을 고른다.
+     *
+     * @return 통로 안에 들어가는 구간 인덱스 (없으면 -1)
+     */
+    public int findCorridorSegment(float x, float y, float z) {
+        int best = -1;
+        float bestDistSq = Float.MAX_VALUE;
+        for (int s = 0, segments = Math.max(1, segmentCount()); s < segments; s++) {
+            if (!isWithinCorridor(s, x, y, z)) {
+                continue;
+            }
+            float distSq = segmentDistanceSq(s, x, y, z);
+            if (distSq < bestDistSq) {
+                bestDistSq = distSq;
+                best = s;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 전체 구간 중 현재 좌표에 가장 가까운 구간 (경로 길이에 비례하는 비용)
+     *
+     * @return 가장 가까운 구간 인덱스 (구간이 없으면 0)
+     */
+    public int nearestSegment(float x, float y, float z) {
+        int segments = segmentCount();
+        return segments == 0 ? 0 : nearestSegment(0, segments - 1, x, y, z);
+    }
+
+    /**
+     * 좌표가 구간의 통로(허용 수평 거리 + 고도 범위) 안에 있는지
+     */
+    public boolean isWithinCorridor(int segment, float x, float y, float z) {
+        float tolerance = horizontalTolerance(segment);
+        return y >= minAltitude(segment)
+                && y <= maxAltitude(segment)
+                && horizontalDistanceSq(segment, x, z) <= tolerance * tolerance;
+    }
+
+    private int nearestSegment(int from, int to, float x, float y, float z) {
+        int best = from;
+        float bestDistSq = Float.MAX_VALUE;
+        for (int s = from; s <= to; s++) {
+            float distSq = segmentDistanceSq(s, x, y, z);
+            if (distSq < bestDistSq) {
+                bestDistSq = distSq;
+                best = s;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 좌표를 구간에 투영했을 때의 누적 호 길이
+     */
+    public float arcLengthOn(int segment, float x, float y, float z) {
+        if (segmentCount() == 0) {
+            return 0f;
+        }
+        float t = projection(segment, x, y, z);
+        return arc[segment] + (arc[segment + 1] - arc[segment]) * t;
+    }
+
+    /**
+     * 좌표와 구간 사이 최단 거리의 제곱
+     */
+    public float segmentDistanceSq(int segment, float x, float y, float z) {
+        if (segmentCount() == 0) {
+            float dx = x - xs[0];
+            float dy = y - ys[0];
+            float dz = z - zs[0];
+            return dx * dx + dy * dy + dz * dz;
+        }
+        float t = projection(segment, x, y, z);
+        float dx = x - (xs[segment] + (xs[segment + 1] - xs[segment]) * t);
+        float dy = y - (ys[segment] + (ys[segment + 1] - ys[segment]) * t);
+        float dz = z - (zs[segment] + (zs[segment + 1] - zs[segment]) * t);
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * 좌표와 구간 사이 수평(XZ 평면) 최단 거리의 제곱
+     * - 통로 허용 거리는 수평 기준이고, 높이는 고도 범위로 따로 판단한다.
+     */
+    public float horizontalDistanceSq(int segment, float x, float z) {
+        if (segmentCount() == 0) {
+            float dx = x - xs[0];
+            float dz = z - zs[0];
+            return dx * dx + dz * dz;
+        }
+        float sx = xs[segment + 1] - xs[segment];
+        float sz = zs[segment + 1] - zs[segment];
+        float lengthSq = sx * sx + sz * sz;
+        float t = lengthSq == 0f ? 0f : ((x - xs[segment]) * sx + (z - zs[segment]) * sz) / lengthSq;
+        t = Math.max(0f, Math.min(1f, t));
+        float dx = x - (xs[segment] + sx * t);
+        float dz = z - (zs[segment] + sz * t);
+        return dx * dx + dz * dz;
+    }
+
+    /**
+     * 좌표를 구간에 투영한 매개변수 t (0 ~ 1)
+     */
+    private float projection(int segment, float x, float y, float z) {
+        float sx = xs[segment + 1] - xs[segment];
+        float sy = ys[segment + 1] - ys[segment];
+        float sz = zs[segment + 1] - zs[segment];
+        float lengthSq = sx * sx + sy * sy + sz * sz;
+        if (lengthSq == 0f) {
+            return 0f;
+        }
+        float t = ((x - xs[segment]) * sx + (y - ys[segment]) * sy + (z - zs[segment]) * sz) / lengthSq;
+        return Math.max(0f, Math.min(1f, t));
+    }
+
+    private static float valueOrDefault(Double value, float defaultValue) {
+        return value != null ? value.floatValue() : defaultValue;
+    }
+}
@@ -0,0 +1,12 @@
+package com.mtvs.flykidsbackend.domain.drone.model;
+
+/**
+ * 기준 경로 일괄 등록 파일 형식
+ *
+ * - CSV: 한 줄에 포인트 하나 (x,y,z[,gate[,horizontalTolerance,minAltitude,maxAltitude]])
+ * - GEOJSON: Point / LineString 도형의 좌표 [동, 북, 고도] 를 유니티 좌표 (x, z, y) 로 사용
+ */
+public enum RouteFileFormat {
+    CSV,
+    GEOJSON
+}
@@ -0,0 +1,27 @@
+package com.mtvs.flykidsbackend.domain.drone.model;
+
+/**
+ * 경로 버전 하나의 조회 응답 본문 (미리 직렬화, 압축해 둔 바이트)
+ *
+ * @param versionId 경로 버전 ID (버전 도입 전 포인트면 0)
+ * @param etag      JSON 본문의 강한 ETag (미션 ID + 버전 ID, 같은 버전이면 본문도 같다)
+ * @param json      JSON 본문
+ * @param gzip      gzip 압축된 JSON 본문
+ */
+public record RoutePayload(long versionId, String etag, byte[] json, byte[] gzip) {
+
+    /**
+     * gzip 본문의 강한 ETag
+     * - 강한 ETag 는 바이트 단위로 같은 본문에만 같아야 하므로, 압축 본문에는 -gz 접미사를 붙인다.
+     */
+    public String gzipETag() {
+        return gzipETag(etag);
+    }
+
+    /**
+     * JSON 본문 ETag 에 대응하는 gzip 본문 ETag ("...-gz")
+     */
+    public static String gzipETag(String etag) {
+        return etag.substring(0, etag.length() - 1) + "-gz\"";
+    }
+}
@@ -0,0 +1,201 @@
+package com.mtvs.flykidsbackend.domain.drone.model;
+
+import com.mtvs.flykidsbackend.domain.drone.dto.RoutePointRequestDto;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 기준 경로 업로드 전처리 (근접 포인트 제거 + 단순화)
+ *
+ * 실제 비행을 녹화한 경로는 거의 같은 위치나 일직선 위에 포인트가 수천 개씩 찍혀 있어
+ * 테이블 크기와 샘플마다의 구간 탐색 비용만 늘린다. 저장 전에 두 단계로 줄인다.
+ * 1. 근접 포인트 제거: 직전에 남긴 포인트와 MIN_SPACING 보다 가까운 포인트는 버린다. (호버링/떨림)
+ *    등간격으로 다시 찍는 리샘플링은 하지 않으므로, 남는 포인트는 모두 원본 포인트이고 간격은 MIN_SPACING 이상으로만 보장된다.
+ * 2. 단순화: 고정 포인트 사이 구간마다 Douglas-Peucker 로 TOLERANCE 안의 일직선 구간을 한 선분으로 합친다.
+ *
+ * 고정 포인트(첫/마지막 포인트, 게이트, 통로 값이 바뀌는 포인트)는 항상 남겨
+ * 게이트 순서와 구간별 통로 값은 그대로 유지된다.
+ *
+ * 파일 일괄 등록은 같은 규칙을 스트림에 적용한다. (SimplifyingPointHandler, 구간 버퍼 크기 제한)
+ */
+public final class RouteSimplifier {
+
+    /** 남길 포인트 간 최소 간격(m) */
+    public static final double MIN_SPACING = 0.3;
+
+    /** 일직선으로 볼 최대 벗어남 거리(m) */
+    public static final double TOLERANCE = 0.1;
+
+    private RouteSimplifier() {
+    }
+
+    /**
+     * 경로 포인트에서 근접 포인트를 제거하고 단순화한다.
+     *
+     * @param points 한 미션의 경로 포인트 (경로 순서)
+     * @return 남은 포인트 (경로 순서, 원본 DTO 참조)
+     */
+    public static List<RoutePointRequestDto> simplify(List<RoutePointRequestDto> points) {
+        if (points.size() <= 2) {
+            return points;
+        }
+        return douglasPeucker(dropClosePoints(points));
+    }
+
+    /**
+     * 고정 포인트 여부 (게이트, 또는 직전 포인트와 통로 값이 다른 포인트)
+     */
+    public static boolean isPinned(RoutePointRequestDto previous, RoutePointRequestDto point) {
+        return Boolean.TRUE.equals(point.getGate())
+                || !Objects.equals(previous.getHorizontalTolerance(), point.getHorizontalTolerance())
+                || !Objects.equals(previous.getMinAltitude(), point.getMinAltitude())
+                || !Objects.equals(previous.getMaxAltitude(), point.getMaxAltitude());
+    }
+
+    /**
+     * 1단계: 최소 간격보다 가까운 포인트 제거 (고정 포인트와 마지막 포인트는 유지)
+     */
+    private static List<RoutePointRequestDto> dropClosePoints(List<RoutePointRequestDto> points) {
+        int last = points.size() - 1;
+        List<RoutePointRequestDto> kept = new ArrayList<>();
+        kept.add(points.get(0));
+        for (int i = 1; i <= last; i++) {
+            RoutePointRequestDto point = points.get(i);
+            RoutePointRequestDto anchor = kept.get(kept.size() - 1);
+            if (i == last || isPinned(points.get(i - 1), point)
+                    || distanceSq(anchor, point) >= MIN_SPACING * MIN_SPACING) {
+                kept.add(point);
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * 2단계: 고정 포인트 사이 구간별 Douglas-Peucker 단순화
+     */
+    private static List<RoutePointRequestDto> douglasPeucker(List<RoutePointRequestDto> points) {
+        int n = points.size();
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        double[] zs = new double[n];
+        boolean[] pinned = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            RoutePointRequestDto point = points.get(i);
+            xs[i] = point.getX();
+            ys[i] = point.getY();
+            zs[i] = point.getZ();
+            pinned[i] = i > 0 && isPinned(points.get(i - 1), point);
+        }
+
+        List<RoutePointRequestDto> result = new ArrayList<>();
+        for (int index : simplifyIndices(xs, ys, zs, pinned, TOLERANCE)) {
+            result.add(points.get(index));
+        }
+        return result;
+    }
+
+    /**
+     * 좌표 배열에 Douglas-Peucker 단순화를 적용해 남길 포인트 인덱스를 구한다.
+     * - 첫/마지막 포인트와 pinned 포인트는 항상 남기고, 그 사이 구간마다 따로 단순화한다.
+     * - 재귀 대신 스택을 사용해 긴 경로에서도 스택 깊이가 늘지 않는다.
+     *
+     * @param pinned    항상 남길 포인트 여부
+     * @param tolerance 일직선으로 볼 최대 벗어남 거리(m)
+     * @return 남길 포인트 인덱스 (오름차순)
+     */
+    public static int[] simplifyIndices(double[] xs, double[] ys, double[] zs, boolean[] pinned, double tolerance) {
+        int n = xs.length;
+        if (n <= 2) {
+            int[] all = new int[n];
+            for (int i = 0; i < n; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        boolean[] keep = new boolean[n];
+        keep[0] = true;
+        keep[n - 1] = true;
+        for (int i = 1; i < n - 1; i++) {
+            keep[i] = pinned[i];
+        }
+
+        Deque<int[]> stack = new ArrayDeque<>();
+        int start = 0;
+        for (int i = 1; i < n; i++) {
+            if (keep[i]) {
+                if (i - start > 1) {
+                    stack.push(new int[]{start, i});
+                }
+                start = i;
+            }
+        }
+
+        while (!stack.isEmpty()) {
+            int[] range = stack.pop();
+            int from = range[0];
+            int to = range[1];
+            int farthest = -1;
+            double farthestSq = tolerance * tolerance;
+            for (int i = from + 1; i < to; i++) {
+                double distSq = segmentDistanceSq(xs, ys, zs, i, from, to);
+                if (distSq > farthestSq) {
+                    farthestSq = distSq;
+                    farthest = i;
+                }
+            }
+            if (farthest >= 0) {
+                keep[farthest] = true;
+                if (farthest - from > 1) {
+                    stack.push(new int[]{from, farthest});
+                }
+                if (to - farthest > 1) {
+                    stack.push(new int[]{farthest, to});
+                }
+            }
+        }
+
+        int count = 0;
+        for (boolean k : keep) {
+            if (k) {
+                count++;
+            }
+        }
+        int[] indices = new int[count];
+        for (int i = 0, j = 0; i < n; i++) {
+            if (keep[i]) {
+                indices[j++] = i;
+            }
+        }
+        return indices;
+    }
+
+    private static double distanceSq(RoutePointRequestDto a, RoutePointRequestDto b) {
+        double dx = a.getX() - b.getX();
+        double dy = a.getY() - b.getY();
+        double dz = a.getZ() - b.getZ();
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * 포인트 p 와 선분 a-b 사이 최단 거리의 제곱
+     */
+    private static double segmentDistanceSq(double[] xs, double[] ys, double[] zs, int p, int a, int b) {
+        double sx = xs[b] - xs[a];
+        double sy = ys[b] - ys[a];
+        double sz = zs[b] - zs[a];
+        double lengthSq = sx * sx + sy * sy + sz * sz;
+        double t = lengthSq == 0
+                ? 0
+                : ((xs[p] - xs[a]) * sx + (ys[p] - ys[a]) * sy + (zs[p] - zs[a]) * sz) / lengthSq;
+        t = Math.max(0, Math.min(1, t));
+        double dx = xs[p] - (xs[a] + sx * t);
+        double dy = ys[p] - (ys[a] + sy * t);
+        double dz = zs[p] - (zs[a] + sz * t);
+        return dx * dx + dy * dy + dz * dz;
+    }
+}
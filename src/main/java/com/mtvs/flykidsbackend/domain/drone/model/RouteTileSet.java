@@ -0,0 +1,250 @@
+package com.mtvs.flykidsbackend.domain.drone.model;
+
+import com.mtvs.flykidsbackend.domain.drone.entity.RoutePoint;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 기준 경로 LOD(Level of Detail) 타일
+ *
+ * 경로 버전 하나를 여러 단순화 단계로 줄이고, 단계마다 수평(XZ) 격자 타일로 나눈다.
+ * 클라이언트는 드론 주변은 상세 단계, 먼 곳은 거친 단계의 타일만 골라 받는다.
+ * - 단계 0 은 원본 그대로, 단계가 올라갈수록 허용 오차와 타일 크기가 커진다.
+ * - 게이트와 통로 값이 바뀌는 포인트는 모든 단계에서 유지된다.
+ * - 각 타일에는 선분이 실제로 지나는 타일마다 이어진 폴리라인 단위로 들어간다.
+ *   (격자 순회(DDA)로 선분이 지나는 타일만 고르며, 타일 경계를 지나는 선분은 양쪽 타일에 모두 들어간다.)
+ * - 경로 XZ 범위는 등록 시 MAX_EXTENT 로 제한하고(validateExtent), 단계별 타일 수는 MAX_TILES_PER_LEVEL 을 넘지 않는다.
+ *
+ * 타일 ID 형식: {단계}_{타일 X}_{타일 Z}
+ * 불변 객체이며 경로 버전이 바뀌면 새로 만든다.
+ */
+public final class RouteTileSet {
+
+    /** 단계별 단순화 허용 오차(m) */
+    private static final double[] LEVEL_TOLERANCES = {0.0, 0.5, 2.0, 8.0};
+
+    /** 단계별 타일 한 변 길이(m) */
+    private static final double[] LEVEL_TILE_SIZES = {25.0, 50.0, 100.0, 200.0};
+
+    /** 등록 가능한 경로 XZ 범위 한 변 최대 길이(m) (단계 0 타일 수가 (2000 / 25 + 1)^2 = 6561 이하) */
+    public static final double MAX_EXTENT = 2_000.0;
+
+    /** 단계 하나의 최대 타일 수 */
+    static final int MAX_TILES_PER_LEVEL = 8_192;
+
+    /** 타일 안 포인트 (seq 는 원본 경로 순서) */
+    public record TilePoint(int seq, float x, float y, float z, boolean gate) {
+    }
+
+    /** 타일 본문 */
+    public record Tile(String tileId, int level, long versionId, List<List<TilePoint>> polylines) {
+    }
+
+    /** 단계 요약 (인덱스 응답용) */
+    public record Level(int level, double tolerance, double tileSize, int pointCount, List<String> tileIds) {
+    }
+
+    private final long versionId;
+    private final List<Level> levels;
+    private final Map<String, Tile> tiles;
+
+    private RouteTileSet(long versionId, List<Level> levels, Map<String, Tile> tiles) {
+        this.versionId = versionId;
+        this.levels = levels;
+        this.tiles = tiles;
+    }
+
+    /**
+     * 경로 버전의 포인트로 단계별 타일을 만든다.
+     *
+     * @param versionId 경로 버전 ID
+     * @param points    경로 포인트 (경로 순서)
+     * @return 타일 집합
+     */
+    public static RouteTileSet of(long versionId, List<RoutePoint> points) {
+        int n = points.size();
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        double[] zs = new double[n];
+        boolean[] pinned = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            RoutePoint point = points.get(i);
+            xs[i] = point.getX();
+            ys[i] = point.getY();
+            zs[i] = point.getZ();
+            pinned[i] = point.isGate() || (i > 0 && corridorChanged(points.get(i - 1), point));
+        }
+
+        List<Level> levels = new ArrayList<>(LEVEL_TOLERANCES.length);
+        Map<String, Tile> tiles = new LinkedHashMap<>();
+        for (int level = 0; level < LEVEL_TOLERANCES.length; level++) {
+            int[] kept = LEVEL_TOLERANCES[level] > 0
+                    ? RouteSimplifier.simplifyIndices(xs, ys, zs, pinned, LEVEL_TOLERANCES[level])
+                    : allIndices(n);
+
+            Map<String, List<List<TilePoint>>> levelTiles = buildTiles(level, points, kept);
+            List<String> tileIds = new ArrayList<>(levelTiles.keySet());
+            for (Map.Entry<String, List<List<TilePoint>>> entry : levelTiles.entrySet()) {
+                tiles.put(entry.getKey(), new Tile(entry.getKey(), level, versionId, entry.getValue()));
+            }
+            levels.add(new Level(level, LEVEL_TOLERANCES[level], LEVEL_TILE_SIZES[level], kept.length, tileIds));
+        }
+        return new RouteTileSet(versionId, List.copyOf(levels), tiles);
+    }
+
+    /**
+     * 경로의 XZ 범위가 MAX_EXTENT 안인지 검증한다. (경로 등록 시)
+     *
+     * @param route 등록할 경로
+     * @throws IllegalArgumentException 가로 또는 세로 범위가 MAX_EXTENT 보다 넓은 경우
+     */
+    public static void validateExtent(CompiledRoute route) {
+        if (route.isEmpty()) {
+            return;
+        }
+        float minX = route.x(0);
+        float maxX = minX;
+        float minZ = route.z(0);
+        float maxZ = minZ;
+        for (int i = 1; i < route.size(); i++) {
+            minX = Math.min(minX, route.x(i));
+            maxX = Math.max(maxX, route.x(i));
+            minZ = Math.min(minZ, route.z(i));
+            maxZ = Math.max(maxZ, route.z(i));
+        }
+        if (maxX - minX > MAX_EXTENT || maxZ - minZ > MAX_EXTENT) {
+            throw new IllegalArgumentException(
+                    "경로 범위가 너무 넓습니다. (가로, 세로 최대 " + (int) MAX_EXTENT + "m)");
+        }
+    }
+
+    public long getVersionId() {
+        return versionId;
+    }
+
+    public List<Level> getLevels() {
+        return levels;
+    }
+
+    /** 모든 타일 (타일 ID → 본문) */
+    public Map<String, Tile> getTiles() {
+        return tiles;
+    }
+
+    /**
+     * 단계 하나의 선분을 타일에 나눠 담는다.
+     * - 선분이 지나는 타일마다 넣고, 같은 타일에 이어지는 선분은 한 폴리라인으로 합친다.
+     *
+     * @throws IllegalStateException 타일 수가 MAX_TILES_PER_LEVEL 을 넘는 경우 (범위 검증 전에 등록된 경로)
+     */
+    private static Map<String, List<List<TilePoint>>> buildTiles(int level, List<RoutePoint> points, int[] kept) {
+        double size = LEVEL_TILE_SIZES[level];
+        Map<String, List<List<TilePoint>>> tiles = new LinkedHashMap<>();
+        Map<String, Integer> lastSeq = new HashMap<>();
+
+        if (kept.length == 1) {
+            TilePoint only = tilePoint(points, kept[0]);
+            String id = tileId(level, cell(only.x(), size), cell(only.z(), size));
+            tiles.computeIfAbsent(id, key -> new ArrayList<>()).add(new ArrayList<>(List.of(only)));
+            return tiles;
+        }
+
+        for (int k = 0; k + 1 < kept.length; k++) {
+            TilePoint a = tilePoint(points, kept[k]);
+            TilePoint b = tilePoint(points, kept[k + 1]);
+            for (long[] cell : traverse(a, b, size)) {
+                String id = tileId(level, cell[0], cell[1]);
+                List<List<TilePoint>> polylines = tiles.computeIfAbsent(id, key -> new ArrayList<>());
+                Integer previous = lastSeq.get(id);
+                if (previous != null && previous == a.seq()) {
+                    polylines.get(polylines.size() - 1).add(b);
+                } else {
+                    List<TilePoint> polyline = new ArrayList<>();
+                    polyline.add(a);
+                    polyline.add(b);
+                    polylines.add(polyline);
+                }
+                lastSeq.put(id, b.seq());
+            }
+            if (tiles.size() > MAX_TILES_PER_LEVEL) {
+                throw new IllegalStateException("경로 타일 수가 단계별 상한을 넘었습니다 - level " + level);
+            }
+        }
+        return tiles;
+    }
+
+    /**
+     * 선분 a-b 가 지나는 타일을 순서대로 구한다. (Amanatides-Woo 격자 순회)
+     * - 경계 상자 전체가 아니라 선분이 실제로 지나는 타일만 고르므로, 대각선 선분도 타일 수가 길이에 비례한다.
+     * - 꼭짓점을 정확히 지나면 한쪽 축을 먼저 넘으므로 이웃 타일 하나가 더 들어갈 수 있다.
+     *
+     * @return (타일 X, 타일 Z) 목록
+     */
+    static List<long[]> traverse(TilePoint a, TilePoint b, double size) {
+        long tx = cell(a.x(), size);
+        long tz = cell(a.z(), size);
+        long endX = cell(b.x(), size);
+        long endZ = cell(b.z(), size);
+
+        double dx = (double) b.x() - a.x();
+        double dz = (double) b.z() - a.z();
+        int stepX = dx > 0 ? 1 : -1;
+        int stepZ = dz > 0 ? 1 : -1;
+        // 선분 매개변수 t(0~1) 기준, 다음 경계까지의 t 와 타일 한 칸의 t
+        double tMaxX = dx == 0 ? Double.POSITIVE_INFINITY
+                : ((stepX > 0 ? tx + 1 : tx) * size - a.x()) / dx;
+        double tMaxZ = dz == 0 ? Double.POSITIVE_INFINITY
+                : ((stepZ > 0 ? tz + 1 : tz) * size - a.z()) / dz;
+        double tDeltaX = dx == 0 ? Double.POSITIVE_INFINITY : size / Math.abs(dx);
+        double tDeltaZ = dz == 0 ? Double.POSITIVE_INFINITY : size / Math.abs(dz);
+
+        long steps = Math.abs(endX - tx) + Math.abs(endZ - tz);
+        List<long[]> cells = new ArrayList<>((int) Math.min(steps + 1, MAX_TILES_PER_LEVEL + 1L));
+        cells.add(new long[]{tx, tz});
+        for (long i = 0; i < steps && cells.size() <= MAX_TILES_PER_LEVEL; i++) {
+            // 부동소수 오차로 끝 타일을 지나치지 않도록, 한 축이 끝에 닿으면 다른 축만 진행
+            boolean alongX = tz == endZ || (tx != endX && tMaxX < tMaxZ);
+            if (alongX) {
+                tx += stepX;
+                tMaxX += tDeltaX;
+            } else {
+                tz += stepZ;
+                tMaxZ += tDeltaZ;
+            }
+            cells.add(new long[]{tx, tz});
+        }
+        return cells;
+    }
+
+    private static TilePoint tilePoint(List<RoutePoint> points, int index) {
+        RoutePoint point = points.get(index);
+        return new TilePoint(index, (float) point.getX(), (float) point.getY(), (float) point.getZ(), point.isGate());
+    }
+
+    private static boolean corridorChanged(RoutePoint previous, RoutePoint point) {
+        return !Objects.equals(previous.getHorizontalTolerance(), point.getHorizontalTolerance())
+                || !Objects.equals(previous.getMinAltitude(), point.getMinAltitude())
+                || !Objects.equals(previous.getMaxAltitude(), point.getMaxAltitude());
+    }
+
+    private static int[] allIndices(int n) {
+        int[] all = new int[n];
+        for (int i = 0; i < n; i++) {
+            all[i] = i;
+        }
+        return all;
+    }
+
+    private static long cell(double coordinate, double size) {
+        return (long) Math.floor(coordinate / size);
+    }
+
+    private static String tileId(int level, long tx, long tz) {
+        return level + "_" + tx + "_" + tz;
+    }
+}
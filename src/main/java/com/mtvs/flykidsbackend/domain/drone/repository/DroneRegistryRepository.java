@@ -0,0 +1,22 @@
+package com.mtvs.flykidsbackend.domain.drone.repository;
+
+import com.mtvs.flykidsbackend.domain.drone.entity.DroneRegistry;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+/**
+ * 드론 식별자 사전 레포지토리
+ *
+ * 문자열 드론 ID와 정수 키 간의 매핑을 조회/저장한다.
+ */
+public interface DroneRegistryRepository extends JpaRepository<DroneRegistry, Integer> {
+
+    /**
+     * 문자열 드론 ID로 등록 정보를 조회한다.
+     *
+     * @param droneId 클라이언트 드론 식별자
+     * @return 등록 정보 (없을 경우 빈 Optional)
+     */
+    Optional<DroneRegistry> findByDroneId(String droneId);
+}
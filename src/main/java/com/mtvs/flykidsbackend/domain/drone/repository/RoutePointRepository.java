@@ -2,6 +2,9 @@ package com.mtvs.flykidsbackend.domain.drone.repository;
 
 import com.mtvs.flykidsbackend.domain.drone.entity.RoutePoint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -19,4 +22,40 @@ public interface RoutePointRepository extends JpaRepository<RoutePoint, Long> {
      * @return 해당 미션의 모든 기준 좌표 리스트
      */
     List<RoutePoint> findByMissionId(Long missionId);
+
+    /**
+     * 경로 버전의 포인트들을 순서대로 반환한다.
+     *
+     * @param routeVersionId 경로 버전 ID
+     * @return 해당 버전의 기준 좌표 리스트 (seq 순)
+     */
+    List<RoutePoint> findByRouteVersionIdOrderBySeqAsc(Long routeVersionId);
+
+    /**
+     * 버전 도입 전에 저장된 미션의 포인트들을 저장 순서대로 반환한다.
+     *
+     * @param missionId 기준 경로가 속한 미션 ID
+     * @return 버전이 없는 기준 좌표 리스트 (저장 순)
+     */
+    List<RoutePoint> findByMissionIdAndRouteVersionIdIsNullOrderByIdAsc(Long missionId);
+
+    /**
+     * 경로 버전의 포인트를 일괄 삭제한다. (교체된 버전 정리용)
+     *
+     * @param routeVersionId 경로 버전 ID
+     * @return 삭제된 포인트 수
+     */
+    @Modifying
+    @Query("DELETE FROM RoutePoint p WHERE p.routeVersionId = :routeVersionId")
+    int deleteByRouteVersionId(@Param("routeVersionId") Long routeVersionId);
+
+    /**
+     * 사용 중인 버전이 생긴 미션의, 버전 도입 전 포인트를 일괄 삭제한다.
+     *
+     * @return 삭제된 포인트 수
+     */
+    @Modifying
+    @Query("DELETE FROM RoutePoint p WHERE p.routeVersionId IS NULL AND p.missionId IN " +
+            "(SELECT v.missionId FROM RouteVersion v WHERE v.active = true)")
+    int deleteSupersededLegacyPoints();
 }
@@ -0,0 +1,50 @@
+package com.mtvs.flykidsbackend.domain.drone.repository;
+
+import com.mtvs.flykidsbackend.domain.drone.entity.RouteVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 기준 경로 버전 레포지토리
+ */
+public interface RouteVersionRepository extends JpaRepository<RouteVersion, Long> {
+
+    /**
+     * 미션의 사용 중인 경로 버전을 조회한다.
+     * - 동시 등록으로 active 버전이 둘 이상 남은 경우에도 가장 최신 버전을 기준으로 삼는다.
+     *
+     * @param missionId 미션 ID
+     * @return 사용 중인 버전 (없으면 empty)
+     */
+    Optional<RouteVersion> findFirstByMissionIdAndActiveTrueOrderByIdDesc(Long missionId);
+
+    /**
+     * 미션의 사용 중인 버전 중 지정 버전보다 오래된(ID가 작은) 버전을 모두 교체 상태로 바꾼다.
+     * - 더 최신 버전은 건드리지 않아, DB 에서도 캐시와 같이 ID가 가장 큰 active 버전이 사용된다.
+     *
+     * @param missionId 미션 ID
+     * @param keepId    새로 활성화할 버전 ID
+     * @param retiredAt 교체 시각
+     * @return 교체된 버전 수
+     */
+    @Modifying
+    @Query("UPDATE RouteVersion v SET v.active = false, v.retiredAt = :retiredAt " +
+            "WHERE v.missionId = :missionId AND v.active = true AND v.id < :keepId")
+    int retireActive(@Param("missionId") Long missionId,
+                     @Param("keepId") Long keepId,
+                     @Param("retiredAt") LocalDateTime retiredAt);
+
+    /**
+     * 유예 시간이 지난 교체 버전 조회 (삭제 대상)
+     *
+     * @param retiredBefore 이 시각 이전에 교체된 버전
+     * @return 삭제 대상 버전 목록
+     */
+    List<RouteVersion> findByActiveFalseAndRetiredAtBefore(LocalDateTime retiredBefore);
+}
@@ -5,41 +5,135 @@ import com.mtvs.flykidsbackend.domain.drone.dto.DronePositionRequestDto;
 import com.mtvs.flykidsbackend.domain.drone.dto.DroneResponse;
 import com.mtvs.flykidsbackend.domain.drone.entity.DronePositionLog;
 import com.mtvs.flykidsbackend.domain.drone.entity.RouteDeviationLog;
-import com.mtvs.flykidsbackend.domain.drone.entity.RoutePoint;
-import com.mtvs.flykidsbackend.domain.drone.repository.DronePositionLogRepository;
-import com.mtvs.flykidsbackend.domain.drone.repository.RouteDeviationLogRepository;
+import com.mtvs.flykidsbackend.domain.drone.model.CompiledRoute;
+import com.mtvs.flykidsbackend.domain.drone.state.ArenaProximityIndex;
+import com.mtvs.flykidsbackend.domain.drone.state.LiveDroneStateStore;
+import com.mtvs.flykidsbackend.domain.mission.course.CoinField;
+import com.mtvs.flykidsbackend.domain.mission.course.ObstacleBvh;
+import com.mtvs.flykidsbackend.domain.mission.course.PhotoTargetSet;
+import com.mtvs.flykidsbackend.domain.mission.service.MissionCourseService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
-import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * 드론 위치 처리 서비스
  * <p>
- * 유니티 클라이언트에서 수신한 드론 좌표 데이터를 DB에 저장하고,
- * 기준 경로와 비교하여 경로 이탈, 고도 이탈, 충돌 여부를 판단한다.
+ * 유니티 클라이언트에서 수신한 드론 좌표 데이터를 기준 경로와 비교하여
+ * 경로 이탈, 고도 이탈, 충돌 여부를 판단한다.
+ * <p>
+ * 처리 단계
+ * 1. 판단 레인(우선): 메모리 데이터(컴파일 경로, 실시간 상태 저장소)만으로 판단 후 즉시 응답
+ *    - 고도/경로 이탈(통로) 판단은 TelemetrySmoother 로 평활화한 좌표로 한다. (한계선 근처 경고 깜빡임 방지)
+ *    - 충돌, 근접, 코인/촬영 판정은 원본 좌표로 한다. (평활화가 급정지, 튕김 같은 순간 움직임을 지우지 않도록)
+ * 2. 저장 레인(후순위): 위치 로그, 이탈 로그를 TelemetryWriteLane 큐에 넣어 백그라운드 저장 (과부하 시 shed)
  */
 @Service
 @RequiredArgsConstructor
 public class DronePositionService {
 
-    private final DronePositionLogRepository dronePositionLogRepository;
     private final RoutePointService routePointService;
-    private final RouteDeviationLogRepository routeDeviationLogRepository;
+    private final MissionCourseService missionCourseService;
+    private final DroneRegistryService droneRegistryService;
+    private final LiveDroneStateStore liveDroneStateStore;
+    private final ArenaProximityIndex arenaProximityIndex;
+    private final TelemetryIngestGate telemetryIngestGate;
+    private final TelemetryRateAdvisor telemetryRateAdvisor;
+    private final RouteProgressTracker routeProgressTracker;
+    private final SessionExpiryService sessionExpiryService;
+    private final LookaheadEvaluator lookaheadEvaluator;
+    private final TelemetrySmoother telemetrySmoother;
+    private final TelemetryWriteLane telemetryWriteLane;
+    private final Scheduler telemetryScheduler;
+
+    private static final float DRONE_RADIUS = 0.25f; // 장애물 충돌 판정용 드론 반지름(m)
+
+    private static final float SUDDEN_STOP_MIN_SPEED = 1.0f; // 멈춤을 충돌로 추정할 직전 최소 속도(m/s), 호버링과 구분
+
+    private static final long MIN_RAW_DT_MILLIS = 50L; // 원본 속도 계산 시 샘플 간격 하한(ms), 몰려 도착한 프레임 보정
+
+    private static final Duration EVALUATION_BUDGET = Duration.ofMillis(100); // 판단 레인 시간 예산
 
-    private static final double ALLOWED_DISTANCE = 2.5; // 경로 이탈 허용 수평 거리(m)
-    private static final double MIN_ALTITUDE = 0.5; // 최소 고도(m)
-    private static final double MAX_ALTITUDE = 3.0; // 최대 고도(m)
+    private static final int FRAME_PENDING = 0; // 판단 시작 전
+    private static final int FRAME_RUNNING = 1; // 판단 중 (게이트는 판단이 끝날 때 빠져나감)
+    private static final int FRAME_SKIPPED = 2; // 시작 전에 응답이 끝나 판단하지 않음
+
+    /**
+     * 드론 위치 처리를 텔레메트리 전용 스케줄러에서 비동기로 수행한다.
+     * - 판단은 서블릿 스레드 대신 telemetryScheduler 에서 실행
+     * - 컨트롤러는 Mono 를 반환하여 요청 스레드를 즉시 반납한다.
+     * - 종료(드레인) 중에는 신규 프레임을 받지 않고 UNAVAILABLE 을 반환한다.
+     * - 판단이 시간 예산(EVALUATION_BUDGET)을 넘기면 ERROR 대신 주의(PRE_WARNING) 응답을 보내고 초과 수를 센다.
+     *   (판단 결과를 모르는 채로 정상처럼 보이거나 오류로 끊기지 않도록 보수적으로 주의를 알린다)
+     *   응답이 먼저 나가도 판단은 계속 실행되므로, 수신 게이트는 판단이 실제로 끝난 뒤에 빠져나간다.
+     *   (시간 초과 시점에 아직 시작하지 않은 판단은 건너뛰고 그 자리에서 게이트를 빠져나간다)
+     *
+     * @param requestDto 드론 위치 요청 DTO
+     * @param userId     요청 사용자 ID (세션 만료 시 결과 저장에 사용, 없으면 null)
+     * @return DroneResponse 를 발행하는 Mono
+     */
+    public Mono<DroneResponse> savePositionAsync(DronePositionRequestDto requestDto, Long userId) {
+        if (!telemetryIngestGate.tryEnter()) {
+            return Mono.just(new DroneResponse(
+                    "UNAVAILABLE",
+                    "서버가 종료 중입니다. 잠시 후 다시 시도해주세요.",
+                    null
+            ));
+        }
+
+        long receivedAt = System.nanoTime();
+        AtomicInteger phase = new AtomicInteger(FRAME_PENDING);
+        return Mono.fromCallable(() -> {
+                    if (!phase.compareAndSet(FRAME_PENDING, FRAME_RUNNING)) {
+                        return null; // 시간 초과로 이미 응답한 프레임
+                    }
+                    try {
+                        return savePosition(requestDto, userId);
+                    } finally {
+                        telemetryIngestGate.exit();
+                    }
+                })
+                .subscribeOn(telemetryScheduler)
+                .timeout(EVALUATION_BUDGET, Mono.fromSupplier(this::evaluationTimeoutResponse))
+                .doOnNext(response -> telemetryRateAdvisor.recordIngestLatency(System.nanoTime() - receivedAt))
+                .doFinally(signal -> {
+                    if (phase.compareAndSet(FRAME_PENDING, FRAME_SKIPPED)) {
+                        telemetryIngestGate.exit();
+                    }
+                })
+                .onErrorResume(ex -> Mono.just(new DroneResponse(
+                        "ERROR",
+                        "드론 위치 저장 중 오류 발생: " + ex.getMessage(),
+                        null
+                )));
+    }
+
+    /**
+     * 판단 시간 예산을 넘긴 프레임의 응답 (초과 수 집계, 헬스 API 로 조회)
+     */
+    private DroneResponse evaluationTimeoutResponse() {
+        telemetryRateAdvisor.recordEvaluationTimeout();
+        return new DroneResponse(
+                "PRE_WARNING",
+                "주의: 위치 판단이 지연되고 있습니다. 속도를 줄이고 조심해서 비행하세요.",
+                null
+        );
+    }
 
     /**
-     * 드론 위치 데이터를 저장하고 경로 이탈, 고도 이탈, 충돌 여부를 판단한다.
+     * 드론 위치의 경로 이탈, 고도 이탈, 충돌 여부를 판단하고 로그 저장을 예약한다.
+     * - 판단에는 DB 접근이 없으며(경로는 캐시 사용), 로그 저장은 저장 레인에서 비동기로 처리된다.
      *
      * @param requestDto 드론 위치 요청 DTO
-     * @return DroneResponse(status, message, audioUrl)
+     * @param userId     요청 사용자 ID (없으면 null)
+     * @return DroneResponse(status, message, audioUrl, nextIntervalMs, 진행도)
      */
-    public DroneResponse savePosition(DronePositionRequestDto requestDto) {
+    public DroneResponse savePosition(DronePositionRequestDto requestDto, Long userId) {
 
         try {
             // 요청 값 유효성 검사
@@ -49,139 +143,258 @@ public class DronePositionService {
                 throw new IllegalArgumentException("유효하지 않은 드론 위치 정보입니다.");
             }
 
-            // 위치 로그 생성 & 저장
+            // 드론 ID → 정수 키 변환 (사전 캐시)
+            int droneKey = droneRegistryService.resolveKey(requestDto.getDroneId());
+
+            // 위치 로그 생성
             DronePositionLog log = DronePositionLog.builder()
-                    .droneId(requestDto.getDroneId())
+                    .droneKey(droneKey)
                     .missionId(requestDto.getMissionId())
-                    .x(requestDto.getX())
-                    .y(requestDto.getY())
-                    .z(requestDto.getZ())
-                    .rotationY(requestDto.getRotationY())
+                    .x((float) requestDto.getX())
+                    .y((float) requestDto.getY())
+                    .z((float) requestDto.getZ())
+                    .rotationY((float) requestDto.getRotationY())
                     .build();
 
-            dronePositionLogRepository.save(log);
-
-            // 기준 경로 조회
-            List<RoutePoint> routePoints =
-                    routePointService.getRouteByMissionId(requestDto.getMissionId());
+            // 기준 경로 조회 (컴파일 캐시)
+            CompiledRoute route = routePointService.getCompiledRoute(requestDto.getMissionId());
 
-            if (routePoints == null || routePoints.isEmpty()) {
+            if (route.isEmpty()) {
                 throw new IllegalArgumentException("해당 미션의 기준 경로가 존재하지 않습니다.");
             }
 
-            // 충돌 추정 판단
-            Optional<DronePositionLog> optPrev =
-                    dronePositionLogRepository
-                            .findTopByDroneIdAndLoggedAtBeforeOrderByLoggedAtDesc(
-                                    requestDto.getDroneId(), log.getLoggedAt());
+            // 장애물 BVH 조회 (컴파일 캐시, 장애물이 없는 미션은 빈 BVH)
+            ObstacleBvh obstacles = missionCourseService.getObstacleBvh(requestDto.getMissionId());
 
-            if (optPrev.isPresent()) {
-                DronePositionLog prev = optPrev.get();
+            // 코인 배치 조회 (컴파일 캐시, 코인이 없는 미션은 빈 배치)
+            CoinField coins = missionCourseService.getCoinField(requestDto.getMissionId());
 
-                double deltaY        = Math.abs(log.getY() - prev.getY());
-                double deltaRot      = Math.abs(log.getRotationY() - prev.getRotationY());
-                double deltaDistance = calculateDistance(log, prev);
+            // 촬영 목표 조회 (컴파일 캐시, 목표가 없는 미션은 빈 집합)
+            PhotoTargetSet photoTargets = missionCourseService.getPhotoTargetSet(requestDto.getMissionId());
+
+            // 실시간 상태 저장소(off-heap)에서 직전 샘플을 읽어 판단하고, 현재 샘플로 갱신
+            DroneResponse response;
+            ReentrantLock droneLock = liveDroneStateStore.lockFor(droneKey);
+            droneLock.lock();
+            try {
+                int slot = liveDroneStateStore.acquire(droneKey);
+                if (liveDroneStateStore.getMissionId(slot) != log.getMissionId()) {
+                    arenaProximityIndex.remove(droneKey, slot);
+                    liveDroneStateStore.resetSession(slot, log.getMissionId(), log.getLoggedAt());
+                    liveDroneStateStore.setUserId(slot, userId != null ? userId : 0L);
+                    sessionExpiryService.onSessionStarted(slot);
+                }
 
-                if (deltaY > 0.7 || deltaDistance < 0.1 || deltaRot > 45.0) {
-                    saveDeviationLog(log);
+                // 제한 시간 초과로 실패 처리된 세션: 새 세션을 열지 않고 종료 상태만 알린다.
+                if (liveDroneStateStore.hasFlag(slot, LiveDroneStateStore.FLAG_EXPIRED)) {
+                    liveDroneStateStore.touch(slot, log.getLoggedAt());
                     return new DroneResponse(
-                            "COLLISION",
-                            "경고: 충돌이 감지되었습니다.",
-                            AudioFilePath.FEEDBACK_COLLISION
+                            "EXPIRED",
+                            "제한 시간이 지나 미션이 종료되었습니다.",
+                            null
                     );
                 }
+
+                // 통로(고도/경로) 판단은 평활화된 좌표로, 충돌 추정은 원본 좌표로
+                float rawSpeed = rawSpeed(slot, log);
+                DronePositionLog filtered = telemetrySmoother.filter(slot, log);
+                routeProgressTracker.advance(slot, route, filtered.getX(), filtered.getY(), filtered.getZ(),
+                        filtered.getLoggedAt());
+                telemetrySmoother.countDeviations(slot, route, log, filtered);
+                response = evaluate(slot, log, filtered, route, obstacles, coins, photoTargets);
+                routeProgressTracker.fill(slot, route, response);
+                liveDroneStateStore.recordSample(slot, filtered.getX(), filtered.getY(), filtered.getZ(),
+                        filtered.getRotationY(), filtered.getLoggedAt());
+                liveDroneStateStore.recordRawSample(slot, log.getX(), log.getY(), log.getZ(), rawSpeed);
+                response.setNextIntervalMs(telemetryRateAdvisor.adviseInterval(response.getStatus(), slot));
+            } finally {
+                droneLock.unlock();
             }
 
-            // 고도 이탈 체크
-            double y = log.getY();
-            if (y < MIN_ALTITUDE) {
-                saveDeviationLog(log);
-                return new DroneResponse(
-                        "ALTITUDE_LOW",
-                        "경고: 고도가 너무 낮습니다.",
-                        AudioFilePath.FEEDBACK_ALTITUDE_LOW
-                );
-            } else if (y > MAX_ALTITUDE) {
-                saveDeviationLog(log);
+            // 위치 로그 저장은 저장 레인으로 위임 (원본 좌표 그대로 보관)
+            telemetryWriteLane.submitPositionLog(log);
+            return response;
+
+        } catch (Exception ex) {
+            return new DroneResponse(
+                    "ERROR",
+                    "드론 위치 저장 중 오류 발생: " + ex.getMessage(),
+                    null
+            );
+        }
+    }
+
+    /**
+     * 충돌, 드론 간 근접, 고도 이탈, 경로 이탈, 예측 경고 여부를 순서대로 판단한다.
+     * - 직전 샘플은 DB가 아닌 실시간 상태 저장소의 레코드에서 읽는다.
+     * - 경고 발생 시 이탈 로그 저장을 예약하고 레코드의 카운터를 증가시킨다.
+     * - 고도/경로 이탈 기준은 RouteProgressTracker 가 갱신한 현재 구간의 통로 값을 사용한다.
+     * - 장애물 형상이 등록된 미션은 BVH 판정 결과를 충돌의 기준으로 삼고,
+     *   형상이 없는 미션만 직전 원본 샘플 대비 움직임으로 충돌을 추정한다.
+     * - 충돌, 근접, 코인/촬영 판정은 원본 좌표로, 고도/경로 이탈과 예측 경고는 평활화 좌표로 판단한다.
+     *
+     * @param slot         실시간 상태 저장소 슬롯
+     * @param raw          현재 위치 로그 (원본 좌표)
+     * @param log          현재 위치 로그 (평활화된 좌표)
+     * @param route        컴파일된 기준 경로
+     * @param obstacles    미션 장애물 BVH
+     * @param coins        미션 코인 배치
+     * @param photoTargets 미션 촬영 목표
+     * @return 판단 결과 응답
+     */
+    private DroneResponse evaluate(int slot, DronePositionLog raw, DronePositionLog log, CompiledRoute route,
+                                   ObstacleBvh obstacles, CoinField coins, PhotoTargetSet photoTargets) {
+
+        // 아레나 공간 해시 갱신 및 근접 드론 탐색 (판단 결과와 무관하게 매 샘플 갱신)
+        int nearDrone = arenaProximityIndex.update(raw.getDroneKey(), slot, raw.getMissionId(),
+                raw.getX(), raw.getY(), raw.getZ(), raw.getLoggedAt());
+
+        // 코인 수집 판정 (판단 결과와 무관하게 매 샘플, 세션 비트셋에 기록)
+        coins.forEachPickup(raw.getX(), raw.getY(), raw.getZ(),
+                coinIndex -> liveDroneStateStore.markCoinCollected(slot, coinIndex));
+
+        // 사진 촬영 목표 판정 (위치 + 기수, 세션 비트셋에 기록)
+        photoTargets.forEachCapture(raw.getX(), raw.getY(), raw.getZ(), raw.getRotationY(),
+                targetIndex -> liveDroneStateStore.markPhotoCaptured(slot, targetIndex));
+
+        // 장애물 충돌 판정 (BVH) - 장애물 안에 머무는 동안에는 진입 시 한 번만 카운트
+        if (!obstacles.isEmpty()) {
+            boolean hit = obstacles.findHit(raw.getX(), raw.getY(), raw.getZ(), DRONE_RADIUS) >= 0;
+            boolean wasInside = liveDroneStateStore.hasFlag(slot, LiveDroneStateStore.FLAG_IN_OBSTACLE);
+            liveDroneStateStore.setFlag(slot, LiveDroneStateStore.FLAG_IN_OBSTACLE, hit);
+            if (hit) {
+                if (!wasInside) {
+                    saveDeviationLog(raw);
+                    liveDroneStateStore.incrementCollisionCount(slot);
+                }
                 return new DroneResponse(
-                        "ALTITUDE_HIGH",
-                        "경고: 고도가 너무 높습니다.",
-                        AudioFilePath.FEEDBACK_ALTITUDE_HIGH
+                        "COLLISION",
+                        "경고: 장애물과 충돌했습니다.",
+                        AudioFilePath.FEEDBACK_COLLISION
                 );
             }
+        } else if (liveDroneStateStore.hasFlag(slot, LiveDroneStateStore.FLAG_HAS_SAMPLE)) {
+            // 충돌 추정 판단 (장애물 형상이 없는 미션) - 원본 좌표를 직전 원본 샘플과 비교
+            double deltaY        = Math.abs(raw.getY() - liveDroneStateStore.getRawY(slot));
+            double deltaRot      = Math.abs(raw.getRotationY() - liveDroneStateStore.getRotationY(slot));
+            double deltaDistance = calculateDistance(raw,
+                    liveDroneStateStore.getRawX(slot), liveDroneStateStore.getRawY(slot), liveDroneStateStore.getRawZ(slot));
 
-            // 경로 이탈 체크
-            if (isOutOfRoute(log, routePoints)) {
-                saveDeviationLog(log);
+            // 거의 움직이지 않은 샘플은 빠르게 날던 중일 때만 충돌(급정지)로 본다. (제자리 호버링은 정상)
+            boolean suddenStop = deltaDistance < 0.1
+                    && liveDroneStateStore.getRawSpeed(slot) >= SUDDEN_STOP_MIN_SPEED;
+
+            if (deltaY > 0.7 || suddenStop || deltaRot > 45.0) {
+                saveDeviationLog(raw);
+                liveDroneStateStore.incrementCollisionCount(slot);
                 return new DroneResponse(
-                        "OUT_OF_BOUNDS",
-                        "경고: 드론이 기준 경로를 이탈했습니다.",
-                        AudioFilePath.FEEDBACK_DEVIATION
+                        "COLLISION",
+                        "경고: 충돌이 감지되었습니다.",
+                        AudioFilePath.FEEDBACK_COLLISION
                 );
             }
+        }
 
-            // 정상 처리
+        // 같은 아레나(미션)의 다른 드론과 근접 여부
+        if (nearDrone >= 0) {
             return new DroneResponse(
-                    "OK",
-                    "드론 위치가 정상적으로 저장되었습니다.",
-                    null
+                    "NEAR_MISS",
+                    "경고: 다른 드론과 너무 가깝습니다.",
+                    AudioFilePath.FEEDBACK_COLLISION
             );
+        }
 
-        } catch (Exception ex) {
+        // 현재 진행 구간의 통로(허용 수평 거리 + 고도 범위) - 구간 인덱스 하나로 조회
+        // 통로 밖이면 이탈 판단 전에 전체 구간을 확인하고(드론별 재탐색 간격 제한), 좌표를 포함하는 구간이 있으면 추적 구간을 옮긴다.
+        int segment = routeProgressTracker.corridorSegment(slot, route, log.getX(), log.getY(), log.getZ(),
+                log.getLoggedAt());
+
+        // 고도 이탈 체크
+        double y = log.getY();
+        if (y < route.minAltitude(segment)) {
+            saveDeviationLog(log);
+            liveDroneStateStore.incrementDeviationCount(slot);
             return new DroneResponse(
-                    "ERROR",
-                    "드론 위치 저장 중 오류 발생: " + ex.getMessage(),
-                    null
+                    "ALTITUDE_LOW",
+                    "경고: 고도가 너무 낮습니다.",
+                    AudioFilePath.FEEDBACK_ALTITUDE_LOW
+            );
+        } else if (y > route.maxAltitude(segment)) {
+            saveDeviationLog(log);
+            liveDroneStateStore.incrementDeviationCount(slot);
+            return new DroneResponse(
+                    "ALTITUDE_HIGH",
+                    "경고: 고도가 너무 높습니다.",
+                    AudioFilePath.FEEDBACK_ALTITUDE_HIGH
             );
         }
+
+        // 경로 이탈 체크
+        float tolerance = route.horizontalTolerance(segment);
+        boolean outOfRoute = route.horizontalDistanceSq(segment, log.getX(), log.getZ()) > tolerance * tolerance;
+        liveDroneStateStore.setFlag(slot, LiveDroneStateStore.FLAG_DEVIATING, outOfRoute);
+        if (outOfRoute) {
+            saveDeviationLog(log);
+            liveDroneStateStore.incrementDeviationCount(slot);
+            return new DroneResponse(
+                    "OUT_OF_BOUNDS",
+                    "경고: 드론이 기준 경로를 이탈했습니다.",
+                    AudioFilePath.FEEDBACK_DEVIATION
+            );
+        }
+
+        // 예측 경고: 아직 한계 안이지만 현재 속도로 곧 벗어날 경우
+        DroneResponse preWarning = lookaheadEvaluator.check(slot, log, route);
+        if (preWarning != null) {
+            return preWarning;
+        }
+
+        // 정상 처리
+        return new DroneResponse(
+                "OK",
+                "드론 위치가 정상적으로 저장되었습니다.",
+                null
+        );
     }
 
     /**
-     * 이탈/충돌 로그 저장
+     * 이탈/충돌 로그 저장 예약 (저장 레인)
      */
     private void saveDeviationLog(DronePositionLog log) {
         RouteDeviationLog deviationLog = RouteDeviationLog.builder()
                 .missionId(log.getMissionId())
-                .droneId(log.getDroneId())
+                .droneKey(log.getDroneKey())
                 .x(log.getX())
                 .y(log.getY())
                 .z(log.getZ())
                 .rotationY(log.getRotationY())
-                .timestamp(LocalDateTime.now())
+                .timestamp(log.getLoggedAt())
                 .build();
 
-        routeDeviationLogRepository.save(deviationLog);
+        telemetryWriteLane.submitDeviationLog(deviationLog);
     }
 
     /**
-     * 기준 경로의 한 점과 드론 위치 간 거리 계산
+     * 직전 원본 샘플 대비 현재 원본 샘플의 이동 속도(m/s)를 계산한다. (현재 샘플 기록 전에 호출)
+     * - 첫 샘플은 0
      */
-    private double calculateDistance(DronePositionLog log, RoutePoint route) {
-        double dx = log.getX() - route.getX();
-        double dy = log.getY() - route.getY();
-        double dz = log.getZ() - route.getZ();
-        return Math.sqrt(dx * dx + dy * dy + dz * dz);
+    private float rawSpeed(int slot, DronePositionLog raw) {
+        if (!liveDroneStateStore.hasFlag(slot, LiveDroneStateStore.FLAG_HAS_SAMPLE)) {
+            return 0f;
+        }
+        long dtMillis = Math.max(raw.getLoggedAt() - liveDroneStateStore.getLastSampleAt(slot), MIN_RAW_DT_MILLIS);
+        double distance = calculateDistance(raw,
+                liveDroneStateStore.getRawX(slot), liveDroneStateStore.getRawY(slot), liveDroneStateStore.getRawZ(slot));
+        return (float) (distance * 1000.0 / dtMillis);
     }
 
     /**
-     * 두 위치 로그 간 거리 계산
+     * 위치 로그와 임의 좌표 간 거리 계산
      */
-    private double calculateDistance(DronePositionLog a, DronePositionLog b) {
-        double dx = a.getX() - b.getX();
-        double dy = a.getY() - b.getY();
-        double dz = a.getZ() - b.getZ();
+    private double calculateDistance(DronePositionLog log, double x, double y, double z) {
+        double dx = log.getX() - x;
+        double dy = log.getY() - y;
+        double dz = log.getZ() - z;
         return Math.sqrt(dx * dx + dy * dy + dz * dz);
     }
-
-    /**
-     * 기준 경로로부터 일정 거리 이상 이탈했는지 판단
-     */
-    private boolean isOutOfRoute(DronePositionLog log, List<RoutePoint> routePoints) {
-        double minDistance = Double.MAX_VALUE;
-        for (RoutePoint route : routePoints) {
-            double distance = calculateDistance(log, route);
-            minDistance = Math.min(minDistance, distance);
-        }
-        return minDistance > ALLOWED_DISTANCE;
-    }
 }
@@ -0,0 +1,122 @@
+package com.mtvs.flykidsbackend.domain.drone.service;
+
+import com.mtvs.flykidsbackend.domain.drone.entity.DroneRegistry;
+import com.mtvs.flykidsbackend.domain.drone.repository.DroneRegistryRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 드론 식별자 사전 서비스
+ *
+ * 문자열 드론 ID를 정수 키로 변환하고, 결과를 메모리에 캐시한다.
+ * - 정방향(ID → 키): ConcurrentHashMap
+ * - 역방향(키 → ID): 키를 인덱스로 사용하는 배열 (키가 작은 연속 정수이므로 맵이 필요 없음)
+ * 최초 등장한 드론만 DB에 등록되며, 이후 조회는 DB 접근 없이 처리된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DroneRegistryService {
+
+    private final DroneRegistryRepository droneRegistryRepository;
+
+    private final ConcurrentHashMap<String, Integer> keyByDroneId = new ConcurrentHashMap<>();
+    private volatile String[] droneIdByKey = new String[256];
+
+    /**
+     * 애플리케이션 시작 시 등록된 드론 사전을 모두 캐시에 적재한다.
+     */
+    @PostConstruct
+    public void loadRegistry() {
+        for (DroneRegistry entry : droneRegistryRepository.findAll()) {
+            cache(entry.getDroneId(), entry.getId());
+        }
+    }
+
+    /**
+     * 문자열 드론 ID에 해당하는 정수 키를 반환한다.
+     * 처음 보는 드론이면 사전에 등록한 뒤 키를 반환한다.
+     *
+     * @param droneId 클라이언트 드론 식별자
+     * @return 드론 정수 키
+     */
+    public int resolveKey(String droneId) {
+        Integer key = keyByDroneId.get(droneId);
+        if (key != null) {
+            return key;
+        }
+        return register(droneId);
+    }
+
+    /**
+     * 이미 등록된 드론의 정수 키를 조회한다. (신규 등록하지 않음)
+     *
+     * @param droneId 클라이언트 드론 식별자
+     * @return 드론 정수 키 (등록되지 않은 드론이면 -1)
+     */
+    public int findKey(String droneId) {
+        Integer key = droneId == null ? null : keyByDroneId.get(droneId);
+        return key != null ? key : -1;
+    }
+
+    /**
+     * 정수 키에 해당하는 문자열 드론 ID를 반환한다.
+     *
+     * @param droneKey 드론 정수 키
+     * @return 드론 식별자 (등록되지 않은 키면 null)
+     */
+    public String resolveDroneId(int droneKey) {
+        String[] table = droneIdByKey;
+        if (droneKey >= 0 && droneKey < table.length && table[droneKey] != null) {
+            return table[droneKey];
+        }
+        return droneRegistryRepository.findById(droneKey)
+                .map(entry -> {
+                    cache(entry.getDroneId(), entry.getId());
+                    return entry.getDroneId();
+                })
+                .orElse(null);
+    }
+
+    /**
+     * 신규 드론 등록
+     * - 다른 인스턴스가 먼저 등록한 경우(유니크 제약 위반) 기존 키를 다시 조회한다.
+     */
+    private synchronized int register(String droneId) {
+        Integer cached = keyByDroneId.get(droneId);
+        if (cached != null) {
+            return cached;
+        }
+
+        DroneRegistry entry = droneRegistryRepository.findByDroneId(droneId)
+                .orElseGet(() -> {
+                    try {
+                        return droneRegistryRepository.save(
+                                DroneRegistry.builder().droneId(droneId).build());
+                    } catch (DataIntegrityViolationException e) {
+                        return droneRegistryRepository.findByDroneId(droneId)
+                                .orElseThrow(() -> e);
+                    }
+                });
+
+        cache(entry.getDroneId(), entry.getId());
+        return entry.getId();
+    }
+
+    /**
+     * 정방향/역방향 캐시에 매핑을 기록한다.
+     */
+    private synchronized void cache(String droneId, int droneKey) {
+        String[] table = droneIdByKey;
+        if (droneKey >= table.length) {
+            table = Arrays.copyOf(table, Math.max(table.length * 2, droneKey + 1));
+        }
+        table[droneKey] = droneId;
+        droneIdByKey = table;
+        keyByDroneId.put(droneId, droneKey);
+    }
+}
@@ -0,0 +1,128 @@
+package com.mtvs.flykidsbackend.domain.drone.service;
+
+import com.mtvs.flykidsbackend.domain.drone.state.ArenaProximityIndex;
+import com.mtvs.flykidsbackend.domain.drone.state.LiveDroneStateStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 드론 비행 세션 조회 서비스
+ *
+ * 텔레메트리 처리 중 실시간 상태 저장소에 누적된 세션 정보를
+ * 미션 완료 처리 등 다른 도메인에서 DB 조회 없이 읽을 수 있도록 제공한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DroneSessionService {
+
+    private final DroneRegistryService droneRegistryService;
+    private final LiveDroneStateStore liveDroneStateStore;
+    private final ArenaProximityIndex arenaProximityIndex;
+    private final TelemetrySmoother telemetrySmoother;
+
+    /**
+     * 드론의 현재 세션에서 서버가 판정한 코인 수집 개수를 조회한다.
+     *
+     * @param droneId   클라이언트 드론 식별자
+     * @param missionId 미션 ID
+     * @return 수집한 코인 수 (해당 미션의 진행 중 세션이 없으면 -1)
+     */
+    public int getCollectedCoinCount(String droneId, Long missionId) {
+        return readSession(droneId, missionId, liveDroneStateStore::getCollectedCoinCount);
+    }
+
+    /**
+     * 드론의 현재 세션에서 서버가 판정한 사진 촬영 목표 달성 개수를 조회한다.
+     *
+     * @param droneId   클라이언트 드론 식별자
+     * @param missionId 미션 ID
+     * @return 촬영한 목표 수 (해당 미션의 진행 중 세션이 없으면 -1)
+     */
+    public int getCapturedPhotoCount(String droneId, Long missionId) {
+        return readSession(droneId, missionId, liveDroneStateStore::getCapturedPhotoCount);
+    }
+
+    /**
+     * 드론의 해당 미션 세션을 종료하고 레코드를 해제한다. (미션 완료/중단 시)
+     * - 등록된 만료 타이머는 세션이 사라졌으므로 만료 시점에 무시된다.
+     *
+     * @param droneId   클라이언트 드론 식별자
+     * @param missionId 미션 ID
+     */
+    public void endSession(String droneId, Long missionId) {
+        int droneKey = droneRegistryService.findKey(droneId);
+        if (droneKey < 0 || missionId == null) {
+            return;
+        }
+
+        ReentrantLock droneLock = liveDroneStateStore.lockFor(droneKey);
+        droneLock.lock();
+        try {
+            int slot = liveDroneStateStore.find(droneKey);
+            if (slot >= 0 && liveDroneStateStore.getMissionId(slot) == missionId) {
+                release(droneKey, slot);
+            }
+        } finally {
+            droneLock.unlock();
+        }
+    }
+
+    /**
+     * 드론의 해당 미션 세션이 제한 시간 초과로 이미 실패 처리되었는지 확인한다.
+     * - 만료 표시는 클라이언트가 완료/중단을 호출하거나 텔레메트리가 끊길 때까지 유지된다.
+     *
+     * @param droneId   클라이언트 드론 식별자
+     * @param missionId 미션 ID
+     * @return 만료 표시가 남아 있으면 true
+     */
+    public boolean isExpired(String droneId, Long missionId) {
+        return readSession(droneId, missionId,
+                slot -> liveDroneStateStore.hasFlag(slot, LiveDroneStateStore.FLAG_EXPIRED) ? 1 : 0) == 1;
+    }
+
+    /**
+     * 세션에 만료 표시를 남긴다. (레코드는 유지, 호출자가 lockFor(droneKey) 를 잡고 있어야 한다)
+     * - 같은 미션 프레임이 새 세션을 열지 않도록 미션 ID와 세션 시작 시각을 그대로 둔다.
+     * - 아레나에서는 빼서 다른 드론의 근접 판정에 남지 않게 한다.
+     */
+    void markExpired(int droneKey, int slot) {
+        liveDroneStateStore.setFlag(slot, LiveDroneStateStore.FLAG_EXPIRED, true);
+        arenaProximityIndex.remove(droneKey, slot);
+    }
+
+    /**
+     * 세션 레코드 해제 (호출자가 lockFor(droneKey) 를 잡고 있어야 한다)
+     */
+    void release(int droneKey, int slot) {
+        telemetrySmoother.reportSession(slot);
+        arenaProximityIndex.remove(droneKey, slot);
+        liveDroneStateStore.release(droneKey);
+    }
+
+    /**
+     * 드론의 해당 미션 세션 레코드에서 값을 읽는다.
+     *
+     * @return 읽은 값 (세션이 없거나 다른 미션 세션이면 -1)
+     */
+    private int readSession(String droneId, Long missionId, IntUnaryOperator reader) {
+        int droneKey = droneRegistryService.findKey(droneId);
+        if (droneKey < 0 || missionId == null) {
+            return -1;
+        }
+
+        ReentrantLock droneLock = liveDroneStateStore.lockFor(droneKey);
+        droneLock.lock();
+        try {
+            int slot = liveDroneStateStore.find(droneKey);
+            if (slot < 0 || liveDroneStateStore.getMissionId(slot) != missionId) {
+                return -1;
+            }
+            return reader.applyAsInt(slot);
+        } finally {
+            droneLock.unlock();
+        }
+    }
+}
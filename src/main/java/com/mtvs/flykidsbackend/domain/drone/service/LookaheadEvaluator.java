@@ -0,0 +1,96 @@
+package com.mtvs.flykidsbackend.domain.drone.service;
+
+import com.mtvs.flykidsbackend.common.AudioFilePath;
+import com.mtvs.flykidsbackend.domain.drone.dto.DroneResponse;
+import com.mtvs.flykidsbackend.domain.drone.entity.DronePositionLog;
+import com.mtvs.flykidsbackend.domain.drone.model.CompiledRoute;
+import com.mtvs.flykidsbackend.domain.drone.state.LiveDroneStateStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예측(lookahead) 경고 판단기
+ *
+ * 현재 속도를 LOOKAHEAD_MILLIS 만큼 앞으로 투영해, 아직 한계를 넘지 않았지만
+ * 곧 고도 범위나 경로 허용 범위를 벗어날 드론에 PRE_WARNING 을 미리 보낸다.
+ * - 네트워크 왕복 지연만큼 음성 경고가 늦게 도착하는 문제를 가리기 위함
+ * - 속도는 평활화 필터(TelemetrySmoother)가 레코드에 기록한 추정 속도를 쓴다.
+ *
+ * 같은 드론에 대한 호출은 LiveDroneStateStore.lockFor(droneKey) 안에서 이뤄져야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LookaheadEvaluator {
+
+    /** 예측 시간 (클라이언트 왕복 지연 + 음성 재생 준비 시간 정도) */
+    private static final long LOOKAHEAD_MILLIS = 300L;
+
+    /** 이보다 느리면 예측하지 않는다. (m/s, 정지/호버링 중 떨림 무시) */
+    private static final float MIN_SPEED = 0.3f;
+
+    /** 샘플 간격이 이보다 짧으면 투영하지 않는다. (ms, 몰려 도착한 프레임의 속도 튐 무시) */
+    private static final long MIN_SAMPLE_GAP_MILLIS = 50L;
+
+    /** 샘플 간격이 이보다 길면 속도를 신뢰하지 않는다. (ms) */
+    private static final long MAX_SAMPLE_GAP_MILLIS = 1_000L;
+
+    private final LiveDroneStateStore liveDroneStateStore;
+
+    /**
+     * 투영 위치가 투영 지점 구간의 통로(고도 범위, 허용 수평 거리)를 벗어나면 PRE_WARNING 응답을 만든다.
+     *
+     * @param slot  실시간 상태 저장소 슬롯 (현재 샘플 기록 전, 필터 속도 갱신 후)
+     * @param log   현재 위치 로그 (평활화된 좌표)
+     * @param route 컴파일된 기준 경로
+     * @return PRE_WARNING 응답 (예측상 문제가 없으면 null)
+     */
+    public DroneResponse check(int slot, DronePositionLog log, CompiledRoute route) {
+        if (!liveDroneStateStore.hasFlag(slot, LiveDroneStateStore.FLAG_HAS_SAMPLE)) {
+            return null;
+        }
+        long dtMillis = log.getLoggedAt() - liveDroneStateStore.getLastSampleAt(slot);
+        if (dtMillis < MIN_SAMPLE_GAP_MILLIS || dtMillis > MAX_SAMPLE_GAP_MILLIS) {
+            return null;
+        }
+
+        float vx = liveDroneStateStore.getVx(slot);
+        float vy = liveDroneStateStore.getVy(slot);
+        float vz = liveDroneStateStore.getVz(slot);
+        if (vx * vx + vy * vy + vz * vz < MIN_SPEED * MIN_SPEED) {
+            return null;
+        }
+
+        float horizon = LOOKAHEAD_MILLIS / 1000f;
+        float px = log.getX() + vx * horizon;
+        float py = log.getY() + vy * horizon;
+        float pz = log.getZ() + vz * horizon;
+
+        // 투영 위치 주변 구간만 탐색 (현재 진행 구간 기준)
+        int segment = route.locateSegment(liveDroneStateStore.getRouteSegment(slot), px, py, pz);
+
+        if (py < route.minAltitude(segment)) {
+            return new DroneResponse(
+                    "PRE_WARNING",
+                    "주의: 곧 고도가 너무 낮아집니다.",
+                    AudioFilePath.FEEDBACK_ALTITUDE_LOW
+            );
+        }
+        if (py > route.maxAltitude(segment)) {
+            return new DroneResponse(
+                    "PRE_WARNING",
+                    "주의: 곧 고도가 너무 높아집니다.",
+                    AudioFilePath.FEEDBACK_ALTITUDE_HIGH
+            );
+        }
+
+        float tolerance = route.horizontalTolerance(segment);
+        if (route.horizontalDistanceSq(segment, px, pz) > tolerance * tolerance) {
+            return new DroneResponse(
+                    "PRE_WARNING",
+                    "주의: 곧 기준 경로를 벗어납니다.",
+                    AudioFilePath.FEEDBACK_DEVIATION
+            );
+        }
+        return null;
+    }
+}
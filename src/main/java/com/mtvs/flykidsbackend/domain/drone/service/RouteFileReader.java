@@ -0,0 +1,377 @@
+package com.mtvs.flykidsbackend.domain.drone.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mtvs.flykidsbackend.domain.drone.dto.RoutePointRequestDto;
+import com.mtvs.flykidsbackend.domain.drone.model.RouteFileFormat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+
+/**
+ * 기준 경로 파일 스트리밍 파서
+ *
+ * 파일 전체를 메모리에 올리지 않고 포인트를 하나씩 읽어 바로 handler 로 넘긴다.
+ * 포인트 DTO 하나를 재사용하므로 경로 길이와 무관하게 사용 메모리가 일정하다.
+ *
+ * <CSV>
+ * - 한 줄에 포인트 하나: x,y,z[,gate[,horizontalTolerance,minAltitude,maxAltitude]]
+ * - 첫 데이터 줄이 숫자로 시작하지 않으면 헤더로 보고 건너뛴다. 빈 줄과 # 주석 줄은 무시한다.
+ * - 빈 칸은 값 없음(기본값)으로 처리한다.
+ *
+ * <GeoJSON>
+ * - FeatureCollection, Feature, 도형(Point / LineString / GeometryCollection)을 모두 받는다.
+ * - 좌표 [동, 북, 고도] 를 유니티 좌표 (x, z, y) 로 사용한다. 고도는 필수.
+ * - Point Feature 는 properties 의 gate, horizontalTolerance, minAltitude, maxAltitude 를 포인트 값으로 쓴다.
+ *   (properties 가 geometry 뒤에 올 수 있으므로 Feature 가 끝날 때 넘긴다.)
+ * - LineString 좌표는 읽는 즉시 기본 통로 값으로 넘긴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RouteFileReader {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 읽은 포인트를 받는 콜백
+     * - 전달되는 DTO 는 재사용되므로 호출 이후에 참조를 보관하면 안 된다.
+     */
+    @FunctionalInterface
+    public interface PointHandler {
+        void accept(RoutePointRequestDto point) throws SQLException;
+    }
+
+    /**
+     * 경로 파일을 읽어 포인트마다 handler 를 호출한다.
+     * - handler 가 던진 IllegalArgumentException 에는 파일 위치(행 번호)를 붙여 다시 던진다.
+     *
+     * @param in        경로 파일 스트림
+     * @param format    파일 형식
+     * @param missionId 포인트에 채울 미션 ID
+     * @param handler   포인트 콜백
+     * @return 읽은 포인트 수
+     */
+    public long read(InputStream in, RouteFileFormat format, Long missionId, PointHandler handler)
+            throws IOException, SQLException {
+        RoutePointRequestDto point = new RoutePointRequestDto();
+        point.setMissionId(missionId);
+        return switch (format) {
+            case CSV -> readCsv(in, point, handler);
+            case GEOJSON -> readGeoJson(in, point, handler);
+        };
+    }
+
+    // ===== CSV =====
+
+    private long readCsv(InputStream in, RoutePointRequestDto point, PointHandler handler)
+            throws IOException, SQLException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        long count = 0;
+        long lineNumber = 0;
+        boolean firstRow = true;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            if (firstRow) {
+                firstRow = false;
+                if (!startsWithNumber(line)) {
+                    continue; // 헤더
+                }
+            }
+
+            String location = "CSV " + lineNumber + "행";
+            String[] cells = line.split(",", -1);
+            if (cells.length < 3) {
+                throw new IllegalArgumentException(location + ": x, y, z 좌표가 필요합니다.");
+            }
+            point.setX(parseCoordinate(cells[0], location));
+            point.setY(parseCoordinate(cells[1], location));
+            point.setZ(parseCoordinate(cells[2], location));
+            point.setGate(cells.length > 3 && parseGate(cells[3]));
+            point.setHorizontalTolerance(cells.length > 4 ? parseOptional(cells[4], location) : null);
+            point.setMinAltitude(cells.length > 5 ? parseOptional(cells[5], location) : null);
+            point.setMaxAltitude(cells.length > 6 ? parseOptional(cells[6], location) : null);
+
+            emit(point, handler, location);
+            count++;
+        }
+        return count;
+    }
+
+    private static boolean startsWithNumber(String line) {
+        char c = line.charAt(0);
+        return Character.isDigit(c) || c == '-' || c == '+' || c == '.';
+    }
+
+    private static double parseCoordinate(String cell, String location) {
+        Double value = parseOptional(cell, location);
+        if (value == null) {
+            throw new IllegalArgumentException(location + ": 좌표 값이 비어 있습니다.");
+        }
+        return value;
+    }
+
+    private static Double parseOptional(String cell, String location) {
+        String value = cell.strip();
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            double parsed = Double.parseDouble(value);
+            if (!Double.isFinite(parsed)) {
+                throw new NumberFormatException();
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(location + ": 숫자가 아닌 값이 있습니다. (" + value + ")");
+        }
+    }
+
+    private static boolean parseGate(String cell) {
+        String value = cell.strip();
+        return value.equalsIgnoreCase("true") || value.equals("1");
+    }
+
+    // ===== GeoJSON =====
+
+    private long readGeoJson(InputStream in, RoutePointRequestDto point, PointHandler handler)
+            throws IOException, SQLException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("GeoJSON 최상위 값은 객체여야 합니다.");
+            }
+            GeoJsonCursor cursor = new GeoJsonCursor(parser, point, handler);
+            cursor.readObject(null);
+            return cursor.count;
+        }
+    }
+
+    /**
+     * Point Feature 의 속성과 좌표 (Feature 가 끝날 때 한 번에 넘긴다)
+     */
+    private static final class FeatureState {
+        boolean gate;
+        Double horizontalTolerance;
+        Double minAltitude;
+        Double maxAltitude;
+
+        boolean hasPoint;
+        double x;
+        double y;
+        double z;
+    }
+
+    /**
+     * 토큰 단위로 GeoJSON 을 훑으며 좌표를 넘기는 커서
+     */
+    private static final class GeoJsonCursor {
+
+        private final JsonParser parser;
+        private final RoutePointRequestDto point;
+        private final PointHandler handler;
+        private long count;
+
+        GeoJsonCursor(JsonParser parser, RoutePointRequestDto point, PointHandler handler) {
+            this.parser = parser;
+            this.point = point;
+            this.handler = handler;
+        }
+
+        /**
+         * 현재 START_OBJECT 부터 대응하는 END_OBJECT 까지 읽는다.
+         *
+         * @param feature 이 객체가 속한 Feature (없으면 null)
+         */
+        void readObject(FeatureState feature) throws IOException, SQLException {
+            FeatureState own = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken token = parser.nextToken();
+                switch (name) {
+                    case "features" -> readObjectArray(token, null);
+                    case "geometries" -> readObjectArray(token, feature);
+                    case "geometry" -> {
+                        if (token == JsonToken.START_OBJECT) {
+                            own = own != null ? own : new FeatureState();
+                            readObject(own);
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    case "properties" -> {
+                        own = own != null ? own : new FeatureState();
+                        readProperties(token, own);
+                    }
+                    case "coordinates" -> readCoordinates(token, feature);
+                    default -> parser.skipChildren();
+                }
+            }
+            if (own != null && own.hasPoint) {
+                point.setX(own.x);
+                point.setY(own.y);
+                point.setZ(own.z);
+                point.setGate(own.gate);
+                point.setHorizontalTolerance(own.horizontalTolerance);
+                point.setMinAltitude(own.minAltitude);
+                point.setMaxAltitude(own.maxAltitude);
+                emitCurrent();
+            }
+        }
+
+        private void readObjectArray(JsonToken token, FeatureState feature) throws IOException, SQLException {
+            if (token != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                return;
+            }
+            JsonToken element;
+            while ((element = parser.nextToken()) != JsonToken.END_ARRAY && element != null) {
+                if (element == JsonToken.START_OBJECT) {
+                    readObject(feature);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        private void readProperties(JsonToken token, FeatureState feature) throws IOException {
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                return;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (name) {
+                    case "gate" -> feature.gate = value == JsonToken.VALUE_TRUE;
+                    case "horizontalTolerance" -> feature.horizontalTolerance = optionalNumber(value);
+                    case "minAltitude" -> feature.minAltitude = optionalNumber(value);
+                    case "maxAltitude" -> feature.maxAltitude = optionalNumber(value);
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+
+        /**
+         * 좌표 배열을 읽는다. 중첩 깊이로 Point([e, n, h])와 LineString([[e, n, h], ...])을 구분한다.
+         */
+        private void readCoordinates(JsonToken token, FeatureState feature) throws IOException, SQLException {
+            if (token != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                return;
+            }
+            JsonToken first = parser.nextToken();
+            if (first == JsonToken.END_ARRAY || first == null) {
+                return;
+            }
+
+            if (first.isNumeric()) {
+                // Point - Feature 안이면 속성과 함께 Feature 끝에서 넘긴다.
+                readPosition();
+                if (feature != null) {
+                    feature.hasPoint = true;
+                    feature.x = point.getX();
+                    feature.y = point.getY();
+                    feature.z = point.getZ();
+                } else {
+                    resetCorridor();
+                    emitCurrent();
+                }
+                return;
+            }
+
+            // LineString - 좌표마다 바로 넘긴다.
+            JsonToken position = first;
+            while (position == JsonToken.START_ARRAY) {
+                JsonToken value = parser.nextToken();
+                if (value == null || !value.isNumeric()) {
+                    throw new IllegalArgumentException(location() + ": 지원하지 않는 GeoJSON 도형입니다. (Point, LineString 만 지원)");
+                }
+                readPosition();
+                resetCorridor();
+                emitCurrent();
+                position = parser.nextToken();
+            }
+            if (position != JsonToken.END_ARRAY) {
+                throw new IllegalArgumentException(location() + ": 좌표 배열 형식이 올바르지 않습니다.");
+            }
+        }
+
+        /**
+         * 위치 배열의 첫 숫자 토큰부터 END_ARRAY 까지 읽어 포인트 좌표에 채운다.
+         */
+        private void readPosition() throws IOException {
+            double easting = finiteNumber();
+            nextNumber();
+            double northing = finiteNumber();
+            nextNumber();
+            double height = finiteNumber();
+            JsonToken extra;
+            while ((extra = parser.nextToken()) != JsonToken.END_ARRAY && extra != null) {
+                parser.skipChildren(); // 네 번째 이후 값(측정값 등) 무시
+            }
+            point.setX(easting);
+            point.setY(height);
+            point.setZ(northing);
+        }
+
+        private void nextNumber() throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == null || !token.isNumeric()) {
+                throw new IllegalArgumentException(location() + ": 좌표에는 [동, 북, 고도] 세 값이 필요합니다.");
+            }
+        }
+
+        private double finiteNumber() throws IOException {
+            double value = parser.getDoubleValue();
+            if (!Double.isFinite(value)) {
+                throw new IllegalArgumentException(location() + ": 유효하지 않은 좌표 값입니다.");
+            }
+            return value;
+        }
+
+        private Double optionalNumber(JsonToken token) throws IOException {
+            if (token == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            if (!token.isNumeric()) {
+                throw new IllegalArgumentException(location() + ": 통로 값은 숫자여야 합니다.");
+            }
+            return parser.getDoubleValue();
+        }
+
+        private void resetCorridor() {
+            point.setGate(false);
+            point.setHorizontalTolerance(null);
+            point.setMinAltitude(null);
+            point.setMaxAltitude(null);
+        }
+
+        private void emitCurrent() throws SQLException {
+            emit(point, handler, location());
+            count++;
+        }
+
+        private String location() {
+            return "GeoJSON " + parser.currentLocation().getLineNr() + "행";
+        }
+    }
+
+    private static void emit(RoutePointRequestDto point, PointHandler handler, String location) throws SQLException {
+        try {
+            handler.accept(point);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(location + ": " + e.getMessage(), e);
+        }
+    }
+}
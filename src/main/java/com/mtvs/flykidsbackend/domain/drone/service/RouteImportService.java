@@ -0,0 +1,230 @@
+package com.mtvs.flykidsbackend.domain.drone.service;
+
+import com.mtvs.flykidsbackend.domain.drone.dto.RouteImportResponseDto;
+import com.mtvs.flykidsbackend.domain.drone.dto.RoutePointRequestDto;
+import com.mtvs.flykidsbackend.domain.drone.entity.RouteVersion;
+import com.mtvs.flykidsbackend.domain.drone.model.CompiledRoute;
+import com.mtvs.flykidsbackend.domain.drone.model.RouteFileFormat;
+import com.mtvs.flykidsbackend.domain.mission.repository.MissionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * 기준 경로 파일 일괄 등록 서비스
+ *
+ * 수만 개 단위의 경로 파일을 JPA saveAll 로 저장하면 IDENTITY 전략 때문에 한 건씩 INSERT 된다.
+ * 파일을 스트리밍으로 읽으면서 JDBC 로 바로 적재해 행 수와 무관하게 메모리 사용량을 일정하게 유지한다.
+ * - PostgreSQL: COPY FROM STDIN 으로 일정 크기 버퍼 단위 전송
+ * - 그 외 DB: JDBC 배치 INSERT (BATCH_SIZE 건 단위 실행)
+ *
+ * 파일 등록은 새 경로 버전을 만들어 적재한 뒤 활성화하며, 버전 생성부터 활성화까지 한 트랜잭션으로 처리된다.
+ * (JPA 트랜잭션이 사용하는 커넥션을 DataSourceUtils 로 그대로 받아 쓴다.)
+ * 텔레메트리용 컴파일 경로는 적재하면서 같은 포인트로 함께 만든다. (적재 후 엔티티로 다시 읽지 않음)
+ *
+ * 읽은 포인트는 SimplifyingPointHandler 로 근접 포인트 제거, 단순화한 뒤 적재한다. (POST /api/route/points 와 같은 규칙)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RouteImportService {
+
+    /** JDBC 배치 INSERT 실행 단위 */
+    private static final int BATCH_SIZE = 1_000;
+
+    /** COPY 전송 버퍼 크기 (이만큼 쌓이면 서버로 보낸다) */
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private static final String COPY_SQL = "COPY route_point "
+            + "(mission_id, route_version_id, seq, x, y, z, gate, horizontal_tolerance, min_altitude, max_altitude) "
+            + "FROM STDIN WITH (FORMAT csv)";
+
+    private static final String INSERT_SQL = "INSERT INTO route_point "
+            + "(mission_id, route_version_id, seq, x, y, z, gate, horizontal_tolerance, min_altitude, max_altitude) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final DataSource dataSource;
+    private final MissionRepository missionRepository;
+    private final RoutePointService routePointService;
+    private final RouteFileReader routeFileReader;
+
+    /**
+     * 경로 파일을 새 경로 버전으로 적재하고 활성화한다.
+     * - 커밋 이후 해당 미션의 컴파일 경로가 새 버전으로 교체된다.
+     *
+     * @param missionId 미션 ID
+     * @param format    파일 형식
+     * @param in        경로 파일 스트림
+     * @return 등록 결과 (받은/적재한 포인트 수, 감소 비율, 적재 방식)
+     */
+    @Transactional
+    public RouteImportResponseDto importRoute(Long missionId, RouteFileFormat format, InputStream in) {
+        if (missionId == null || !missionRepository.existsById(missionId)) {
+            throw new IllegalArgumentException("해당 미션이 존재하지 않습니다.");
+        }
+        if (format == null) {
+            throw new IllegalArgumentException("경로 파일 형식이 지정되지 않았습니다.");
+        }
+
+        RouteVersion version = routePointService.createVersion(missionId);
+        CompiledRoute.Builder compiled = CompiledRoute.builder(missionId, version.getId(), 1_024);
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            boolean postgres = connection.isWrapperFor(PGConnection.class);
+            SimplifyingPointHandler counts = postgres
+                    ? copy(connection, version, format, in, compiled)
+                    : batchInsert(connection, version, format, in, compiled);
+            long received = counts.getReceivedCount();
+            long imported = counts.getEmittedCount();
+            if (received == 0) {
+                throw new IllegalArgumentException("경로 파일에 좌표가 없습니다.");
+            }
+
+            routePointService.activateVersion(version, compiled.build());
+            log.info("기준 경로 파일 등록 - mission {}, {} -> {} 포인트 ({})",
+                    missionId, received, imported, postgres ? "COPY" : "BATCH");
+            return RouteImportResponseDto.builder()
+                    .missionId(missionId)
+                    .routeVersionId(version.getId())
+                    .receivedCount(received)
+                    .importedCount(imported)
+                    .reductionRatio(Math.round((1.0 - (double) imported / received) * 1000) / 1000.0)
+                    .loadMethod(postgres ? "COPY" : "BATCH")
+                    .build();
+
+        } catch (IOException e) {
+            throw new IllegalArgumentException("경로 파일을 읽을 수 없습니다: " + e.getMessage(), e);
+        } catch (SQLException e) {
+            throw new IllegalStateException("기준 경로 저장 중 오류가 발생했습니다.", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * PostgreSQL COPY 로 적재한다.
+     *
+     * @return 포인트 수를 센 단순화 핸들러 (받은 수, 적재한 수)
+     */
+    private SimplifyingPointHandler copy(Connection connection, RouteVersion version, RouteFileFormat format, InputStream in,
+                      CompiledRoute.Builder compiled) throws IOException, SQLException {
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+        try {
+            StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE + 256);
+            int[] seq = {0};
+            SimplifyingPointHandler simplifier = new SimplifyingPointHandler(point -> {
+                appendCsvRow(buffer, version.getId(), seq[0]++, point);
+                addTo(compiled, point);
+                if (buffer.length() >= COPY_BUFFER_SIZE) {
+                    flush(copyIn, buffer);
+                }
+            });
+            read(in, format, version, simplifier);
+            flush(copyIn, buffer);
+            copyIn.endCopy();
+            return simplifier;
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    /**
+     * JDBC 배치 INSERT 로 적재한다. (PostgreSQL 이 아닌 DB)
+     *
+     * @return 포인트 수를 센 단순화 핸들러 (받은 수, 적재한 수)
+     */
+    private SimplifyingPointHandler batchInsert(Connection connection, RouteVersion version, RouteFileFormat format, InputStream in,
+                             CompiledRoute.Builder compiled) throws IOException, SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+            int[] pending = {0};
+            int[] seq = {0};
+            SimplifyingPointHandler simplifier = new SimplifyingPointHandler(point -> {
+                insert.setLong(1, point.getMissionId());
+                insert.setLong(2, version.getId());
+                insert.setInt(3, seq[0]++);
+                insert.setDouble(4, point.getX());
+                insert.setDouble(5, point.getY());
+                insert.setDouble(6, point.getZ());
+                insert.setBoolean(7, Boolean.TRUE.equals(point.getGate()));
+                insert.setObject(8, point.getHorizontalTolerance(), Types.DOUBLE);
+                insert.setObject(9, point.getMinAltitude(), Types.DOUBLE);
+                insert.setObject(10, point.getMaxAltitude(), Types.DOUBLE);
+                insert.addBatch();
+                addTo(compiled, point);
+                if (++pending[0] == BATCH_SIZE) {
+                    insert.executeBatch();
+                    pending[0] = 0;
+                }
+            });
+            read(in, format, version, simplifier);
+            if (pending[0] > 0) {
+                insert.executeBatch();
+            }
+            return simplifier;
+        }
+    }
+
+    /**
+     * 파일을 읽어 검증한 포인트를 단순화 핸들러로 넘기고, 남은 구간까지 흘려보낸다.
+     */
+    private void read(InputStream in, RouteFileFormat format, RouteVersion version,
+                      SimplifyingPointHandler simplifier) throws IOException, SQLException {
+        routeFileReader.read(in, format, version.getMissionId(), point -> {
+            RoutePointService.validate(point);
+            simplifier.accept(point);
+        });
+        simplifier.finish();
+    }
+
+    /**
+     * 적재한 포인트를 컴파일 경로 빌더에 추가한다.
+     */
+    private static void addTo(CompiledRoute.Builder compiled, RoutePointRequestDto point) {
+        compiled.add(point.getX(), point.getY(), point.getZ(), Boolean.TRUE.equals(point.getGate()),
+                point.getHorizontalTolerance(), point.getMinAltitude(), point.getMaxAltitude());
+    }
+
+    /**
+     * COPY csv 형식 한 행 (빈 칸은 NULL)
+     */
+    private static void appendCsvRow(StringBuilder buffer, long versionId, int seq, RoutePointRequestDto point) {
+        buffer.append(point.getMissionId()).append(',')
+                .append(versionId).append(',')
+                .append(seq).append(',')
+                .append(point.getX()).append(',')
+                .append(point.getY()).append(',')
+                .append(point.getZ()).append(',')
+                .append(Boolean.TRUE.equals(point.getGate())).append(',');
+        appendNullable(buffer, point.getHorizontalTolerance()).append(',');
+        appendNullable(buffer, point.getMinAltitude()).append(',');
+        appendNullable(buffer, point.getMaxAltitude()).append('\n');
+    }
+
+    private static StringBuilder appendNullable(StringBuilder buffer, Double value) {
+        return value != null ? buffer.append(value.doubleValue()) : buffer;
+    }
+
+    private static void flush(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+}
@@ -0,0 +1,90 @@
+package com.mtvs.flykidsbackend.domain.drone.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mtvs.flykidsbackend.domain.drone.entity.RoutePoint;
+import com.mtvs.flykidsbackend.domain.drone.model.CompiledRoute;
+import com.mtvs.flykidsbackend.domain.drone.model.RoutePayload;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 기준 경로 조회 응답 캐시
+ *
+ * 미션 시작마다 클라이언트가 전체 경로를 내려받으므로, 경로 버전별로 JSON 직렬화와 gzip 압축을 한 번만 해 둔다.
+ * - ETag 는 미션 ID와 사용 중인 버전 ID로 정해지며, 버전 ID는 메모리의 컴파일 경로에서 읽는다.
+ *   따라서 If-None-Match 비교(304)에는 DB 조회도 직렬화도 필요 없다.
+ * - gzip 본문은 JSON 본문과 바이트가 다르므로 별도 ETag(-gz 접미사)를 쓴다.
+ * - 캐시 항목은 사용 중인 버전과 다르면 다음 조회 때 새 버전으로 다시 만든다.
+ * - 경로가 없는 미션(빈 경로)은 캐시하지 않는다. (없는 미션 ID 조회로 캐시가 커지는 것 방지)
+ */
+@Service
+@RequiredArgsConstructor
+public class RoutePayloadService {
+
+    private final RoutePointService routePointService;
+    private final ObjectMapper objectMapper;
+
+    private final ConcurrentHashMap<Long, RoutePayload> payloads = new ConcurrentHashMap<>();
+
+    /**
+     * 미션의 사용 중인 경로 버전에 해당하는 ETag (메모리 조회만 함)
+     *
+     * @param missionId 미션 ID
+     * @param gzip      gzip 본문 ETag 여부
+     * @return 강한 ETag
+     */
+    public String currentETag(Long missionId, boolean gzip) {
+        String etag = etag(missionId, routePointService.getCompiledRoute(missionId).getVersionId());
+        return gzip ? RoutePayload.gzipETag(etag) : etag;
+    }
+
+    /**
+     * 미션의 사용 중인 경로 버전 응답 본문을 조회한다.
+     * - 캐시가 없거나 이전 버전이면 이번 한 번만 DB 조회, 직렬화, 압축한다.
+     *
+     * @param missionId 미션 ID
+     * @return 응답 본문 (JSON, gzip)
+     */
+    public RoutePayload getPayload(Long missionId) {
+        CompiledRoute route = routePointService.getCompiledRoute(missionId);
+        long versionId = route.getVersionId();
+        if (route.isEmpty()) {
+            return build(missionId, versionId);
+        }
+        RoutePayload cached = payloads.get(missionId);
+        if (cached != null && cached.versionId() == versionId) {
+            return cached;
+        }
+        return payloads.compute(missionId, (id, current) ->
+                current != null && current.versionId() == versionId ? current : build(id, versionId));
+    }
+
+    private RoutePayload build(Long missionId, long versionId) {
+        List<RoutePoint> points = routePointService.getRouteByVersion(missionId, versionId);
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(points);
+            return new RoutePayload(versionId, etag(missionId, versionId), json, gzip(json));
+        } catch (IOException e) {
+            throw new UncheckedIOException("기준 경로 응답 생성 실패 - mission " + missionId, e);
+        }
+    }
+
+    static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        }
+        return out.toByteArray();
+    }
+
+    private static String etag(Long missionId, long versionId) {
+        return "\"route-" + missionId + "-v" + versionId + "\"";
+    }
+}
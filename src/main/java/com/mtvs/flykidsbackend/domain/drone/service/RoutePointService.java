@@ -1,12 +1,27 @@
 package com.mtvs.flykidsbackend.domain.drone.service;
 
 import com.mtvs.flykidsbackend.domain.drone.dto.RoutePointRequestDto;
+import com.mtvs.flykidsbackend.domain.drone.dto.RouteSaveResponseDto;
 import com.mtvs.flykidsbackend.domain.drone.entity.RoutePoint;
+import com.mtvs.flykidsbackend.domain.drone.entity.RouteVersion;
+import com.mtvs.flykidsbackend.domain.drone.model.CompiledRoute;
+import com.mtvs.flykidsbackend.domain.drone.model.RouteSimplifier;
+import com.mtvs.flykidsbackend.domain.drone.model.RouteTileSet;
 import com.mtvs.flykidsbackend.domain.drone.repository.RoutePointRepository;
+import com.mtvs.flykidsbackend.domain.drone.repository.RouteVersionRepository;
+import com.mtvs.flykidsbackend.domain.mission.repository.MissionRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 기준 경로 처리 서비스
@@ -14,48 +29,216 @@ import java.util.List;
  * 기준 경로 포인트의 저장 및 조회 기능을 제공한다.
  * 미션 ID에 따라 경로를 조회하거나,
  * 클라이언트에서 전달받은 좌표 리스트를 일괄 저장할 수 있다.
+ * 텔레메트리 판단용 컴파일 경로는 미션별로 메모리에 캐시한다.
+ *
+ * <경로 버전>
+ * - 등록할 때마다 새 경로 버전(RouteVersion)을 만들고, 포인트는 그 버전에만 쓴다. (기존 버전은 그대로)
+ * - 커밋 이후 새 버전을 컴파일한 경로로 캐시 참조를 한 번에 교체한다.
+ *   텔레메트리 판단은 교체 직전까지 이전 버전을 그대로 사용하므로 쓰는 중인 경로를 보지 않는다.
+ * - 교체된 버전은 RouteVersionCollector 가 유예 시간 후 비동기로 삭제한다.
  */
 @Service
 @RequiredArgsConstructor
 public class RoutePointService {
 
     private final RoutePointRepository routePointRepository;
+    private final RouteVersionRepository routeVersionRepository;
+    private final MissionRepository missionRepository;
+
+    private final ConcurrentHashMap<Long, CompiledRoute> compiledRoutes = new ConcurrentHashMap<>();
 
     /**
      * 특정 미션 ID에 해당하는 기준 경로 좌표 목록을 조회한다.
+     * - 사용 중인 경로 버전의 포인트를 순서대로 반환한다.
      *
      * @param missionId 조회할 미션 ID
      * @return 기준 경로 좌표 리스트
      */
+    @Transactional(readOnly = true)
     public List<RoutePoint> getRouteByMissionId(Long missionId) {
-        return routePointRepository.findByMissionId(missionId);
+        return routeVersionRepository.findFirstByMissionIdAndActiveTrueOrderByIdDesc(missionId)
+                .map(version -> routePointRepository.findByRouteVersionIdOrderBySeqAsc(version.getId()))
+                .orElseGet(() -> routePointRepository.findByMissionIdAndRouteVersionIdIsNullOrderByIdAsc(missionId));
+    }
+
+    /**
+     * 특정 경로 버전의 좌표 목록을 조회한다.
+     *
+     * @param missionId 미션 ID
+     * @param versionId 경로 버전 ID (0 이면 버전 도입 전 포인트)
+     * @return 기준 경로 좌표 리스트 (경로 순서)
+     */
+    @Transactional(readOnly = true)
+    public List<RoutePoint> getRouteByVersion(Long missionId, long versionId) {
+        return versionId > 0
+                ? routePointRepository.findByRouteVersionIdOrderBySeqAsc(versionId)
+                : routePointRepository.findByMissionIdAndRouteVersionIdIsNullOrderByIdAsc(missionId);
+    }
+
+    /**
+     * 텔레메트리 판단용 컴파일 경로를 조회한다.
+     * - 최초 조회 시에만 DB에서 읽고, 이후에는 캐시를 사용한다.
+     * - 새 버전이 등록되면 커밋 이후 캐시 참조가 새 버전으로 교체된다.
+     * - 없는 미션 ID 는 캐시에 넣지 않는다. (임의 ID 조회로 캐시가 계속 커지는 것 방지)
+     *   경로가 없는 기존 미션은 빈 경로를 캐시하고, 경로가 등록되면 교체된다.
+     *
+     * @param missionId 조회할 미션 ID
+     * @return 컴파일된 기준 경로 (경로가 없으면 빈 경로)
+     */
+    public CompiledRoute getCompiledRoute(Long missionId) {
+        CompiledRoute cached = compiledRoutes.get(missionId);
+        if (cached != null) {
+            return cached;
+        }
+        if (missionId == null || !missionRepository.existsById(missionId)) {
+            return CompiledRoute.of(missionId != null ? missionId : 0L, 0L, List.of());
+        }
+        return compiledRoutes.computeIfAbsent(missionId, this::compileActive);
     }
 
     /**
-     * 기준 경로 좌표를 일괄 저장한다.
-     * 클라이언트에서 전달받은 좌표 리스트를 엔티티로 변환 후 DB에 저장한다.
+     * 기준 경로 좌표를 저장한다.
+     * 클라이언트에서 전달받은 좌표 리스트를 미션별로 근접 포인트 제거, 단순화(RouteSimplifier)한 뒤
+     * 새 경로 버전으로 저장하고 활성화한다.
+     * - 같은 미션의 기존 경로는 새 버전으로 교체된다. (추가되지 않음)
      *
-     * @param pointList 저장할 기준 좌표 DTO 리스트
+     * @param pointList 저장할 기준 좌표 DTO 리스트 (경로 순서)
+     * @return 요청/저장 포인트 수와 감소 비율
      */
-    public void saveRoutePoints(List<RoutePointRequestDto> pointList) {
+    @Transactional
+    public RouteSaveResponseDto saveRoutePoints(List<RoutePointRequestDto> pointList) {
         if (pointList == null || pointList.isEmpty()) {
             throw new IllegalArgumentException("저장할 경로 좌표 목록이 없습니다.");
         }
 
-        List<RoutePoint> routePoints = pointList.stream()
-                .map(dto -> {
-                    if (dto.getMissionId() == null || dto.getMissionId() <= 0) {
-                        throw new IllegalArgumentException("유효하지 않은 미션 ID가 포함되어 있습니다.");
-                    }
-                    return RoutePoint.builder()
-                            .missionId(dto.getMissionId())
-                            .x(dto.getX())
-                            .y(dto.getY())
-                            .z(dto.getZ())
-                            .build();
-                })
-                .toList();
+        // 요청 순서를 유지한 채 미션별로 나눈다. (미션 잠금은 ID 순으로 잡아 동시 요청 간 교착을 피한다.)
+        Map<Long, List<RoutePointRequestDto>> byMission = new TreeMap<>();
+        for (RoutePointRequestDto dto : pointList) {
+            validate(dto);
+            byMission.computeIfAbsent(dto.getMissionId(), id -> new ArrayList<>()).add(dto);
+        }
+
+        int savedCount = 0;
+        for (Map.Entry<Long, List<RoutePointRequestDto>> entry : byMission.entrySet()) {
+            Long missionId = entry.getKey();
+            List<RoutePointRequestDto> dtos = RouteSimplifier.simplify(entry.getValue());
+            RouteVersion version = createVersion(missionId);
+            List<RoutePoint> routePoints = new ArrayList<>(dtos.size());
+            for (int seq = 0; seq < dtos.size(); seq++) {
+                RoutePointRequestDto dto = dtos.get(seq);
+                routePoints.add(RoutePoint.builder()
+                        .missionId(missionId)
+                        .routeVersionId(version.getId())
+                        .seq(seq)
+                        .x(dto.getX())
+                        .y(dto.getY())
+                        .z(dto.getZ())
+                        .gate(Boolean.TRUE.equals(dto.getGate()))
+                        .horizontalTolerance(dto.getHorizontalTolerance())
+                        .minAltitude(dto.getMinAltitude())
+                        .maxAltitude(dto.getMaxAltitude())
+                        .build());
+            }
+            routePointRepository.saveAll(routePoints);
+            activateVersion(version, CompiledRoute.of(missionId, version.getId(), routePoints));
+            savedCount += routePoints.size();
+        }
+
+        int receivedCount = pointList.size();
+        return RouteSaveResponseDto.builder()
+                .message("기준 경로가 저장되었습니다.")
+                .receivedCount(receivedCount)
+                .savedCount(savedCount)
+                .reductionRatio(Math.round((1.0 - (double) savedCount / receivedCount) * 1000) / 1000.0)
+                .build();
+    }
 
-        routePointRepository.saveAll(routePoints);
+    /**
+     * 포인트를 쓰기 전에 새 경로 버전을 만든다. (아직 비활성)
+     * - 버전 ID를 받기 전에 미션 행을 잠가(SELECT ... FOR UPDATE) 같은 미션의 등록을 트랜잭션 끝까지 직렬화한다.
+     *   따라서 나중에 커밋되는 등록이 항상 더 큰 버전 ID를 가지며,
+     *   DB 에서 active 로 남는 버전과 캐시가 고르는 버전(ID가 큰 쪽)이 같다.
+     * - activateVersion 은 같은 트랜잭션 안에서 호출해야 한다.
+     *
+     * @param missionId 미션 ID
+     * @return 저장된 버전 (ID 할당됨)
+     * @throws IllegalArgumentException 미션이 없는 경우
+     */
+    @Transactional
+    public RouteVersion createVersion(Long missionId) {
+        missionRepository.findByIdForUpdate(missionId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 미션이 존재하지 않습니다."));
+        return routeVersionRepository.save(RouteVersion.builder()
+                .missionId(missionId)
+                .build());
+    }
+
+    /**
+     * 포인트를 모두 쓴 버전을 활성화하고, 같은 미션의 이전 버전을 교체 상태로 바꾼다.
+     * - 경로 XZ 범위가 RouteTileSet.MAX_EXTENT 보다 넓으면 거부한다. (LOD 타일 수 상한)
+     * - createVersion 에서 잡은 미션 행 잠금 안에서 실행되며, 이 버전보다 ID가 작은 active 버전만 교체한다.
+     * - 컴파일은 호출자가 포인트를 쓰면서 끝내고, 커밋 이후에는 캐시 참조만 바꿔 끼운다.
+     *
+     * @param version  활성화할 버전
+     * @param compiled 버전의 포인트를 컴파일한 경로
+     */
+    @Transactional
+    public void activateVersion(RouteVersion version, CompiledRoute compiled) {
+        RouteTileSet.validateExtent(compiled);
+
+        version.setPointCount(compiled.size());
+        version.setActive(true);
+        routeVersionRepository.save(version);
+        routeVersionRepository.retireActive(version.getMissionId(), version.getId(), LocalDateTime.now());
+
+        swapAfterCommit(compiled);
+    }
+
+    /**
+     * 미션의 사용 중인 버전을 컴파일한다. (버전이 없으면 버전 도입 전 포인트 사용)
+     */
+    private CompiledRoute compileActive(Long missionId) {
+        return routeVersionRepository.findFirstByMissionIdAndActiveTrueOrderByIdDesc(missionId)
+                .map(version -> CompiledRoute.of(missionId, version.getId(),
+                        routePointRepository.findByRouteVersionIdOrderBySeqAsc(version.getId())))
+                .orElseGet(() -> CompiledRoute.of(missionId, 0L,
+                        routePointRepository.findByMissionIdAndRouteVersionIdIsNullOrderByIdAsc(missionId)));
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 캐시 참조를 새 버전으로 교체한다.
+     * - 커밋 전에 교체하면 롤백된 버전이 판단에 쓰일 수 있다.
+     * - 동시 등록으로 순서가 뒤바뀌어도 더 최신 버전(ID가 큰 쪽)을 남긴다.
+     */
+    private void swapAfterCommit(CompiledRoute compiled) {
+        Runnable swap = () -> compiledRoutes.merge(compiled.getMissionId(), compiled,
+                (current, next) -> next.getVersionId() >= current.getVersionId() ? next : current);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            swap.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                swap.run();
+            }
+        });
+    }
+
+    /**
+     * 기준 경로 포인트 요청 값 검증 (단건 등록, 파일 일괄 등록 공용)
+     */
+    static void validate(RoutePointRequestDto dto) {
+        if (dto.getMissionId() == null || dto.getMissionId() <= 0) {
+            throw new IllegalArgumentException("유효하지 않은 미션 ID가 포함되어 있습니다.");
+        }
+        if (dto.getHorizontalTolerance() != null && dto.getHorizontalTolerance() <= 0) {
+            throw new IllegalArgumentException("허용 수평 거리는 0보다 커야 합니다.");
+        }
+        if (dto.getMinAltitude() != null && dto.getMaxAltitude() != null
+                && dto.getMinAltitude() >= dto.getMaxAltitude()) {
+            throw new IllegalArgumentException("최소 고도는 최대 고도보다 낮아야 합니다.");
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,137 @@
+package com.mtvs.flykidsbackend.domain.drone.service;
+
+import com.mtvs.flykidsbackend.domain.drone.dto.DroneResponse;
+import com.mtvs.flykidsbackend.domain.drone.model.CompiledRoute;
+import com.mtvs.flykidsbackend.domain.drone.state.LiveDroneStateStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경로 진행도 추적기
+ *
+ * 드론별 현재 경로 구간과 누적 호 길이를 실시간 상태 저장소 레코드에 유지한다.
+ * - 매 샘플마다 직전 구간 주변만 탐색(CompiledRoute.locateSegment)하므로 경로 전체를 훑지 않는다.
+ * - 주변 구간의 통로를 벗어나면 전체 구간을 탐색(CompiledRoute.findCorridorSegment)해 다시 잡되,
+ *   경로 길이에 비례하는 비용이므로 드론별로 RESCAN_INTERVAL_MILLIS 에 한 번만 수행한다.
+ *   (경로를 벗어나 비행하는 동안 매 샘플 전체 탐색이 드론 락 안에서 반복되지 않도록)
+ * - 게이트는 경로 순서대로만 통과 처리하며, 직전 샘플 → 현재 샘플 이동 선분이 게이트 지점에
+ *   GATE_RADIUS 안으로 접근하지 않았으면 놓친 것으로 본다. (샘플 간격이 길어도 빠르게 통과한 게이트를 인정)
+ * - 진행 상태 갱신은 recordSample 전에 호출되므로, 레코드의 위치는 직전 샘플 좌표다.
+ *
+ * 같은 드론에 대한 호출은 LiveDroneStateStore.lockFor(droneKey) 안에서 이뤄져야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RouteProgressTracker {
+
+    /** 게이트 통과 인정 반경(m) */
+    private static final float GATE_RADIUS = 2.0f;
+
+    /** 경로 전체 구간 재탐색 최소 간격(ms, 샘플 시각 기준) */
+    private static final long RESCAN_INTERVAL_MILLIS = 500L;
+
+    private final LiveDroneStateStore liveDroneStateStore;
+
+    /**
+     * 현재 좌표로 진행 구간, 호 길이, 게이트 통과 상태를 갱신한다.
+     *
+     * @param sampledAt 샘플 시각 (epoch ms, 전체 재탐색 빈도 제한 기준)
+     */
+    public void advance(int slot, CompiledRoute route, float x, float y, float z, long sampledAt) {
+        int segment = route.locateSegment(liveDroneStateStore.getRouteSegment(slot), x, y, z);
+        if (!route.isWithinCorridor(segment, x, y, z)) {
+            segment = rescan(slot, route, segment, x, y, z, sampledAt);
+        }
+        float arcLength = route.arcLengthOn(segment, x, y, z);
+        liveDroneStateStore.setRouteProgress(slot, segment, arcLength);
+
+        int nextGate = liveDroneStateStore.getNextGate(slot);
+        int gatesPassed = liveDroneStateStore.getGatesPassed(slot);
+        boolean hasPrevious = liveDroneStateStore.hasFlag(slot, LiveDroneStateStore.FLAG_HAS_SAMPLE);
+        float prevX = hasPrevious ? liveDroneStateStore.getX(slot) : x;
+        float prevY = hasPrevious ? liveDroneStateStore.getY(slot) : y;
+        float prevZ = hasPrevious ? liveDroneStateStore.getZ(slot) : z;
+        boolean changed = false;
+        while (nextGate < route.gateCount() && arcLength >= route.gateArc(nextGate)) {
+            int point = route.gatePoint(nextGate);
+            if (closestApproachSq(prevX, prevY, prevZ, x, y, z,
+                    route.x(point), route.y(point), route.z(point)) <= GATE_RADIUS * GATE_RADIUS) {
+                gatesPassed++;
+            }
+            nextGate++;
+            changed = true;
+        }
+        if (changed) {
+            liveDroneStateStore.setGateProgress(slot, nextGate, gatesPassed);
+        }
+    }
+
+    /**
+     * 판단에 쓸 진행 구간을 반환한다.
+     * - 추적 중인 구간의 통로 안이면 그대로 쓴다.
+     * - 통로 밖이면 이탈로 판단하기 전에 전체 구간을 확인해, 좌표를 포함하는 구간이 있으면 추적 구간을 그곳으로 옮긴다.
+     *   (추적 구간이 실제 위치와 어긋난 상태로 이탈 경고가 나가지 않도록)
+     *   전체 확인은 advance 와 같은 재탐색 간격 제한을 따르므로, 같은 샘플에서 advance 가 이미 탐색했으면 건너뛴다.
+     *
+     * @param sampledAt 샘플 시각 (epoch ms, 전체 재탐색 빈도 제한 기준)
+     * @return 판단 기준 구간 인덱스
+     */
+    public int corridorSegment(int slot, CompiledRoute route, float x, float y, float z, long sampledAt) {
+        int segment = liveDroneStateStore.getRouteSegment(slot);
+        if (route.isWithinCorridor(segment, x, y, z)) {
+            return segment;
+        }
+        int found = rescan(slot, route, segment, x, y, z, sampledAt);
+        if (found == segment) {
+            return segment;
+        }
+        liveDroneStateStore.setRouteProgress(slot, found, route.arcLengthOn(found, x, y, z));
+        return found;
+    }
+
+    /**
+     * 전체 구간에서 좌표를 통로 안에 포함하는 구간을 찾는다. (드론별 RESCAN_INTERVAL_MILLIS 에 한 번)
+     * - 재탐색 간격이 지나지 않았거나 포함하는 구간이 없으면 주어진 구간을 그대로 반환한다.
+     *
+     * @param segment   현재 기준 구간
+     * @param sampledAt 샘플 시각 (epoch ms)
+     * @return 통로 안에 포함하는 구간 (없으면 segment)
+     */
+    private int rescan(int slot, CompiledRoute route, int segment, float x, float y, float z, long sampledAt) {
+        long lastRescanAt = liveDroneStateStore.getRouteRescanAt(slot);
+        if (lastRescanAt != 0L && sampledAt - lastRescanAt < RESCAN_INTERVAL_MILLIS) {
+            return segment;
+        }
+        liveDroneStateStore.setRouteRescanAt(slot, sampledAt);
+        int found = route.findCorridorSegment(x, y, z);
+        return found >= 0 ? found : segment;
+    }
+
+    /**
+     * 선분 (a → b) 과 점 p 사이 최단 거리의 제곱
+     */
+    static float closestApproachSq(float ax, float ay, float az, float bx, float by, float bz,
+                                   float px, float py, float pz) {
+        float sx = bx - ax;
+        float sy = by - ay;
+        float sz = bz - az;
+        float lengthSq = sx * sx + sy * sy + sz * sz;
+        float t = lengthSq == 0f ? 0f : ((px - ax) * sx + (py - ay) * sy + (pz - az) * sz) / lengthSq;
+        t = Math.max(0f, Math.min(1f, t));
+        float dx = px - (ax + sx * t);
+        float dy = py - (ay + sy * t);
+        float dz = pz - (az + sz * t);
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * 레코드의 진행 상태를 응답에 채운다.
+     */
+    public void fill(int slot, CompiledRoute route, DroneResponse response) {
+        float total = route.totalLength();
+        float percent = total > 0f ? Math.min(100f, liveDroneStateStore.getRouteArc(slot) / total * 100f) : 0f;
+        response.setProgressPercent(Math.round(percent * 10f) / 10f);
+        response.setGatesPassed(liveDroneStateStore.getGatesPassed(slot));
+        response.setTotalGates(route.gateCount());
+    }
+}
@@ -0,0 +1,118 @@
+package com.mtvs.flykidsbackend.domain.drone.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mtvs.flykidsbackend.domain.drone.dto.RouteTileIndexResponseDto;
+import com.mtvs.flykidsbackend.domain.drone.model.CompiledRoute;
+import com.mtvs.flykidsbackend.domain.drone.model.RoutePayload;
+import com.mtvs.flykidsbackend.domain.drone.model.RouteTileSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 기준 경로 LOD 타일 서비스
+ *
+ * 긴 경로를 한 번에 내려받는 대신, 클라이언트가 필요한 단계와 영역의 타일만 받을 수 있게 한다.
+ * - 경로 버전이 바뀌면 첫 조회 때 모든 단계의 타일(RouteTileSet)을 한 번 만든다.
+ * - 타일 본문(JSON, gzip)은 처음 요청될 때 만들어 버전이 바뀔 때까지 메모리에 둔다.
+ * - 경로가 없는 미션(빈 경로)은 캐시하지 않는다. (없는 미션 ID 조회로 캐시가 커지는 것 방지)
+ * - ETag 는 미션 ID, 버전 ID, 타일 ID로 정해지므로 304 판단은 메모리 조회만으로 끝난다. (gzip 본문은 -gz 접미사)
+ */
+@Service
+@RequiredArgsConstructor
+public class RouteTileService {
+
+    private final RoutePointService routePointService;
+    private final ObjectMapper objectMapper;
+
+    private final ConcurrentHashMap<Long, TileCache> caches = new ConcurrentHashMap<>();
+
+    /** 미션 하나의 타일 캐시 (경로 버전 단위) */
+    private record TileCache(long versionId, RouteTileSet tileSet,
+                             ConcurrentHashMap<String, RoutePayload> payloads) {
+    }
+
+    /**
+     * 미션의 사용 중인 경로 버전 타일 목록을 조회한다.
+     *
+     * @param missionId 미션 ID
+     * @return 단계별 타일 목록
+     */
+    public RouteTileIndexResponseDto getIndex(Long missionId) {
+        TileCache cache = getCache(missionId);
+        return RouteTileIndexResponseDto.builder()
+                .missionId(missionId)
+                .versionId(cache.versionId())
+                .levels(cache.tileSet().getLevels())
+                .build();
+    }
+
+    /**
+     * 타일의 현재 ETag (메모리 조회만 함)
+     *
+     * @param missionId 미션 ID
+     * @param tileId    타일 ID
+     * @param gzip      gzip 본문 ETag 여부
+     * @return 강한 ETag
+     */
+    public String currentETag(Long missionId, String tileId, boolean gzip) {
+        String etag = etag(missionId, routePointService.getCompiledRoute(missionId).getVersionId(), tileId);
+        return gzip ? RoutePayload.gzipETag(etag) : etag;
+    }
+
+    /**
+     * 타일 응답 본문을 조회한다.
+     *
+     * @param missionId 미션 ID
+     * @param tileId    타일 ID ({단계}_{타일 X}_{타일 Z})
+     * @return 응답 본문 (JSON, gzip)
+     * @throws IllegalArgumentException 현재 버전에 없는 타일 ID
+     */
+    public RoutePayload getTilePayload(Long missionId, String tileId) {
+        TileCache cache = getCache(missionId);
+        RouteTileSet.Tile tile = cache.tileSet().getTiles().get(tileId);
+        if (tile == null) {
+            throw new IllegalArgumentException("존재하지 않는 경로 타일입니다: " + tileId);
+        }
+        return cache.payloads().computeIfAbsent(tileId, id -> build(missionId, tile));
+    }
+
+    /**
+     * 사용 중인 버전의 타일 캐시 (이전 버전이면 새로 만든다, 빈 경로는 캐시하지 않음)
+     */
+    private TileCache getCache(Long missionId) {
+        CompiledRoute route = routePointService.getCompiledRoute(missionId);
+        long versionId = route.getVersionId();
+        if (route.isEmpty()) {
+            return new TileCache(versionId, RouteTileSet.of(versionId, List.of()), new ConcurrentHashMap<>());
+        }
+        TileCache cached = caches.get(missionId);
+        if (cached != null && cached.versionId() == versionId) {
+            return cached;
+        }
+        return caches.compute(missionId, (id, current) ->
+                current != null && current.versionId() == versionId
+                        ? current
+                        : new TileCache(versionId,
+                                RouteTileSet.of(versionId, routePointService.getRouteByVersion(id, versionId)),
+                                new ConcurrentHashMap<>()));
+    }
+
+    private RoutePayload build(Long missionId, RouteTileSet.Tile tile) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(tile);
+            return new RoutePayload(tile.versionId(), etag(missionId, tile.versionId(), tile.tileId()),
+                    json, RoutePayloadService.gzip(json));
+        } catch (IOException e) {
+            throw new UncheckedIOException("경로 타일 응답 생성 실패 - mission " + missionId + ", tile " + tile.tileId(), e);
+        }
+    }
+
+    private static String etag(Long missionId, long versionId, String tileId) {
+        return "\"route-" + missionId + "-v" + versionId + "-" + tileId + "\"";
+    }
+}
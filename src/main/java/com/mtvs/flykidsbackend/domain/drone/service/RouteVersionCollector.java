@@ -0,0 +1,114 @@
+package com.mtvs.flykidsbackend.domain.drone.service;
+
+import com.mtvs.flykidsbackend.domain.drone.entity.RouteVersion;
+import com.mtvs.flykidsbackend.domain.drone.repository.RoutePointRepository;
+import com.mtvs.flykidsbackend.domain.drone.repository.RouteVersionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 교체된 기준 경로 버전 정리 작업
+ *
+ * 경로 등록 요청에서는 이전 버전을 교체 상태로만 바꾸고, 실제 삭제는 이 작업이 백그라운드에서 한다.
+ * - 교체 후 RETIRE_GRACE_MINUTES 이 지난 버전만 삭제한다. (교체 직전에 시작된 조회가 끝날 시간)
+ * - 버전 하나씩 별도 트랜잭션으로 포인트와 버전을 함께 삭제한다.
+ * - 사용 중인 버전이 생긴 미션의 버전 도입 전 포인트도 함께 정리한다.
+ */
+@Slf4j
+@Component
+public class RouteVersionCollector implements SmartLifecycle {
+
+    /** 교체 후 삭제까지 유예 시간 */
+    private static final long RETIRE_GRACE_MINUTES = 10L;
+
+    /** 정리 작업 주기 */
+    private static final long INTERVAL_MINUTES = 5L;
+
+    private final RouteVersionRepository routeVersionRepository;
+    private final RoutePointRepository routePointRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile boolean running = false;
+    private ScheduledExecutorService executor;
+
+    public RouteVersionCollector(RouteVersionRepository routeVersionRepository,
+                                 RoutePointRepository routePointRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.routeVersionRepository = routeVersionRepository;
+        this.routePointRepository = routePointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 유예 시간이 지난 교체 버전을 삭제한다.
+     *
+     * @return 삭제된 버전 수
+     */
+    public int collect() {
+        List<RouteVersion> retired = routeVersionRepository.findByActiveFalseAndRetiredAtBefore(
+                LocalDateTime.now().minusMinutes(RETIRE_GRACE_MINUTES));
+
+        int collected = 0;
+        for (RouteVersion version : retired) {
+            try {
+                Integer points = transactionTemplate.execute(status -> {
+                    int deleted = routePointRepository.deleteByRouteVersionId(version.getId());
+                    routeVersionRepository.deleteById(version.getId());
+                    return deleted;
+                });
+                collected++;
+                log.debug("교체된 경로 버전 삭제 - mission {}, version {}, 포인트 {}",
+                        version.getMissionId(), version.getId(), points);
+            } catch (Exception e) {
+                log.warn("교체된 경로 버전 삭제 실패 - version {}", version.getId(), e);
+            }
+        }
+
+        Integer legacy = transactionTemplate.execute(status -> routePointRepository.deleteSupersededLegacyPoints());
+        if (collected > 0 || (legacy != null && legacy > 0)) {
+            log.info("경로 버전 정리 - 버전 {}개, 버전 도입 전 포인트 {}개 삭제", collected, legacy);
+        }
+        return collected;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "route-version-collector");
+            thread.setPriority(Thread.MIN_PRIORITY);
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                collect();
+            } catch (Exception e) {
+                log.error("경로 버전 정리 실패", e);
+            }
+        }, INTERVAL_MINUTES, INTERVAL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
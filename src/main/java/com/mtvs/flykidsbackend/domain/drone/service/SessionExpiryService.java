@@ -0,0 +1,198 @@
+package com.mtvs.flykidsbackend.domain.drone.service;
+
+import com.mtvs.flykidsbackend.domain.drone.state.HashedTimingWheel;
+import com.mtvs.flykidsbackend.domain.drone.state.LiveDroneStateStore;
+import com.mtvs.flykidsbackend.domain.mission.model.MissionResultStatus;
+import com.mtvs.flykidsbackend.domain.mission.service.DroneMissionResultService;
+import com.mtvs.flykidsbackend.domain.mission.service.MissionCourseService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 비행 세션 자동 만료 처리
+ *
+ * 세션이 시작될 때 타이밍 휠에 마감 시각 하나를 등록하고, 만료 시 레코드를 확인해 판단한다.
+ * - 미션 제한 시간(Mission.timeLimit) 경과 → FAIL 결과 저장 후 세션에 만료 표시
+ *   (레코드를 남겨 두어 같은 미션 프레임이 새 세션을 열지 않고, 미션 완료 요청이 결과를 중복 저장하지 않게 한다.
+ *    만료 표시는 완료/중단 요청 또는 텔레메트리가 IDLE_TIMEOUT_MILLIS 동안 끊길 때 해제된다)
+ * - 텔레메트리가 IDLE_TIMEOUT_MILLIS 동안 끊김 → ABORT 결과 저장 후 세션 종료
+ * - 둘 다 아니면 (샘플이 계속 들어오는 중) 다음 마감 시각으로 다시 등록
+ *
+ * 샘플마다 타이머를 갱신하지 않고 만료 시점에 마지막 샘플 시각을 확인하므로
+ * 텔레메트리 처리 비용이 늘지 않고, 만료 판단에 DB 조회(polling)도 없다.
+ */
+@Slf4j
+@Component
+public class SessionExpiryService implements SmartLifecycle {
+
+    /** 텔레메트리 끊김으로 간주하는 시간 */
+    private static final long IDLE_TIMEOUT_MILLIS = 30_000L;
+
+    /** 이보다 샘플이 적은 세션은 만료되어도 결과를 남기지 않는다. (완료 직후 늦게 도착한 샘플 등) */
+    private static final int MIN_SAMPLES_FOR_RESULT = 10;
+
+    /** 휠 틱 간격 / 버킷 수 (한 바퀴 약 2분, 그보다 먼 마감은 바퀴 수로 표현) */
+    private static final long TICK_MILLIS = 250L;
+    private static final int WHEEL_SIZE = 512;
+
+    private final LiveDroneStateStore liveDroneStateStore;
+    private final DroneRegistryService droneRegistryService;
+    private final DroneSessionService droneSessionService;
+    private final MissionCourseService missionCourseService;
+    private final DroneMissionResultService droneMissionResultService;
+    private final Scheduler telemetryScheduler;
+
+    private final HashedTimingWheel wheel;
+
+    public SessionExpiryService(LiveDroneStateStore liveDroneStateStore,
+                                DroneRegistryService droneRegistryService,
+                                DroneSessionService droneSessionService,
+                                MissionCourseService missionCourseService,
+                                DroneMissionResultService droneMissionResultService,
+                                Scheduler telemetryScheduler) {
+        this.liveDroneStateStore = liveDroneStateStore;
+        this.droneRegistryService = droneRegistryService;
+        this.droneSessionService = droneSessionService;
+        this.missionCourseService = missionCourseService;
+        this.droneMissionResultService = droneMissionResultService;
+        this.telemetryScheduler = telemetryScheduler;
+        this.wheel = new HashedTimingWheel("session-expiry-wheel", TICK_MILLIS, WHEEL_SIZE, this::onExpired);
+    }
+
+    /**
+     * 새 세션의 첫 마감 시각을 등록한다. (세션 시작 시 1회, O(1))
+     * - 호출자가 lockFor(droneKey) 를 잡고 있어야 한다.
+     */
+    public void onSessionStarted(int slot) {
+        long startedAt = liveDroneStateStore.getSessionStartedAt(slot);
+        long deadline = Math.min(startedAt + IDLE_TIMEOUT_MILLIS,
+                limitDeadline(liveDroneStateStore.getMissionId(slot), startedAt));
+        wheel.schedule(liveDroneStateStore.getDroneKey(slot), startedAt, deadline);
+    }
+
+    /**
+     * 타이머 만료 처리 (휠 스레드)
+     *
+     * @param droneKey  드론 정수 키
+     * @param startedAt 타이머 등록 당시 세션 시작 시각 (다른 세션이면 무시)
+     */
+    private void onExpired(int droneKey, long startedAt) {
+        ExpiredSession expired;
+        ReentrantLock droneLock = liveDroneStateStore.lockFor(droneKey);
+        droneLock.lock();
+        try {
+            int slot = liveDroneStateStore.find(droneKey);
+            if (slot < 0 || liveDroneStateStore.getSessionStartedAt(slot) != startedAt) {
+                return; // 이미 종료되었거나 새 세션이 시작됨
+            }
+
+            long now = System.currentTimeMillis();
+
+            // 이미 실패 처리된 세션: 프레임이 끊기면 표시를 해제한다. (결과는 만료 시점에 저장됨)
+            if (liveDroneStateStore.hasFlag(slot, LiveDroneStateStore.FLAG_EXPIRED)) {
+                long releaseAt = liveDroneStateStore.getLastSampleAt(slot) + IDLE_TIMEOUT_MILLIS;
+                if (now >= releaseAt) {
+                    droneSessionService.release(droneKey, slot);
+                } else {
+                    wheel.schedule(droneKey, startedAt, releaseAt);
+                }
+                return;
+            }
+
+            long missionId = liveDroneStateStore.getMissionId(slot);
+            long limitDeadline = limitDeadline(missionId, startedAt);
+            long lastSampleAt = liveDroneStateStore.getLastSampleAt(slot);
+            long idleDeadline = Math.max(lastSampleAt, startedAt) + IDLE_TIMEOUT_MILLIS;
+
+            MissionResultStatus status;
+            long endedAt;
+            if (now >= limitDeadline) {
+                status = MissionResultStatus.FAIL;
+                endedAt = limitDeadline;
+            } else if (now >= idleDeadline) {
+                status = MissionResultStatus.ABORT;
+                endedAt = Math.max(lastSampleAt, startedAt);
+            } else {
+                wheel.schedule(droneKey, startedAt, Math.min(idleDeadline, limitDeadline));
+                return;
+            }
+
+            expired = new ExpiredSession(
+                    liveDroneStateStore.getUserId(slot),
+                    missionId,
+                    status,
+                    (endedAt - startedAt) / 1000.0,
+                    liveDroneStateStore.getDeviationCount(slot),
+                    liveDroneStateStore.getCollisionCount(slot),
+                    liveDroneStateStore.getSampleCount(slot)
+            );
+            if (status == MissionResultStatus.FAIL && isRecordable(expired)) {
+                droneSessionService.markExpired(droneKey, slot);
+                liveDroneStateStore.touch(slot, now);
+                wheel.schedule(droneKey, startedAt, now + IDLE_TIMEOUT_MILLIS);
+            } else {
+                droneSessionService.release(droneKey, slot);
+            }
+        } finally {
+            droneLock.unlock();
+        }
+
+        if (!isRecordable(expired)) {
+            return;
+        }
+
+        // 결과 저장(DB)은 휠 스레드를 막지 않도록 텔레메트리 스케줄러로 넘긴다.
+        String droneId = droneRegistryService.resolveDroneId(droneKey);
+        telemetryScheduler.schedule(() -> {
+            try {
+                droneMissionResultService.recordExpiredSession(expired.userId(), expired.missionId(), droneId,
+                        expired.status(), expired.totalTime(), expired.deviationCount(), expired.collisionCount());
+                log.info("비행 세션 자동 만료 - drone {}, mission {}, status {}",
+                        droneId, expired.missionId(), expired.status());
+            } catch (Exception e) {
+                log.error("만료 세션 결과 저장 실패 - drone {}, mission {}", droneId, expired.missionId(), e);
+            }
+        });
+    }
+
+    /**
+     * 결과를 남길 세션인지 (사용자가 있고 샘플이 충분한 경우)
+     */
+    private static boolean isRecordable(ExpiredSession expired) {
+        return expired.userId() > 0 && expired.sampleCount() >= MIN_SAMPLES_FOR_RESULT;
+    }
+
+    /**
+     * 미션 제한 시간 기준 마감 시각 (제한이 없으면 Long.MAX_VALUE)
+     */
+    private long limitDeadline(long missionId, long startedAt) {
+        long limit = missionCourseService.getTimeLimitMillis(missionId);
+        return limit > 0 ? startedAt + limit : Long.MAX_VALUE;
+    }
+
+    /**
+     * 레코드 해제 전에 복사해 둔 만료 세션 정보
+     */
+    private record ExpiredSession(long userId, long missionId, MissionResultStatus status,
+                                  double totalTime, int deviationCount, int collisionCount, int sampleCount) {
+    }
+
+    @Override
+    public void start() {
+        wheel.start();
+    }
+
+    @Override
+    public void stop() {
+        wheel.stop();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return wheel.isRunning();
+    }
+}
@@ -0,0 +1,151 @@
+package com.mtvs.flykidsbackend.domain.drone.service;
+
+import com.mtvs.flykidsbackend.domain.drone.dto.RoutePointRequestDto;
+import com.mtvs.flykidsbackend.domain.drone.model.RouteSimplifier;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * 경로 파일 등록용 스트리밍 단순화 핸들러
+ *
+ * RouteSimplifier 와 같은 규칙(최소 간격보다 가까운 포인트 제거 + 고정 포인트 사이 Douglas-Peucker)을
+ * 파일 파서가 넘기는 포인트 스트림에 그대로 적용하고, 남은 포인트만 downstream 으로 넘긴다.
+ * - 직전 고정 포인트(앵커) 이후 포인트만 버퍼에 모았다가 다음 고정 포인트가 오면 단순화한다.
+ * - 버퍼가 WINDOW_SIZE 에 차면 마지막 포인트를 고정 포인트로 보고 구간을 끊는다.
+ *   (긴 일직선 구간에서도 파일 크기와 무관하게 메모리 사용량이 일정)
+ * - 파서가 DTO 를 재사용하므로 버퍼에는 복사본을 넣는다.
+ *
+ * 파일을 다 읽은 뒤 finish() 를 호출해야 남은 구간과 마지막 포인트가 넘어간다.
+ */
+public class SimplifyingPointHandler implements RouteFileReader.PointHandler {
+
+    /** 한 번에 단순화하는 최대 포인트 수 (앵커 포함) */
+    static final int WINDOW_SIZE = 4_096;
+
+    private final RouteFileReader.PointHandler downstream;
+
+    /** window[0] 은 이미 넘긴 앵커 포인트 */
+    private final RoutePointRequestDto[] window = new RoutePointRequestDto[WINDOW_SIZE];
+    private int size;
+
+    /** 직전에 받은 포인트 (고정 포인트 판단용) */
+    private RoutePointRequestDto previous;
+
+    /** 최소 간격 때문에 버린 마지막 포인트 (파일의 마지막 포인트라면 finish 에서 살린다) */
+    private RoutePointRequestDto skipped;
+
+    private long receivedCount;
+    private long emittedCount;
+
+    public SimplifyingPointHandler(RouteFileReader.PointHandler downstream) {
+        this.downstream = downstream;
+    }
+
+    @Override
+    public void accept(RoutePointRequestDto point) throws SQLException {
+        RoutePointRequestDto copy = copyOf(point);
+        receivedCount++;
+        boolean pinned = previous != null && RouteSimplifier.isPinned(previous, copy);
+        previous = copy;
+
+        if (size == 0) {
+            // 첫 포인트
+            emit(copy);
+            window[size++] = copy;
+            return;
+        }
+        if (pinned) {
+            skipped = null;
+            window[size++] = copy;
+            flush();
+            return;
+        }
+        if (distanceSq(window[size - 1], copy) < RouteSimplifier.MIN_SPACING * RouteSimplifier.MIN_SPACING) {
+            skipped = copy;
+            return;
+        }
+        skipped = null;
+        window[size++] = copy;
+        if (size == WINDOW_SIZE) {
+            flush();
+        }
+    }
+
+    /**
+     * 남은 구간을 단순화해 넘긴다. (마지막 포인트는 항상 남김)
+     *
+     * @return downstream 으로 넘긴 포인트 수
+     */
+    public long finish() throws SQLException {
+        if (skipped != null) {
+            window[size++] = skipped;
+            skipped = null;
+        }
+        flush();
+        return emittedCount;
+    }
+
+    /** 파서에서 받은 포인트 수 */
+    public long getReceivedCount() {
+        return receivedCount;
+    }
+
+    /** downstream 으로 넘긴 포인트 수 */
+    public long getEmittedCount() {
+        return emittedCount;
+    }
+
+    /**
+     * 앵커부터 버퍼 마지막 포인트까지 단순화해 앵커 이후 남은 포인트를 넘기고,
+     * 마지막 포인트를 새 앵커로 삼는다.
+     */
+    private void flush() throws SQLException {
+        if (size <= 1) {
+            return;
+        }
+        double[] xs = new double[size];
+        double[] ys = new double[size];
+        double[] zs = new double[size];
+        for (int i = 0; i < size; i++) {
+            xs[i] = window[i].getX();
+            ys[i] = window[i].getY();
+            zs[i] = window[i].getZ();
+        }
+        int[] kept = RouteSimplifier.simplifyIndices(xs, ys, zs, new boolean[size], RouteSimplifier.TOLERANCE);
+        for (int i = 1; i < kept.length; i++) {
+            emit(window[kept[i]]);
+        }
+
+        RoutePointRequestDto anchor = window[size - 1];
+        Arrays.fill(window, 1, size, null);
+        window[0] = anchor;
+        size = 1;
+    }
+
+    private void emit(RoutePointRequestDto point) throws SQLException {
+        downstream.accept(point);
+        emittedCount++;
+    }
+
+    private static double distanceSq(RoutePointRequestDto a, RoutePointRequestDto b) {
+        double dx = a.getX() - b.getX();
+        double dy = a.getY() - b.getY();
+        double dz = a.getZ() - b.getZ();
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private static RoutePointRequestDto copyOf(RoutePointRequestDto point) {
+        return RoutePointRequestDto.builder()
+                .missionId(point.getMissionId())
+                .x(point.getX())
+                .y(point.getY())
+                .z(point.getZ())
+                .rotationY(point.getRotationY())
+                .gate(point.getGate())
+                .horizontalTolerance(point.getHorizontalTolerance())
+                .minAltitude(point.getMinAltitude())
+                .maxAltitude(point.getMaxAltitude())
+                .build();
+    }
+}
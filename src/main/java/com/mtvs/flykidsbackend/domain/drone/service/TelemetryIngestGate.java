@@ -0,0 +1,142 @@
+package com.mtvs.flykidsbackend.domain.drone.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 텔레메트리 수신 게이트
+ *
+ * 처리 중인 텔레메트리 프레임 수(backlog)를 추적하고, 애플리케이션 생명주기에 맞춰 수신을 제어한다.
+ * - 종료 시: 신규 프레임 수신 중단 → 처리 중인 프레임이 끝날 때까지 대기
+ *   (이후 TelemetryWriteLane 이 남은 위치/이탈 로그를 저장)
+ * - backlog 가 상한을 넘으면 Readiness 를 REFUSING_TRAFFIC 으로 전환해 로드밸런서가 트래픽을 돌리도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TelemetryIngestGate implements SmartLifecycle {
+
+    /** 이 값 이상 쌓이면 Readiness 를 REFUSING_TRAFFIC 으로 전환 */
+    private static final int BACKLOG_HIGH_WATERMARK = 2_000;
+
+    /** 이 값 이하로 내려오면 Readiness 를 ACCEPTING_TRAFFIC 으로 복구 */
+    private static final int BACKLOG_LOW_WATERMARK = 500;
+
+    /** 종료 시 대기 중인 프레임을 비우는 최대 시간 */
+    private static final long DRAIN_TIMEOUT_MILLIS = 20_000L;
+
+    /** 드레인 진행 상황 로그 주기 */
+    private static final long DRAIN_REPORT_INTERVAL_MILLIS = 1_000L;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile boolean accepting = false;
+    private volatile boolean saturated = false;
+
+    /**
+     * 프레임 처리 시작을 등록한다.
+     *
+     * @return 수신 가능하면 true, 종료(드레인) 중이면 false
+     */
+    public boolean tryEnter() {
+        if (!accepting) {
+            return false;
+        }
+        int backlog = inFlight.incrementAndGet();
+        if (backlog >= BACKLOG_HIGH_WATERMARK && !saturated) {
+            saturated = true;
+            log.warn("텔레메트리 backlog 상한 도달 ({}건) - Readiness REFUSING_TRAFFIC", backlog);
+            AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        }
+        return true;
+    }
+
+    /**
+     * 프레임 처리 완료를 등록한다.
+     */
+    public void exit() {
+        int backlog = inFlight.decrementAndGet();
+        if (saturated && backlog <= BACKLOG_LOW_WATERMARK && accepting) {
+            saturated = false;
+            log.info("텔레메트리 backlog 해소 ({}건) - Readiness ACCEPTING_TRAFFIC", backlog);
+            AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+        }
+    }
+
+    /** 현재 처리 중인 프레임 수 */
+    public int getBacklog() {
+        return inFlight.get();
+    }
+
+    /** backlog 상한 대비 현재 backlog 비율 (0.0 ~ ) */
+    public double getLoadRatio() {
+        return (double) inFlight.get() / BACKLOG_HIGH_WATERMARK;
+    }
+
+    /** 신규 프레임 수신 가능 여부 */
+    public boolean isAccepting() {
+        return accepting;
+    }
+
+    @Override
+    public void start() {
+        accepting = true;
+    }
+
+    /**
+     * 종료 시 드레인 처리
+     * - 신규 수신 중단 후 Readiness 를 REFUSING_TRAFFIC 으로 전환
+     * - 처리 중인 프레임이 모두 끝나거나 제한 시간이 지날 때까지 대기하며 진행 상황을 기록
+     */
+    @Override
+    public void stop() {
+        accepting = false;
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+
+        long deadline = System.currentTimeMillis() + DRAIN_TIMEOUT_MILLIS;
+        long nextReport = 0L;
+        log.info("텔레메트리 드레인 시작 - 처리 대기 {}건", inFlight.get());
+
+        while (inFlight.get() > 0 && System.currentTimeMillis() < deadline) {
+            long now = System.currentTimeMillis();
+            if (now >= nextReport) {
+                log.info("텔레메트리 드레인 진행 중 - 남은 작업 {}건, 남은 시간 {}ms",
+                        inFlight.get(), deadline - now);
+                nextReport = now + DRAIN_REPORT_INTERVAL_MILLIS;
+            }
+            try {
+                Thread.sleep(50L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        if (inFlight.get() > 0) {
+            log.warn("텔레메트리 드레인 제한 시간 초과 - 미처리 {}건", inFlight.get());
+        } else {
+            log.info("텔레메트리 드레인 완료");
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return accepting;
+    }
+
+    /**
+     * 웹 서버 종료보다 먼저 수신을 막기 위해 가장 높은 phase 사용
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE;
+    }
+}
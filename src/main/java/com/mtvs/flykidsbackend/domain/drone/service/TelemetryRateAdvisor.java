@@ -0,0 +1,123 @@
+package com.mtvs.flykidsbackend.domain.drone.service;
+
+import com.mtvs.flykidsbackend.domain.drone.state.LiveDroneStateStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 텔레메트리 전송 주기 권고 컴포넌트
+ *
+ * 드론 상태와 서버 부하를 바탕으로 클라이언트가 다음 위치를 보낼 간격(ms)을 계산한다.
+ * - 경고(충돌, 고도/경로 이탈) 상황: 최소 간격으로 촘촘하게 수신
+ * - 경로 위에서 안정적으로 비행 중이거나 정지 상태: 간격을 늘려 트래픽 절감
+ * - 서버 부하(처리 지연, backlog)가 높을수록 정상 상태의 간격을 추가로 늘린다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TelemetryRateAdvisor {
+
+    /** 경고 상황 전송 간격 (ms) */
+    private static final int MIN_INTERVAL_MS = 100;
+
+    /** 기본 전송 간격 (ms) */
+    private static final int BASE_INTERVAL_MS = 200;
+
+    /** 경로 위 안정 비행 시 전송 간격 (ms) */
+    private static final int STABLE_INTERVAL_MS = 400;
+
+    /** 최대 전송 간격 (ms) */
+    private static final int MAX_INTERVAL_MS = 1_000;
+
+    /** 안정 상태로 판단하기 위한 최소 샘플 수 */
+    private static final int STABLE_MIN_SAMPLES = 10;
+
+    /** 정지 상태로 판단하는 속도 (m/s) */
+    private static final float IDLE_SPEED = 0.2f;
+
+    /** 목표 처리 지연 (ms) - 이 값을 넘으면 부하로 판단 */
+    private static final double TARGET_LATENCY_MS = 50.0;
+
+    /** 처리 지연 지수이동평균 가중치 */
+    private static final double LATENCY_EWMA_ALPHA = 0.05;
+
+    private final LiveDroneStateStore liveDroneStateStore;
+    private final TelemetryIngestGate telemetryIngestGate;
+    private final TelemetryWriteLane telemetryWriteLane;
+
+    /** 처리 지연 지수이동평균 (ms, double 비트) - 여러 스레드가 동시에 갱신하므로 CAS 로 반영 */
+    private final AtomicLong latencyEwmaBits = new AtomicLong(Double.doubleToRawLongBits(0.0));
+
+    /** 판단 시간 예산을 넘겨 주의 응답으로 대신한 프레임 수 (누적) */
+    private final AtomicLong evaluationTimeouts = new AtomicLong();
+
+    /**
+     * 프레임 1건의 처리 지연을 기록한다.
+     *
+     * @param latencyNanos 수신부터 응답까지 걸린 시간 (ns)
+     */
+    public void recordIngestLatency(long latencyNanos) {
+        double latencyMillis = latencyNanos / 1_000_000.0;
+        long prev;
+        long next;
+        do {
+            prev = latencyEwmaBits.get();
+            double ewma = Double.longBitsToDouble(prev);
+            next = Double.doubleToRawLongBits(ewma + LATENCY_EWMA_ALPHA * (latencyMillis - ewma));
+        } while (!latencyEwmaBits.compareAndSet(prev, next));
+    }
+
+    /** 처리 지연 지수이동평균 (ms) */
+    public double getLatencyEwmaMillis() {
+        return Double.longBitsToDouble(latencyEwmaBits.get());
+    }
+
+    /**
+     * 판단 시간 예산 초과로 주의 응답을 대신 보낸 프레임 1건을 기록한다.
+     */
+    public void recordEvaluationTimeout() {
+        evaluationTimeouts.incrementAndGet();
+    }
+
+    /** 판단 시간 예산 초과 프레임 수 (누적) */
+    public long getEvaluationTimeouts() {
+        return evaluationTimeouts.get();
+    }
+
+    /**
+     * 다음 전송 간격을 계산한다.
+     *
+     * @param status 이번 프레임의 판단 결과 상태
+     * @param slot   실시간 상태 저장소 슬롯
+     * @return 권장 전송 간격 (ms)
+     */
+    public int adviseInterval(String status, int slot) {
+        if (!"OK".equals(status)) {
+            return MIN_INTERVAL_MS;
+        }
+
+        int interval = BASE_INTERVAL_MS;
+        boolean deviating = liveDroneStateStore.hasFlag(slot, LiveDroneStateStore.FLAG_DEVIATING);
+        if (!deviating && liveDroneStateStore.getSampleCount(slot) >= STABLE_MIN_SAMPLES) {
+            float vx = liveDroneStateStore.getVx(slot);
+            float vy = liveDroneStateStore.getVy(slot);
+            float vz = liveDroneStateStore.getVz(slot);
+            boolean idle = vx * vx + vy * vy + vz * vz < IDLE_SPEED * IDLE_SPEED;
+            interval = idle ? MAX_INTERVAL_MS : STABLE_INTERVAL_MS;
+        }
+
+        return (int) Math.min(MAX_INTERVAL_MS, Math.round(interval * loadFactor()));
+    }
+
+    /**
+     * 서버 부하 계수 (1.0 ~ 3.0)
+     * - 수신 backlog 비율, 저장 큐 비율, 처리 지연 초과 비율 중 가장 큰 값을 사용
+     */
+    private double loadFactor() {
+        double backlogRatio = Math.max(telemetryIngestGate.getLoadRatio(), telemetryWriteLane.getLoadRatio());
+        double latencyRatio = getLatencyEwmaMillis() / TARGET_LATENCY_MS - 1.0;
+        double pressure = Math.max(0.0, Math.max(backlogRatio, latencyRatio));
+        return 1.0 + Math.min(2.0, pressure);
+    }
+}
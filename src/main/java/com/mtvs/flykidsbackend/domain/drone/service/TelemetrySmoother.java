@@ -0,0 +1,175 @@
+package com.mtvs.flykidsbackend.domain.drone.service;
+
+import com.mtvs.flykidsbackend.domain.drone.entity.DronePositionLog;
+import com.mtvs.flykidsbackend.domain.drone.model.CompiledRoute;
+import com.mtvs.flykidsbackend.domain.drone.state.LiveDroneStateStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 텔레메트리 평활화 필터 (드론별 alpha-beta 필터)
+ *
+ * 유니티 클라이언트 좌표의 프레임 떨림 때문에 한계선 근처에서 경고가 켜졌다 꺼졌다 하는 것을 막기 위해
+ * 위험 판단 전에 위치를 평활화한다.
+ * - 필터 상태(위치, 속도)는 별도 객체 없이 실시간 상태 저장소 레코드의 X/Y/Z, VX/VY/VZ 를 그대로 쓴다.
+ * - 첫 샘플, 샘플 간격이 너무 긴 경우에는 필터를 측정값으로 다시 맞춘다.
+ * - 예측과 측정 차이가 너무 큰 샘플(튀는 값)은 이상치로 보고 예측 위치를 유지한다.
+ *   이상치가 OUTLIER_HOLD_SAMPLES 번 넘게 이어지면 실제 이동(순간이동, 리스폰)으로 보고 측정값으로 다시 맞춘다.
+ * - 샘플 간격은 MIN_DT_MILLIS 이상으로 보정해 몰려 도착한 프레임이 속도를 튀게 하지 않는다.
+ *
+ * 효과 확인용으로 같은 샘플을 원본 좌표와 평활화 좌표로 같은 조건(현재 구간 통로)에서 판정해
+ * 세션별 이탈 수를 따로 센다. (경고 판단 순서와 무관하게 매 샘플 집계)
+ * 세션 종료 시 평활화 전/후 이탈 수를 로그로 남기고 누적 카운터에 더한다. (헬스 API 로 조회)
+ *
+ * 같은 드론에 대한 호출은 LiveDroneStateStore.lockFor(droneKey) 안에서 이뤄져야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TelemetrySmoother {
+
+    /** 위치 보정 계수 (클수록 측정값을 빨리 따라감) */
+    private static final float ALPHA = 0.6f;
+
+    /** 속도 보정 계수 */
+    private static final float BETA = 0.2f;
+
+    /** 샘플 간격이 이보다 길면 필터를 다시 맞춘다. (ms) */
+    private static final long MAX_SAMPLE_GAP_MILLIS = 1_000L;
+
+    /** 샘플 간격 하한 (ms) - 이보다 짧은 간격은 이 값으로 계산한다. */
+    private static final long MIN_DT_MILLIS = 50L;
+
+    /** 예측 위치와 측정 위치 차이가 이보다 크면 이상치로 본다. (m) */
+    private static final float OUTLIER_RESIDUAL = 3.0f;
+
+    /** 이상치를 무시하고 예측을 유지하는 최대 연속 샘플 수 (넘으면 측정값으로 다시 맞춤) */
+    private static final int OUTLIER_HOLD_SAMPLES = 3;
+
+    private final LiveDroneStateStore liveDroneStateStore;
+
+    /** 종료된 세션들의 누적 이탈 샘플 수 (평활화 전/후) */
+    private final AtomicLong totalRawDeviations = new AtomicLong();
+    private final AtomicLong totalFilteredDeviations = new AtomicLong();
+    private final AtomicLong reportedSessions = new AtomicLong();
+
+    /**
+     * 측정 위치를 필터에 반영하고 평활화된 위치 로그를 만든다.
+     * - 추정 속도는 레코드에 바로 기록하고, 위치는 호출자가 recordSample 로 기록한다.
+     *
+     * @param slot 실시간 상태 저장소 슬롯 (현재 샘플 기록 전)
+     * @param raw  클라이언트가 보낸 원본 위치 로그
+     * @return 평활화된 위치 로그 (드론 키, 미션, 기수, 시각은 원본과 같음)
+     */
+    public DronePositionLog filter(int slot, DronePositionLog raw) {
+        if (!liveDroneStateStore.hasFlag(slot, LiveDroneStateStore.FLAG_HAS_SAMPLE)) {
+            return reset(slot, raw);
+        }
+        long dtMillis = raw.getLoggedAt() - liveDroneStateStore.getLastSampleAt(slot);
+        if (dtMillis > MAX_SAMPLE_GAP_MILLIS) {
+            return reset(slot, raw);
+        }
+
+        float dt = Math.max(dtMillis, MIN_DT_MILLIS) / 1000f;
+        float vx = liveDroneStateStore.getVx(slot);
+        float vy = liveDroneStateStore.getVy(slot);
+        float vz = liveDroneStateStore.getVz(slot);
+
+        // 예측
+        float px = liveDroneStateStore.getX(slot) + vx * dt;
+        float py = liveDroneStateStore.getY(slot) + vy * dt;
+        float pz = liveDroneStateStore.getZ(slot) + vz * dt;
+
+        // 잔차
+        float rx = raw.getX() - px;
+        float ry = raw.getY() - py;
+        float rz = raw.getZ() - pz;
+        if (rx * rx + ry * ry + rz * rz > OUTLIER_RESIDUAL * OUTLIER_RESIDUAL) {
+            int streak = liveDroneStateStore.getOutlierStreak(slot) + 1;
+            if (streak > OUTLIER_HOLD_SAMPLES) {
+                return reset(slot, raw);
+            }
+            // 이상치: 측정값은 버리고 예측 위치를 유지 (속도 유지)
+            liveDroneStateStore.setOutlierStreak(slot, streak);
+            return copyWithPosition(raw, px, py, pz);
+        }
+        liveDroneStateStore.setOutlierStreak(slot, 0);
+
+        // 보정
+        float gain = BETA / dt;
+        liveDroneStateStore.setVelocity(slot, vx + gain * rx, vy + gain * ry, vz + gain * rz);
+        return copyWithPosition(raw, px + ALPHA * rx, py + ALPHA * ry, pz + ALPHA * rz);
+    }
+
+    /**
+     * 원본 좌표와 평활화 좌표가 각각 현재 구간의 통로(고도 범위, 허용 수평 거리)를 벗어났으면
+     * 해당 이탈 수를 증가시킨다.
+     * - 판정 결과에는 영향을 주지 않는 비교용 집계이며, 두 좌표를 같은 구간과 같은 조건으로 판정한다.
+     *
+     * @param slot     실시간 상태 저장소 슬롯
+     * @param route    컴파일된 기준 경로
+     * @param raw      원본 위치 로그
+     * @param filtered 평활화된 위치 로그
+     */
+    public void countDeviations(int slot, CompiledRoute route, DronePositionLog raw, DronePositionLog filtered) {
+        int segment = liveDroneStateStore.getRouteSegment(slot);
+        if (!route.isWithinCorridor(segment, raw.getX(), raw.getY(), raw.getZ())) {
+            liveDroneStateStore.incrementRawDeviationCount(slot);
+        }
+        if (!route.isWithinCorridor(segment, filtered.getX(), filtered.getY(), filtered.getZ())) {
+            liveDroneStateStore.incrementFilteredDeviationCount(slot);
+        }
+    }
+
+    /**
+     * 세션 종료 시 평활화 전/후 이탈 수를 기록한다. (레코드 해제 전, lockFor 안에서 호출)
+     */
+    void reportSession(int slot) {
+        int raw = liveDroneStateStore.getRawDeviationCount(slot);
+        int filtered = liveDroneStateStore.getFilteredDeviationCount(slot);
+        totalRawDeviations.addAndGet(raw);
+        totalFilteredDeviations.addAndGet(filtered);
+        reportedSessions.incrementAndGet();
+        log.debug("세션 이탈 수 - mission {}, 샘플 {}, 원본 {}, 평활화 {}",
+                liveDroneStateStore.getMissionId(slot), liveDroneStateStore.getSampleCount(slot), raw, filtered);
+    }
+
+    /** 종료된 세션들의 원본 좌표 기준 누적 이탈 샘플 수 */
+    public long getTotalRawDeviations() {
+        return totalRawDeviations.get();
+    }
+
+    /** 종료된 세션들의 평활화 좌표 기준 누적 이탈 샘플 수 */
+    public long getTotalFilteredDeviations() {
+        return totalFilteredDeviations.get();
+    }
+
+    /** 이탈 수를 집계한 종료 세션 수 */
+    public long getReportedSessions() {
+        return reportedSessions.get();
+    }
+
+    /**
+     * 필터를 측정값으로 다시 맞춘다. (속도 0)
+     */
+    private DronePositionLog reset(int slot, DronePositionLog raw) {
+        liveDroneStateStore.setVelocity(slot, 0f, 0f, 0f);
+        liveDroneStateStore.setOutlierStreak(slot, 0);
+        return copyWithPosition(raw, raw.getX(), raw.getY(), raw.getZ());
+    }
+
+    private DronePositionLog copyWithPosition(DronePositionLog raw, float x, float y, float z) {
+        return DronePositionLog.builder()
+                .droneKey(raw.getDroneKey())
+                .missionId(raw.getMissionId())
+                .x(x)
+                .y(y)
+                .z(z)
+                .rotationY(raw.getRotationY())
+                .loggedAt(raw.getLoggedAt())
+                .build();
+    }
+}
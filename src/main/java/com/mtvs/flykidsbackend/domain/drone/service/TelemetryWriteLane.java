@@ -0,0 +1,198 @@
+package com.mtvs.flykidsbackend.domain.drone.service;
+
+import com.mtvs.flykidsbackend.domain.drone.entity.DronePositionLog;
+import com.mtvs.flykidsbackend.domain.drone.entity.RouteDeviationLog;
+import com.mtvs.flykidsbackend.domain.drone.repository.DronePositionLogRepository;
+import com.mtvs.flykidsbackend.domain.drone.repository.RouteDeviationLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 텔레메트리 저장 전용 저우선순위 레인
+ *
+ * 위치 로그, 이탈 로그 저장을 판단/응답 경로에서 분리해 백그라운드에서 배치로 처리한다.
+ * - 판단 경로는 큐에 넣기만 하고(non-blocking) 즉시 응답한다.
+ * - 큐가 SHED_THRESHOLD 이상 차면 위치 로그부터 버리고(shed), 가득 차면 이탈 로그도 버린다.
+ * - 종료 시 남은 로그를 제한 시간 안에 모두 저장한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TelemetryWriteLane implements SmartLifecycle {
+
+    /** 큐 최대 크기 */
+    private static final int QUEUE_CAPACITY = 50_000;
+
+    /** 이 크기 이상이면 위치 로그를 버린다. */
+    private static final int SHED_THRESHOLD = 40_000;
+
+    /** 한 번에 저장할 최대 로그 수 */
+    private static final int BATCH_SIZE = 500;
+
+    /** 저장 작업 스레드 수 */
+    private static final int WORKER_COUNT = 2;
+
+    /** 종료 시 남은 로그 저장 제한 시간 */
+    private static final long FLUSH_TIMEOUT_MILLIS = 20_000L;
+
+    private final DronePositionLogRepository dronePositionLogRepository;
+    private final RouteDeviationLogRepository routeDeviationLogRepository;
+
+    private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final AtomicLong shedPositionLogs = new AtomicLong();
+    private final AtomicLong droppedDeviationLogs = new AtomicLong();
+
+    private volatile boolean running = false;
+    private ExecutorService workers;
+
+    /**
+     * 위치 로그 저장 요청 (과부하 시 버려질 수 있음)
+     */
+    public void submitPositionLog(DronePositionLog positionLog) {
+        if (queue.size() >= SHED_THRESHOLD || !queue.offer(positionLog)) {
+            shedPositionLogs.incrementAndGet();
+        }
+    }
+
+    /**
+     * 이탈/충돌 로그 저장 요청 (큐가 가득 찬 경우에만 버려짐)
+     */
+    public void submitDeviationLog(RouteDeviationLog deviationLog) {
+        if (!queue.offer(deviationLog)) {
+            droppedDeviationLogs.incrementAndGet();
+        }
+    }
+
+    /** 저장 대기 중인 로그 수 */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /** shed 기준 대비 큐 사용 비율 (0.0 ~ ) */
+    public double getLoadRatio() {
+        return (double) queue.size() / SHED_THRESHOLD;
+    }
+
+    /** 과부하로 버려진 위치 로그 수 (누적) */
+    public long getShedPositionLogs() {
+        return shedPositionLogs.get();
+    }
+
+    /** 큐 포화로 버려진 이탈 로그 수 (누적) */
+    public long getDroppedDeviationLogs() {
+        return droppedDeviationLogs.get();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        AtomicInteger sequence = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(WORKER_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "telemetry-writer-" + sequence.incrementAndGet());
+            thread.setPriority(Thread.MIN_PRIORITY);
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < WORKER_COUNT; i++) {
+            workers.execute(this::drainLoop);
+        }
+    }
+
+    /**
+     * 종료 시 남은 로그 저장
+     * - 작업 스레드는 큐가 빌 때까지 계속 저장하고 종료한다.
+     * - 제한 시간 동안 진행 상황을 1초마다 기록한다.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        workers.shutdown();
+        long deadline = System.currentTimeMillis() + FLUSH_TIMEOUT_MILLIS;
+        log.info("텔레메트리 저장 레인 flush 시작 - 대기 로그 {}건", queue.size());
+        try {
+            while (!workers.awaitTermination(1, TimeUnit.SECONDS)) {
+                if (System.currentTimeMillis() >= deadline) {
+                    log.warn("텔레메트리 저장 레인 flush 제한 시간 초과 - 미저장 {}건", queue.size());
+                    workers.shutdownNow();
+                    return;
+                }
+                log.info("텔레메트리 저장 레인 flush 진행 중 - 남은 로그 {}건", queue.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            workers.shutdownNow();
+            return;
+        }
+        log.info("텔레메트리 저장 레인 flush 완료 (누적 shed 위치 로그 {}건, 누락 이탈 로그 {}건)",
+                shedPositionLogs.get(), droppedDeviationLogs.get());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 수신 게이트(TelemetryIngestGate)가 먼저 멈춘 뒤 flush 하도록 한 단계 낮은 phase 사용
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 1;
+    }
+
+    private void drainLoop() {
+        List<Object> batch = new ArrayList<>(BATCH_SIZE);
+        while (running || !queue.isEmpty()) {
+            try {
+                Object first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Object> batch) {
+        List<DronePositionLog> positionLogs = new ArrayList<>();
+        List<RouteDeviationLog> deviationLogs = new ArrayList<>();
+        for (Object item : batch) {
+            if (item instanceof DronePositionLog positionLog) {
+                positionLogs.add(positionLog);
+            } else if (item instanceof RouteDeviationLog deviationLog) {
+                deviationLogs.add(deviationLog);
+            }
+        }
+
+        try {
+            if (!deviationLogs.isEmpty()) {
+                routeDeviationLogRepository.saveAll(deviationLogs);
+            }
+            if (!positionLogs.isEmpty()) {
+                dronePositionLogRepository.saveAll(positionLogs);
+            }
+        } catch (Exception e) {
+            log.error("텔레메트리 로그 저장 실패 - 위치 {}건, 이탈 {}건 누락",
+                    positionLogs.size(), deviationLogs.size(), e);
+        }
+    }
+}
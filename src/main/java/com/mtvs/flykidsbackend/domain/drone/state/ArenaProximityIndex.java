@@ -0,0 +1,203 @@
+package com.mtvs.flykidsbackend.domain.drone.state;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공유 아레나(같은 미션) 드론 간 근접 감지 인덱스
+ *
+ * 미션별로 공간 해시 격자(셀 크기 = 근접 반경)를 유지한다.
+ * - 샘플마다 드론이 속한 셀만 갱신 (셀이 바뀐 경우에만 이동)
+ * - 근접 검사는 주변 27개 셀에 있는 드론만 확인하므로 전체 쌍 비교(O(n²)) 없이 O(1)에 가깝다.
+ * - 드론 좌표는 LiveDroneStateStore 레코드에서 읽고, 셀 키도 레코드에 저장한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ArenaProximityIndex {
+
+    /** 근접 경고 반경 (m) - 격자 셀 크기와 동일 */
+    public static final double NEAR_MISS_RADIUS = 1.0;
+
+    /** 이 시간 이상 샘플이 없는 드론은 아레나에서 제외 (ms) */
+    private static final long STALE_MILLIS = 2_000L;
+
+    private static final int CELL_BITS = 21;
+    private static final long CELL_MASK = (1L << CELL_BITS) - 1;
+    private static final int CELL_OFFSET = 1 << (CELL_BITS - 1);
+
+    private final LiveDroneStateStore liveDroneStateStore;
+
+    private final ConcurrentHashMap<Long, Arena> arenas = new ConcurrentHashMap<>();
+
+    /**
+     * 드론 위치를 아레나 격자에 반영하고, 반경 안의 가장 가까운 다른 드론을 찾는다.
+     * - 호출자는 droneKey 의 상태 저장소 락을 보유하고 있어야 한다.
+     *
+     * @param droneKey  드론 정수 키
+     * @param slot      상태 저장소 슬롯
+     * @param missionId 아레나(미션) ID
+     * @param x,y,z     현재 좌표
+     * @param now       샘플 시각 (epoch ms)
+     * @return 가장 가까운 근접 드론 키 (없으면 -1)
+     */
+    public int update(int droneKey, int slot, long missionId, double x, double y, double z, long now) {
+        long cell = cellKey(cell(x), cell(y), cell(z));
+        Arena arena = arenas.computeIfAbsent(missionId, id -> new Arena());
+
+        synchronized (arena) {
+            boolean inArena = liveDroneStateStore.hasFlag(slot, LiveDroneStateStore.FLAG_IN_ARENA);
+            long previousCell = liveDroneStateStore.getArenaCell(slot);
+            if (!inArena || previousCell != cell) {
+                if (inArena) {
+                    arena.remove(previousCell, droneKey);
+                }
+                arena.add(cell, droneKey);
+                liveDroneStateStore.setArenaCell(slot, cell);
+                liveDroneStateStore.setFlag(slot, LiveDroneStateStore.FLAG_IN_ARENA, true);
+            } else if (!arena.contains(cell, droneKey)) {
+                // 다른 드론의 검사 중 유휴 상태로 지연 제거된 경우 다시 등록
+                arena.add(cell, droneKey);
+            }
+
+            return findNearest(arena, droneKey, missionId, x, y, z, now);
+        }
+    }
+
+    /**
+     * 드론을 아레나에서 제거한다. (세션 종료, 미션 변경 시)
+     * - 호출자는 droneKey 의 상태 저장소 락을 보유하고 있어야 한다.
+     */
+    public void remove(int droneKey, int slot) {
+        if (!liveDroneStateStore.hasFlag(slot, LiveDroneStateStore.FLAG_IN_ARENA)) {
+            return;
+        }
+        Arena arena = arenas.get(liveDroneStateStore.getMissionId(slot));
+        if (arena != null) {
+            synchronized (arena) {
+                arena.remove(liveDroneStateStore.getArenaCell(slot), droneKey);
+            }
+        }
+        liveDroneStateStore.setFlag(slot, LiveDroneStateStore.FLAG_IN_ARENA, false);
+    }
+
+    private int findNearest(Arena arena, int droneKey, long missionId, double x, double y, double z, long now) {
+        int cx = cell(x), cy = cell(y), cz = cell(z);
+        double bestDistSq = NEAR_MISS_RADIUS * NEAR_MISS_RADIUS;
+        int nearest = -1;
+
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dz = -1; dz <= 1; dz++) {
+                    long neighborCell = cellKey(cx + dx, cy + dy, cz + dz);
+                    IntBag bag = arena.cells.get(neighborCell);
+                    if (bag == null) {
+                        continue;
+                    }
+                    for (int i = bag.size - 1; i >= 0; i--) {
+                        int other = bag.values[i];
+                        if (other == droneKey) {
+                            continue;
+                        }
+                        int otherSlot = liveDroneStateStore.find(other);
+                        if (otherSlot < 0
+                                || liveDroneStateStore.getMissionId(otherSlot) != missionId
+                                || now - liveDroneStateStore.getLastSampleAt(otherSlot) > STALE_MILLIS) {
+                            // 떠난 드론은 지연 제거
+                            bag.removeAt(i);
+                            continue;
+                        }
+                        double ox = x - liveDroneStateStore.getX(otherSlot);
+                        double oy = y - liveDroneStateStore.getY(otherSlot);
+                        double oz = z - liveDroneStateStore.getZ(otherSlot);
+                        double distSq = ox * ox + oy * oy + oz * oz;
+                        if (distSq <= bestDistSq) {
+                            bestDistSq = distSq;
+                            nearest = other;
+                        }
+                    }
+                    if (bag.size == 0) {
+                        arena.cells.remove(neighborCell);
+                    }
+                }
+            }
+        }
+        return nearest;
+    }
+
+    private static int cell(double coordinate) {
+        return (int) Math.floor(coordinate / NEAR_MISS_RADIUS);
+    }
+
+    private static long cellKey(int cx, int cy, int cz) {
+        return ((cx + CELL_OFFSET) & CELL_MASK) << (CELL_BITS * 2)
+                | ((cy + CELL_OFFSET) & CELL_MASK) << CELL_BITS
+                | ((cz + CELL_OFFSET) & CELL_MASK);
+    }
+
+    /**
+     * 미션 1개의 공간 해시 격자 (셀 키 → 셀 안의 드론 키 목록)
+     */
+    private static final class Arena {
+        private final Map<Long, IntBag> cells = new HashMap<>();
+
+        void add(long cell, int droneKey) {
+            cells.computeIfAbsent(cell, c -> new IntBag()).add(droneKey);
+        }
+
+        boolean contains(long cell, int droneKey) {
+            IntBag bag = cells.get(cell);
+            return bag != null && bag.indexOf(droneKey) >= 0;
+        }
+
+        void remove(long cell, int droneKey) {
+            IntBag bag = cells.get(cell);
+            if (bag != null) {
+                bag.remove(droneKey);
+                if (bag.size == 0) {
+                    cells.remove(cell);
+                }
+            }
+        }
+    }
+
+    /**
+     * 박싱 없는 int 가변 배열 (순서 무관, swap-remove)
+     */
+    private static final class IntBag {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                int[] grown = new int[size * 2];
+                System.arraycopy(values, 0, grown, 0, size);
+                values = grown;
+            }
+            values[size++] = value;
+        }
+
+        int indexOf(int value) {
+            for (int i = 0; i < size; i++) {
+                if (values[i] == value) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        void remove(int value) {
+            int index = indexOf(value);
+            if (index >= 0) {
+                removeAt(index);
+            }
+        }
+
+        void removeAt(int index) {
+            values[index] = values[--size];
+        }
+    }
+}
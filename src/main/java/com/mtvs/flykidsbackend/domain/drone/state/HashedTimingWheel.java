@@ -0,0 +1,170 @@
+package com.mtvs.flykidsbackend.domain.drone.state;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 해시 타이밍 휠 (Hashed Timing Wheel)
+ *
+ * 비행 세션 마감 시각을 추적하는 단일 스레드 타이머다.
+ * - 등록: 대기 큐에 넣기만 하므로 O(1), 텔레메트리 스레드를 막지 않는다.
+ * - 틱마다 현재 버킷 하나만 확인하므로 등록된 타이머 수와 무관하게 틱 비용이 일정하다.
+ * - 휠 한 바퀴(tickMillis × wheelSize)보다 먼 마감은 남은 바퀴 수(rounds)로 표현한다.
+ *
+ * 취소 기능은 두지 않는다. 만료 콜백에서 token 으로 현재 세션과 비교해 지난 타이머를 무시한다.
+ */
+@Slf4j
+public final class HashedTimingWheel {
+
+    /**
+     * 만료 콜백 (휠 스레드에서 호출되므로 오래 걸리는 작업은 다른 스레드로 넘겨야 한다)
+     */
+    @FunctionalInterface
+    public interface ExpiryListener {
+        void onExpired(int droneKey, long token);
+    }
+
+    private static final class Timeout {
+        final int droneKey;
+        final long token;
+        final long deadline;
+        long remainingRounds;
+        Timeout next;
+
+        Timeout(int droneKey, long token, long deadline) {
+            this.droneKey = droneKey;
+            this.token = token;
+            this.deadline = deadline;
+        }
+    }
+
+    private final String name;
+    private final long tickMillis;
+    private final Timeout[] buckets;
+    private final int mask;
+    private final ExpiryListener listener;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean running;
+    private Thread worker;
+    private long startTime;
+    private long tick;
+
+    /**
+     * @param name       휠 스레드 이름
+     * @param tickMillis 틱 간격(ms)
+     * @param wheelSize  버킷 수 (2의 거듭제곱)
+     * @param listener   만료 콜백
+     */
+    public HashedTimingWheel(String name, long tickMillis, int wheelSize, ExpiryListener listener) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize 는 2의 거듭제곱이어야 합니다.");
+        }
+        this.name = name;
+        this.tickMillis = tickMillis;
+        this.buckets = new Timeout[wheelSize];
+        this.mask = wheelSize - 1;
+        this.listener = listener;
+    }
+
+    /**
+     * 타이머 등록 (O(1))
+     *
+     * @param droneKey       드론 정수 키
+     * @param token          만료 시 비교할 세션 식별 값
+     * @param deadlineMillis 마감 시각 (epoch ms)
+     */
+    public void schedule(int droneKey, long token, long deadlineMillis) {
+        pending.add(new Timeout(droneKey, token, deadlineMillis));
+    }
+
+    /** 버킷 반영 전 대기 중인 타이머 수 */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        startTime = System.currentTimeMillis();
+        worker = new Thread(this::run, name);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public synchronized void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker = null;
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            long sleep = startTime + (tick + 1) * tickMillis - System.currentTimeMillis();
+            if (sleep > 0) {
+                try {
+                    Thread.sleep(sleep);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+
+            transferPending();
+            expireBucket((int) (tick & mask));
+            tick++;
+        }
+    }
+
+    /**
+     * 대기 큐의 타이머를 마감 시각에 해당하는 버킷으로 옮긴다.
+     * - 이미 지난 마감은 현재 틱 버킷에 넣어 이번 틱에 만료시킨다.
+     */
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            long calculated = Math.max((timeout.deadline - startTime) / tickMillis, tick);
+            timeout.remainingRounds = (calculated - tick) / buckets.length;
+            int index = (int) (calculated & mask);
+            timeout.next = buckets[index];
+            buckets[index] = timeout;
+        }
+    }
+
+    private void expireBucket(int index) {
+        Timeout previous = null;
+        Timeout current = buckets[index];
+        while (current != null) {
+            Timeout next = current.next;
+            if (current.remainingRounds <= 0) {
+                if (previous == null) {
+                    buckets[index] = next;
+                } else {
+                    previous.next = next;
+                }
+                fire(current);
+            } else {
+                current.remainingRounds--;
+                previous = current;
+            }
+            current = next;
+        }
+    }
+
+    private void fire(Timeout timeout) {
+        try {
+            listener.onExpired(timeout.droneKey, timeout.token);
+        } catch (Exception e) {
+            log.error("세션 타이머 만료 처리 실패 - droneKey {}", timeout.droneKey, e);
+        }
+    }
+}
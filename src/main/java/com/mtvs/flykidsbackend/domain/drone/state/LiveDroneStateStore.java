@@ -0,0 +1,489 @@
+package com.mtvs.flykidsbackend.domain.drone.state;
+
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 비행 중인 드론의 실시간 상태 저장소 (Off-heap)
+ *
+ * 드론마다 힙 객체를 두지 않고, direct ByteBuffer 위에 고정 크기 레코드를 배치한다.
+ * 수만 대가 동시에 비행해도 GC 대상 객체가 늘어나지 않는다.
+ *
+ * <구성>
+ * - records: 드론 1대당 RECORD_SIZE 바이트의 고정 레코드 배열 (off-heap)
+ * - index: 드론 정수 키 → 레코드 슬롯 번호 (open addressing, key/slot 을 long 하나에 압축)
+ *   해제된 항목은 TOMBSTONE 으로 남고, 새 항목이 그 자리를 재사용한다.
+ *   TOMBSTONE 이 MAX_TOMBSTONES 를 넘으면 새 배열로 다시 해시해 교체한다. (탐색 길이가 늘어나지 않도록)
+ *
+ * <사용 방법>
+ * - acquire(droneKey)로 슬롯 번호를 얻은 뒤 슬롯 기반 getter/setter 로 필드를 읽고 쓴다.
+ * - 같은 드론의 판단+갱신은 lockFor(droneKey) 로 동기화한다.
+ * - 유휴 레코드 회수는 해당 드론의 락을 잡을 수 있을 때만 한다. (쓰는 중인 슬롯을 회수하지 않음)
+ */
+@Component
+public class LiveDroneStateStore {
+
+    /** 최대 동시 추적 드론 수 */
+    public static final int CAPACITY = 65_536;
+
+    /** 레코드 크기 (바이트) */
+    public static final int RECORD_SIZE = 192;
+
+    /** 레코드 내 필드 오프셋 */
+    private static final int OFF_DRONE_KEY = 0;        // int
+    private static final int OFF_FLAGS = 4;            // int
+    private static final int OFF_MISSION_ID = 8;       // long
+    private static final int OFF_LAST_SAMPLE_AT = 16;  // long (epoch ms)
+    private static final int OFF_X = 24;               // float (평활화된 위치)
+    private static final int OFF_Y = 28;               // float
+    private static final int OFF_Z = 32;               // float
+    private static final int OFF_ROTATION_Y = 36;      // float
+    private static final int OFF_VX = 40;              // float (평활화 필터 추정 속도, m/s)
+    private static final int OFF_VY = 44;              // float
+    private static final int OFF_VZ = 48;              // float
+    private static final int OFF_SAMPLE_COUNT = 52;    // int
+    private static final int OFF_DEVIATION_COUNT = 56; // int
+    private static final int OFF_COLLISION_COUNT = 60; // int
+    private static final int OFF_SESSION_START = 64;   // long (epoch ms)
+    private static final int OFF_ARENA_CELL = 72;      // long (공간 해시 셀 키)
+    private static final int OFF_COIN_BITS = 80;       // long × 2 (수집한 코인 비트셋, 최대 128개)
+    private static final int OFF_PHOTO_BITS = 96;      // long (촬영한 목표 비트셋, 최대 64개)
+    private static final int OFF_ROUTE_SEGMENT = 104;  // int (현재 경로 구간 인덱스)
+    private static final int OFF_ROUTE_ARC = 108;      // float (경로상 누적 호 길이, m)
+    private static final int OFF_NEXT_GATE = 112;      // int (다음에 통과해야 할 게이트 순번)
+    private static final int OFF_GATES_PASSED = 116;   // int (순서대로 통과한 게이트 수)
+    private static final int OFF_USER_ID = 120;        // long (세션 사용자 ID, 없으면 0)
+    private static final int OFF_RAW_DEVIATION_COUNT = 128; // int (필터 적용 전 원본 좌표 기준 이탈 샘플 수)
+    private static final int OFF_FILTERED_DEVIATION_COUNT = 132; // int (평활화 좌표 기준 이탈 샘플 수, 원본과 같은 조건으로 집계)
+    private static final int OFF_OUTLIER_STREAK = 136; // int (평활화 필터가 연속으로 무시한 이상치 샘플 수)
+    private static final int OFF_RAW_X = 140;          // float (직전 원본 위치, 충돌 추정용)
+    private static final int OFF_RAW_Y = 144;          // float
+    private static final int OFF_RAW_Z = 148;          // float
+    private static final int OFF_RAW_SPEED = 152;      // float (직전 원본 샘플 간 이동 속도, m/s)
+    // 156 ~ 159: 예약 (정렬)
+    private static final int OFF_ROUTE_RESCAN_AT = 160; // long (경로 전체 구간을 마지막으로 다시 탐색한 샘플 시각, epoch ms)
+    // 168 ~ 191: 예약
+
+    /** flags 비트 */
+    public static final int FLAG_HAS_SAMPLE = 1;
+    public static final int FLAG_DEVIATING = 1 << 1;
+    public static final int FLAG_IN_ARENA = 1 << 2;
+    public static final int FLAG_IN_OBSTACLE = 1 << 3;
+    /** 제한 시간 초과로 이미 실패 처리된 세션 (같은 미션 프레임에 새 세션을 열지 않음) */
+    public static final int FLAG_EXPIRED = 1 << 4;
+
+    /** 세션당 추적 가능한 최대 코인 수 */
+    public static final int MAX_COINS = 128;
+
+    /** 세션당 추적 가능한 최대 사진 촬영 목표 수 */
+    public static final int MAX_PHOTO_TARGETS = 64;
+
+    /** 빈 슬롯 재사용 전 최소 유휴 시간 (저장소가 가득 찼을 때만 적용) */
+    private static final long IDLE_EVICT_MILLIS = 10 * 60 * 1000L;
+
+    private static final long EMPTY = 0L;
+    private static final long TOMBSTONE = -1L;
+    private static final int INDEX_SIZE = CAPACITY * 2;
+
+    /** 이보다 TOMBSTONE 이 많아지면 인덱스를 다시 해시한다. */
+    private static final int MAX_TOMBSTONES = INDEX_SIZE / 4;
+
+    private final ByteBuffer records = ByteBuffer
+            .allocateDirect(CAPACITY * RECORD_SIZE)
+            .order(ByteOrder.nativeOrder());
+
+    /** 조회는 락 없이 현재 배열을 읽고, 다시 해시할 때는 새 배열로 참조를 교체한다. (쓰기는 모두 synchronized) */
+    private volatile AtomicLongArray index = new AtomicLongArray(INDEX_SIZE);
+    private final int[] freeSlots = new int[CAPACITY];
+    private int freeTop;
+    private int liveCount;
+    private int tombstones;
+
+    private final ReentrantLock[] locks = new ReentrantLock[256];
+
+    public LiveDroneStateStore() {
+        for (int i = 0; i < CAPACITY; i++) {
+            freeSlots[i] = CAPACITY - 1 - i;
+        }
+        freeTop = CAPACITY;
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 드론별 판단/갱신 동기화용 락 객체 (스트라이프 방식)
+     */
+    public ReentrantLock lockFor(int droneKey) {
+        return locks[(mix(droneKey) & 0x7fffffff) % locks.length];
+    }
+
+    /**
+     * 드론의 레코드 슬롯을 조회한다.
+     *
+     * @param droneKey 드론 정수 키
+     * @return 슬롯 번호 (없으면 -1)
+     */
+    public int find(int droneKey) {
+        AtomicLongArray index = this.index;
+        int mask = INDEX_SIZE - 1;
+        for (int i = mix(droneKey) & mask, probes = 0; probes < INDEX_SIZE; i = (i + 1) & mask, probes++) {
+            long entry = index.get(i);
+            if (entry == EMPTY) {
+                return -1;
+            }
+            if (entry != TOMBSTONE && keyOf(entry) == droneKey) {
+                return slotOf(entry);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 드론의 레코드 슬롯을 조회하고, 없으면 새로 할당한다.
+     *
+     * @param droneKey 드론 정수 키
+     * @return 슬롯 번호
+     * @throws IllegalStateException 저장소가 가득 찬 경우
+     */
+    public int acquire(int droneKey) {
+        int slot = find(droneKey);
+        if (slot >= 0) {
+            return slot;
+        }
+        return allocate(droneKey);
+    }
+
+    /**
+     * 드론의 레코드를 해제한다. (세션 종료 시)
+     */
+    public synchronized void release(int droneKey) {
+        int mask = INDEX_SIZE - 1;
+        for (int i = mix(droneKey) & mask, probes = 0; probes < INDEX_SIZE; i = (i + 1) & mask, probes++) {
+            long entry = index.get(i);
+            if (entry == EMPTY) {
+                return;
+            }
+            if (entry != TOMBSTONE && keyOf(entry) == droneKey) {
+                removeAt(i, slotOf(entry));
+                compactIfNeeded();
+                return;
+            }
+        }
+    }
+
+    /** 인덱스에 남은 TOMBSTONE 수 (다시 해시하면 0) */
+    public synchronized int tombstoneCount() {
+        return tombstones;
+    }
+
+    /** 현재 추적 중인 드론 수 */
+    public synchronized int size() {
+        return liveCount;
+    }
+
+    private synchronized int allocate(int droneKey) {
+        int existing = find(droneKey);
+        if (existing >= 0) {
+            return existing;
+        }
+        if (freeTop == 0) {
+            evictIdle(System.currentTimeMillis() - IDLE_EVICT_MILLIS);
+            compactIfNeeded();
+            if (freeTop == 0) {
+                throw new IllegalStateException("동시 추적 가능한 드론 수를 초과했습니다.");
+            }
+        }
+
+        int slot = freeSlots[--freeTop];
+        clearRecord(slot);
+        records.putInt(base(slot) + OFF_DRONE_KEY, droneKey);
+
+        int mask = INDEX_SIZE - 1;
+        for (int i = mix(droneKey) & mask; ; i = (i + 1) & mask) {
+            long entry = index.get(i);
+            if (entry == EMPTY || entry == TOMBSTONE) {
+                if (entry == TOMBSTONE) {
+                    tombstones--;
+                }
+                index.set(i, pack(droneKey, slot));
+                break;
+            }
+        }
+        liveCount++;
+        return slot;
+    }
+
+    /**
+     * 마지막 샘플 시각이 기준보다 오래된 레코드를 모두 해제한다. (synchronized 안에서 호출)
+     * - 드론 락을 바로 잡을 수 있는 레코드만 회수한다.
+     *   락을 잡은 스레드가 그 슬롯에 쓰는 중일 수 있고, 기다리면 락 순서가 뒤바뀌어 교착될 수 있다.
+     * - 호출한 스레드가 이미 잡고 있는 락은 재진입으로 잡힌다.
+     */
+    private void evictIdle(long olderThan) {
+        AtomicLongArray index = this.index;
+        for (int i = 0; i < INDEX_SIZE; i++) {
+            long entry = index.get(i);
+            if (entry == EMPTY || entry == TOMBSTONE) {
+                continue;
+            }
+            ReentrantLock lock = lockFor(keyOf(entry));
+            if (!lock.tryLock()) {
+                continue;
+            }
+            try {
+                if (index.get(i) == entry && getLastSampleAt(slotOf(entry)) < olderThan) {
+                    removeAt(i, slotOf(entry));
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void removeAt(int position, int slot) {
+        index.set(position, TOMBSTONE);
+        tombstones++;
+        freeSlots[freeTop++] = slot;
+        liveCount--;
+    }
+
+    /**
+     * TOMBSTONE 이 많으면 살아 있는 항목만 새 배열에 다시 넣고 참조를 교체한다. (synchronized 안에서 호출)
+     * - 락 없이 조회 중인 스레드는 교체 전 배열을 끝까지 읽으며, 교체 전 배열은 더 이상 바뀌지 않는다.
+     */
+    private void compactIfNeeded() {
+        if (tombstones <= MAX_TOMBSTONES) {
+            return;
+        }
+        AtomicLongArray old = this.index;
+        AtomicLongArray rehashed = new AtomicLongArray(INDEX_SIZE);
+        int mask = INDEX_SIZE - 1;
+        for (int i = 0; i < INDEX_SIZE; i++) {
+            long entry = old.get(i);
+            if (entry == EMPTY || entry == TOMBSTONE) {
+                continue;
+            }
+            int j = mix(keyOf(entry)) & mask;
+            while (rehashed.get(j) != EMPTY) {
+                j = (j + 1) & mask;
+            }
+            rehashed.set(j, entry);
+        }
+        this.index = rehashed;
+        tombstones = 0;
+    }
+
+    private void clearRecord(int slot) {
+        int base = base(slot);
+        for (int off = 0; off < RECORD_SIZE; off += Long.BYTES) {
+            records.putLong(base + off, 0L);
+        }
+    }
+
+    /**
+     * 새 세션 시작 시 레코드를 초기화한다.
+     * - 드론 키만 유지하고 나머지 필드는 0으로 리셋
+     */
+    public void resetSession(int slot, long missionId, long startedAt) {
+        int droneKey = getDroneKey(slot);
+        clearRecord(slot);
+        records.putInt(base(slot) + OFF_DRONE_KEY, droneKey);
+        records.putLong(base(slot) + OFF_MISSION_ID, missionId);
+        records.putLong(base(slot) + OFF_SESSION_START, startedAt);
+    }
+
+    // ===== 필드 접근자 =====
+
+    public int getDroneKey(int slot) { return records.getInt(base(slot) + OFF_DRONE_KEY); }
+
+    public int getFlags(int slot) { return records.getInt(base(slot) + OFF_FLAGS); }
+    public void setFlags(int slot, int flags) { records.putInt(base(slot) + OFF_FLAGS, flags); }
+
+    public boolean hasFlag(int slot, int flag) { return (getFlags(slot) & flag) != 0; }
+    public void setFlag(int slot, int flag, boolean on) {
+        int flags = getFlags(slot);
+        setFlags(slot, on ? flags | flag : flags & ~flag);
+    }
+
+    public long getMissionId(int slot) { return records.getLong(base(slot) + OFF_MISSION_ID); }
+
+    public long getLastSampleAt(int slot) { return records.getLong(base(slot) + OFF_LAST_SAMPLE_AT); }
+
+    public long getSessionStartedAt(int slot) { return records.getLong(base(slot) + OFF_SESSION_START); }
+
+    /** 위치는 그대로 두고 마지막 수신 시각만 갱신한다. (만료된 세션의 끊김 판단용) */
+    public void touch(int slot, long receivedAt) { records.putLong(base(slot) + OFF_LAST_SAMPLE_AT, receivedAt); }
+
+    public long getUserId(int slot) { return records.getLong(base(slot) + OFF_USER_ID); }
+    public void setUserId(int slot, long userId) { records.putLong(base(slot) + OFF_USER_ID, userId); }
+
+    public long getArenaCell(int slot) { return records.getLong(base(slot) + OFF_ARENA_CELL); }
+    public void setArenaCell(int slot, long cellKey) { records.putLong(base(slot) + OFF_ARENA_CELL, cellKey); }
+
+    public float getX(int slot) { return records.getFloat(base(slot) + OFF_X); }
+    public float getY(int slot) { return records.getFloat(base(slot) + OFF_Y); }
+    public float getZ(int slot) { return records.getFloat(base(slot) + OFF_Z); }
+    public float getRotationY(int slot) { return records.getFloat(base(slot) + OFF_ROTATION_Y); }
+
+    public float getRawX(int slot) { return records.getFloat(base(slot) + OFF_RAW_X); }
+    public float getRawY(int slot) { return records.getFloat(base(slot) + OFF_RAW_Y); }
+    public float getRawZ(int slot) { return records.getFloat(base(slot) + OFF_RAW_Z); }
+    public float getRawSpeed(int slot) { return records.getFloat(base(slot) + OFF_RAW_SPEED); }
+
+    public float getVx(int slot) { return records.getFloat(base(slot) + OFF_VX); }
+    public float getVy(int slot) { return records.getFloat(base(slot) + OFF_VY); }
+    public float getVz(int slot) { return records.getFloat(base(slot) + OFF_VZ); }
+
+    public int getRouteSegment(int slot) { return records.getInt(base(slot) + OFF_ROUTE_SEGMENT); }
+    public float getRouteArc(int slot) { return records.getFloat(base(slot) + OFF_ROUTE_ARC); }
+    public void setRouteProgress(int slot, int segment, float arcLength) {
+        records.putInt(base(slot) + OFF_ROUTE_SEGMENT, segment);
+        records.putFloat(base(slot) + OFF_ROUTE_ARC, arcLength);
+    }
+
+    public long getRouteRescanAt(int slot) { return records.getLong(base(slot) + OFF_ROUTE_RESCAN_AT); }
+    public void setRouteRescanAt(int slot, long rescanAt) { records.putLong(base(slot) + OFF_ROUTE_RESCAN_AT, rescanAt); }
+
+    public int getNextGate(int slot) { return records.getInt(base(slot) + OFF_NEXT_GATE); }
+    public int getGatesPassed(int slot) { return records.getInt(base(slot) + OFF_GATES_PASSED); }
+    public void setGateProgress(int slot, int nextGate, int gatesPassed) {
+        records.putInt(base(slot) + OFF_NEXT_GATE, nextGate);
+        records.putInt(base(slot) + OFF_GATES_PASSED, gatesPassed);
+    }
+
+    public int getSampleCount(int slot) { return records.getInt(base(slot) + OFF_SAMPLE_COUNT); }
+    public int getDeviationCount(int slot) { return records.getInt(base(slot) + OFF_DEVIATION_COUNT); }
+    public int getCollisionCount(int slot) { return records.getInt(base(slot) + OFF_COLLISION_COUNT); }
+
+    public void incrementDeviationCount(int slot) {
+        records.putInt(base(slot) + OFF_DEVIATION_COUNT, getDeviationCount(slot) + 1);
+    }
+
+    public int getFilteredDeviationCount(int slot) { return records.getInt(base(slot) + OFF_FILTERED_DEVIATION_COUNT); }
+    public void incrementFilteredDeviationCount(int slot) {
+        records.putInt(base(slot) + OFF_FILTERED_DEVIATION_COUNT, getFilteredDeviationCount(slot) + 1);
+    }
+
+    public int getOutlierStreak(int slot) { return records.getInt(base(slot) + OFF_OUTLIER_STREAK); }
+    public void setOutlierStreak(int slot, int streak) { records.putInt(base(slot) + OFF_OUTLIER_STREAK, streak); }
+
+    public int getRawDeviationCount(int slot) { return records.getInt(base(slot) + OFF_RAW_DEVIATION_COUNT); }
+    public void incrementRawDeviationCount(int slot) {
+        records.putInt(base(slot) + OFF_RAW_DEVIATION_COUNT, getRawDeviationCount(slot) + 1);
+    }
+
+    /**
+     * 평활화 필터가 추정한 속도(m/s)를 기록한다.
+     */
+    public void setVelocity(int slot, float vx, float vy, float vz) {
+        int base = base(slot);
+        records.putFloat(base + OFF_VX, vx);
+        records.putFloat(base + OFF_VY, vy);
+        records.putFloat(base + OFF_VZ, vz);
+    }
+
+    public void incrementCollisionCount(int slot) {
+        records.putInt(base(slot) + OFF_COLLISION_COUNT, getCollisionCount(slot) + 1);
+    }
+
+    /**
+     * 코인 수집을 기록한다.
+     *
+     * @param coinIndex 미션 내 코인 순번 (0 ~ MAX_COINS - 1)
+     * @return 이번에 새로 수집했으면 true
+     */
+    public boolean markCoinCollected(int slot, int coinIndex) {
+        if (coinIndex < 0 || coinIndex >= MAX_COINS) {
+            return false;
+        }
+        int off = base(slot) + OFF_COIN_BITS + (coinIndex >>> 6) * Long.BYTES;
+        long bits = records.getLong(off);
+        long mask = 1L << (coinIndex & 63);
+        if ((bits & mask) != 0) {
+            return false;
+        }
+        records.putLong(off, bits | mask);
+        return true;
+    }
+
+    /** 이번 세션에 수집한 코인 수 */
+    public int getCollectedCoinCount(int slot) {
+        int base = base(slot) + OFF_COIN_BITS;
+        return Long.bitCount(records.getLong(base)) + Long.bitCount(records.getLong(base + Long.BYTES));
+    }
+
+    /**
+     * 사진 촬영 목표 달성을 기록한다.
+     *
+     * @param targetIndex 미션 내 목표 순번 (0 ~ MAX_PHOTO_TARGETS - 1)
+     */
+    public void markPhotoCaptured(int slot, int targetIndex) {
+        if (targetIndex < 0 || targetIndex >= MAX_PHOTO_TARGETS) {
+            return;
+        }
+        int off = base(slot) + OFF_PHOTO_BITS;
+        records.putLong(off, records.getLong(off) | (1L << targetIndex));
+    }
+
+    /** 이번 세션에 촬영한 목표 수 */
+    public int getCapturedPhotoCount(int slot) {
+        return Long.bitCount(records.getLong(base(slot) + OFF_PHOTO_BITS));
+    }
+
+    /**
+     * 새 샘플(평활화된 위치)을 기록한다.
+     * - 속도는 평활화 필터(TelemetrySmoother)가 setVelocity 로 따로 기록한다.
+     * - 샘플 수 증가, FLAG_HAS_SAMPLE 설정
+     */
+    public void recordSample(int slot, float x, float y, float z, float rotationY, long sampledAt) {
+        int base = base(slot);
+        records.putFloat(base + OFF_X, x);
+        records.putFloat(base + OFF_Y, y);
+        records.putFloat(base + OFF_Z, z);
+        records.putFloat(base + OFF_ROTATION_Y, rotationY);
+        records.putLong(base + OFF_LAST_SAMPLE_AT, sampledAt);
+        records.putInt(base + OFF_SAMPLE_COUNT, getSampleCount(slot) + 1);
+        setFlag(slot, FLAG_HAS_SAMPLE, true);
+    }
+
+    /**
+     * 필터 적용 전 원본 위치와 직전 원본 샘플 대비 이동 속도를 기록한다.
+     * - 충돌 추정은 평활화 좌표가 아닌 원본 좌표끼리 비교한다. (recordSample 과 같은 샘플에서 호출)
+     */
+    public void recordRawSample(int slot, float x, float y, float z, float speed) {
+        int base = base(slot);
+        records.putFloat(base + OFF_RAW_X, x);
+        records.putFloat(base + OFF_RAW_Y, y);
+        records.putFloat(base + OFF_RAW_Z, z);
+        records.putFloat(base + OFF_RAW_SPEED, speed);
+    }
+
+    // ===== 내부 유틸 =====
+
+    private static int base(int slot) {
+        return slot * RECORD_SIZE;
+    }
+
+    private static long pack(int droneKey, int slot) {
+        // slot + 1 을 저장해 EMPTY(0)과 구분
+        return ((long) droneKey << 32) | ((slot + 1) & 0xffffffffL);
+    }
+
+    private static int keyOf(long entry) {
+        return (int) (entry >>> 32);
+    }
+
+    private static int slotOf(long entry) {
+        return (int) entry - 1;
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,93 @@
+package com.mtvs.flykidsbackend.domain.health.controller;
+
+import com.mtvs.flykidsbackend.domain.drone.service.TelemetryIngestGate;
+import com.mtvs.flykidsbackend.domain.drone.service.TelemetryRateAdvisor;
+import com.mtvs.flykidsbackend.domain.drone.service.TelemetrySmoother;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 서버 상태 확인 API 컨트롤러
+ * - 로드밸런서/배포 스크립트용 Liveness, Readiness 상태를 제공한다.
+ * - 운영 확인용 텔레메트리 지표(처리 지연, 평활화 전/후 이탈 수)를 제공한다.
+ */
+@Tag(
+        name = "Health",
+        description = "서버 생존 여부(Liveness)와 트래픽 수신 가능 여부(Readiness)를 확인하는 API입니다. " +
+                "Readiness 는 텔레메트리 처리 대기량(backlog)과 종료(드레인) 상태를 반영합니다."
+)
+@RestController
+@RequestMapping("/api/health")
+@RequiredArgsConstructor
+public class HealthController {
+
+    private final ApplicationAvailability applicationAvailability;
+    private final TelemetryIngestGate telemetryIngestGate;
+    private final TelemetryRateAdvisor telemetryRateAdvisor;
+    private final TelemetrySmoother telemetrySmoother;
+
+    /**
+     * Liveness 상태 조회
+     *
+     * GET /api/health/liveness
+     *
+     * @return CORRECT 이면 200, BROKEN 이면 503
+     */
+    @Operation(summary = "Liveness 조회", description = "애플리케이션이 정상 동작 중인지 확인합니다.")
+    @GetMapping("/liveness")
+    public ResponseEntity<Map<String, Object>> liveness() {
+        LivenessState state = applicationAvailability.getLivenessState();
+        HttpStatus status = state == LivenessState.CORRECT ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status).body(Map.of("state", state.name()));
+    }
+
+    /**
+     * Readiness 상태 조회
+     *
+     * GET /api/health/readiness
+     *
+     * @return ACCEPTING_TRAFFIC 이면 200, REFUSING_TRAFFIC 이면 503 (+ 텔레메트리 backlog)
+     */
+    @Operation(summary = "Readiness 조회", description = "트래픽을 받을 수 있는 상태인지 텔레메트리 backlog 와 함께 확인합니다.")
+    @GetMapping("/readiness")
+    public ResponseEntity<Map<String, Object>> readiness() {
+        ReadinessState state = applicationAvailability.getReadinessState();
+        HttpStatus status = state == ReadinessState.ACCEPTING_TRAFFIC ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status).body(Map.of(
+                "state", state.name(),
+                "telemetryBacklog", telemetryIngestGate.getBacklog()
+        ));
+    }
+
+    /**
+     * 텔레메트리 지표 조회
+     *
+     * GET /api/health/telemetry
+     *
+     * @return 처리 지연 지수이동평균, 판단 시간 예산 초과 프레임 수, 종료 세션들의 평활화 전/후 누적 이탈 샘플 수
+     */
+    @Operation(summary = "텔레메트리 지표 조회",
+            description = "텔레메트리 처리 지연, 판단 시간 예산 초과 수와, 종료된 세션들의 원본/평활화 좌표 기준 누적 이탈 샘플 수를 확인합니다.")
+    @GetMapping("/telemetry")
+    public ResponseEntity<Map<String, Object>> telemetry() {
+        return ResponseEntity.ok(Map.of(
+                "telemetryBacklog", telemetryIngestGate.getBacklog(),
+                "latencyEwmaMillis", telemetryRateAdvisor.getLatencyEwmaMillis(),
+                "evaluationTimeouts", telemetryRateAdvisor.getEvaluationTimeouts(),
+                "reportedSessions", telemetrySmoother.getReportedSessions(),
+                "rawDeviations", telemetrySmoother.getTotalRawDeviations(),
+                "filteredDeviations", telemetrySmoother.getTotalFilteredDeviations()
+        ));
+    }
+}
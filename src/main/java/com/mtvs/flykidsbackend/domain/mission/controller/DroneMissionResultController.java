@@ -2,6 +2,7 @@ package com.mtvs.flykidsbackend.domain.mission.controller;
 
 import com.mtvs.flykidsbackend.config.security.CustomUserDetails;
 import com.mtvs.flykidsbackend.domain.mission.dto.*;
+import com.mtvs.flykidsbackend.domain.mission.model.LeaderboardWindow;
 import com.mtvs.flykidsbackend.domain.mission.service.DroneMissionResultService;
 import com.mtvs.flykidsbackend.domain.mission.service.MissionService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -90,6 +91,59 @@ public class DroneMissionResultController {
         return ResponseEntity.ok(leaderboard);
     }
 
+    /**
+     * 특정 미션 유저별 최고 기록 리더보드 조회 API (내 순위 포함)
+     */
+    @GetMapping("/leaderboard/best")
+    @Operation(
+            summary = "미션 최고 기록 리더보드 조회",
+            description = "유저마다 최고 기록 하나만 집계한 상위 10명과, 로그인한 유저의 순위 및 앞뒤 2명의 기록을 조회합니다. " +
+                    "같은 점수는 같은 순위이며 목록에서는 소요 시간이 짧은 순으로 표시됩니다."
+    )
+    public ResponseEntity<BestScoreLeaderboardResponseDto> getBestScoreLeaderboard(
+            @RequestParam Long missionId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        Long userId = userDetails != null ? userDetails.getId() : null;
+        return ResponseEntity.ok(droneMissionResultService.getBestScoreLeaderboard(missionId, userId));
+    }
+
+    /**
+     * 특정 미션 기간별 리더보드 조회 API (일간 / 주간 / 이번 시즌)
+     */
+    @GetMapping("/leaderboard/window")
+    @Operation(
+            summary = "미션 기간별 리더보드 조회",
+            description = "오늘(DAILY), 최근 7일(WEEKLY), 이번 달 시즌(SEASON) 동안의 유저별 최고 기록 상위 10명을 조회합니다. " +
+                    "같은 점수는 같은 순위입니다."
+    )
+    public ResponseEntity<List<LeaderboardEntryDto>> getWindowedLeaderboard(
+            @RequestParam Long missionId,
+            @RequestParam LeaderboardWindow window) {
+
+        return ResponseEntity.ok(droneMissionResultService.getWindowedRankers(missionId, window));
+    }
+
+    /**
+     * 특정 미션 지난 시즌 리더보드 조회 API
+     */
+    @GetMapping("/leaderboard/seasons/{season}")
+    @Operation(
+            summary = "지난 시즌 리더보드 조회",
+            description = "시즌(yyyy-MM)이 끝날 때 고정해 둔 유저별 최고 기록 순위를 조회합니다. " +
+                    "닉네임은 스냅샷 저장 시점의 값입니다."
+    )
+    public ResponseEntity<?> getSeasonLeaderboard(
+            @RequestParam Long missionId,
+            @PathVariable String season) {
+
+        try {
+            return ResponseEntity.ok(droneMissionResultService.getSeasonRankers(missionId, season));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     /**
      * 로그인한 유저 개인 미션 통계 조회 API
      */
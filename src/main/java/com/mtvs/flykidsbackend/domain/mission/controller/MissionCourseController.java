@@ -0,0 +1,153 @@
+package com.mtvs.flykidsbackend.domain.mission.controller;
+
+import com.mtvs.flykidsbackend.domain.mission.dto.MissionCoinRequestDto;
+import com.mtvs.flykidsbackend.domain.mission.dto.MissionObstacleRequestDto;
+import com.mtvs.flykidsbackend.domain.mission.dto.MissionPhotoTargetRequestDto;
+import com.mtvs.flykidsbackend.domain.mission.entity.MissionCoin;
+import com.mtvs.flykidsbackend.domain.mission.entity.MissionObstacle;
+import com.mtvs.flykidsbackend.domain.mission.entity.MissionPhotoTarget;
+import com.mtvs.flykidsbackend.domain.mission.service.MissionCourseService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 미션 코스 형상 API 컨트롤러
+ * - 미션 코스에 배치된 장애물, 코인, 사진 촬영 목표를 등록하고 조회한다.
+ */
+@RestController
+@RequestMapping("/api/missions/{missionId}")
+@RequiredArgsConstructor
+@Tag(
+        name = "Mission Course",
+        description = "미션 코스의 장애물, 코인, 사진 촬영 목표를 등록하고 조회하는 API입니다. 등록된 배치는 서버 측 충돌/수집/촬영 판정에 사용됩니다."
+)
+public class MissionCourseController {
+
+    private final MissionCourseService missionCourseService;
+
+    /**
+     * [POST] 장애물 형상 등록
+     * - 기존 장애물을 모두 교체한다.
+     *
+     * @param missionId 미션 ID
+     * @param obstacles 장애물 목록 (BOX / CAPSULE)
+     * @return 처리 결과 메시지
+     */
+    @Operation(
+            summary = "장애물 형상 등록",
+            description = "OBSTACLE 미션 코스의 장애물을 박스(AABB) 또는 캡슐 형태로 등록합니다. " +
+                    "기존에 등록된 장애물은 모두 교체되며, 등록된 장애물은 드론 위치 전송 시 서버 측 충돌 판정에 사용됩니다."
+    )
+    @PostMapping("/obstacles")
+    public ResponseEntity<String> saveObstacles(
+            @PathVariable Long missionId,
+            @RequestBody List<MissionObstacleRequestDto> obstacles) {
+        try {
+            int saved = missionCourseService.saveObstacles(missionId, obstacles);
+            return ResponseEntity.ok("장애물 " + saved + "개가 저장되었습니다.");
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * [GET] 장애물 형상 조회
+     *
+     * @param missionId 미션 ID
+     * @return 장애물 목록
+     */
+    @Operation(
+            summary = "장애물 형상 조회",
+            description = "미션 코스에 등록된 장애물 형상 목록을 조회합니다. 클라이언트의 코스 배치 확인에 사용됩니다."
+    )
+    @GetMapping("/obstacles")
+    public ResponseEntity<List<MissionObstacle>> getObstacles(@PathVariable Long missionId) {
+        return ResponseEntity.ok(missionCourseService.getObstacles(missionId));
+    }
+
+    /**
+     * [POST] 코인 위치 등록
+     * - 기존 코인을 모두 교체하며, 목록 순서가 코인 순번이 된다.
+     *
+     * @param missionId 미션 ID
+     * @param coins     코인 위치 목록
+     * @return 처리 결과 메시지
+     */
+    @Operation(
+            summary = "코인 위치 등록",
+            description = "COIN 미션 코스의 코인 위치를 등록합니다. " +
+                    "기존 코인은 모두 교체되고 미션의 총 코인 수도 함께 갱신되며, " +
+                    "등록된 코인은 드론 위치 전송 시 서버 측 수집 판정에 사용됩니다."
+    )
+    @PostMapping("/coins")
+    public ResponseEntity<String> saveCoins(
+            @PathVariable Long missionId,
+            @RequestBody List<MissionCoinRequestDto> coins) {
+        try {
+            int saved = missionCourseService.saveCoins(missionId, coins);
+            return ResponseEntity.ok("코인 " + saved + "개가 저장되었습니다.");
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * [GET] 코인 위치 조회
+     *
+     * @param missionId 미션 ID
+     * @return 코인 위치 목록 (순번 순)
+     */
+    @Operation(
+            summary = "코인 위치 조회",
+            description = "미션 코스에 등록된 코인 위치 목록을 순번 순으로 조회합니다. 클라이언트의 코인 배치에 사용됩니다."
+    )
+    @GetMapping("/coins")
+    public ResponseEntity<List<MissionCoin>> getCoins(@PathVariable Long missionId) {
+        return ResponseEntity.ok(missionCourseService.getCoins(missionId));
+    }
+
+    /**
+     * [POST] 사진 촬영 목표 등록
+     * - 기존 목표를 모두 교체하며, 목록 순서가 목표 순번이 된다.
+     *
+     * @param missionId 미션 ID
+     * @param targets   촬영 목표 목록 (위치 + 시야 원뿔)
+     * @return 처리 결과 메시지
+     */
+    @Operation(
+            summary = "사진 촬영 목표 등록",
+            description = "PHOTO 미션의 촬영 대상 위치와 촬영 방향, 허용 시야 각도, 최대 촬영 거리를 등록합니다. " +
+                    "기존 목표는 모두 교체되며, 등록된 목표는 드론 위치 전송 시 서버 측 촬영 판정에 사용됩니다."
+    )
+    @PostMapping("/photo-targets")
+    public ResponseEntity<String> savePhotoTargets(
+            @PathVariable Long missionId,
+            @RequestBody List<MissionPhotoTargetRequestDto> targets) {
+        try {
+            int saved = missionCourseService.savePhotoTargets(missionId, targets);
+            return ResponseEntity.ok("촬영 목표 " + saved + "개가 저장되었습니다.");
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * [GET] 사진 촬영 목표 조회
+     *
+     * @param missionId 미션 ID
+     * @return 촬영 목표 목록 (순번 순)
+     */
+    @Operation(
+            summary = "사진 촬영 목표 조회",
+            description = "미션에 등록된 사진 촬영 목표 목록을 순번 순으로 조회합니다. 클라이언트의 촬영 가이드 표시에 사용됩니다."
+    )
+    @GetMapping("/photo-targets")
+    public ResponseEntity<List<MissionPhotoTarget>> getPhotoTargets(@PathVariable Long missionId) {
+        return ResponseEntity.ok(missionCourseService.getPhotoTargets(missionId));
+    }
+}
@@ -0,0 +1,121 @@
+package com.mtvs.flykidsbackend.domain.mission.course;
+
+import com.mtvs.flykidsbackend.domain.mission.entity.MissionCoin;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * 미션 코인 배치 (공간 해시)
+ *
+ * 미션의 코인 위치를 로딩 시점에 한 번 격자 셀로 나눠 두고,
+ * 텔레메트리 샘플마다 주변 27개 셀의 코인만 수집 반경 안에 있는지 검사한다.
+ * - 셀 크기는 수집 반경의 2배이므로 주변 1칸만 보면 누락이 없다.
+ *
+ * 불변 객체이므로 여러 텔레메트리 스레드가 동시에 읽어도 안전하다.
+ */
+public final class CoinField {
+
+    /** 코인 수집 반경(m) */
+    public static final float PICKUP_RADIUS = 0.6f;
+
+    private static final float CELL_SIZE = PICKUP_RADIUS * 2;
+
+    private static final CoinField EMPTY = new CoinField(new float[0], new float[0], new float[0], Map.of());
+
+    private final float[] xs;
+    private final float[] ys;
+    private final float[] zs;
+    private final Map<Long, int[]> cells;
+
+    private CoinField(float[] xs, float[] ys, float[] zs, Map<Long, int[]> cells) {
+        this.xs = xs;
+        this.ys = ys;
+        this.zs = zs;
+        this.cells = cells;
+    }
+
+    /**
+     * 코인 위치 리스트로 공간 해시를 구성한다.
+     *
+     * @param coins 미션 코인 엔티티 리스트 (순번 순)
+     * @return 구성된 코인 배치 (코인이 없으면 빈 배치)
+     */
+    public static CoinField of(List<MissionCoin> coins) {
+        int n = coins.size();
+        if (n == 0) {
+            return EMPTY;
+        }
+
+        float[] xs = new float[n];
+        float[] ys = new float[n];
+        float[] zs = new float[n];
+        Map<Long, int[]> cells = new HashMap<>();
+        for (MissionCoin coin : coins) {
+            int i = coin.getCoinIndex();
+            xs[i] = (float) coin.getX();
+            ys[i] = (float) coin.getY();
+            zs[i] = (float) coin.getZ();
+            cells.merge(cellKey(cell(xs[i]), cell(ys[i]), cell(zs[i])), new int[]{i}, (prev, add) -> {
+                int[] merged = Arrays.copyOf(prev, prev.length + 1);
+                merged[prev.length] = add[0];
+                return merged;
+            });
+        }
+        return new CoinField(xs, ys, zs, cells);
+    }
+
+    public boolean isEmpty() {
+        return xs.length == 0;
+    }
+
+    public int size() {
+        return xs.length;
+    }
+
+    /**
+     * 위치에서 수집 반경 안에 있는 코인마다 action 을 호출한다.
+     *
+     * @param action 코인 순번을 받는 콜백
+     */
+    public void forEachPickup(float x, float y, float z, IntConsumer action) {
+        if (xs.length == 0) {
+            return;
+        }
+
+        int cx = cell(x);
+        int cy = cell(y);
+        int cz = cell(z);
+        float radiusSq = PICKUP_RADIUS * PICKUP_RADIUS;
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dz = -1; dz <= 1; dz++) {
+                    int[] candidates = cells.get(cellKey(cx + dx, cy + dy, cz + dz));
+                    if (candidates == null) {
+                        continue;
+                    }
+                    for (int i : candidates) {
+                        float ex = xs[i] - x;
+                        float ey = ys[i] - y;
+                        float ez = zs[i] - z;
+                        if (ex * ex + ey * ey + ez * ez <= radiusSq) {
+                            action.accept(i);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static int cell(float v) {
+        return (int) Math.floor(v / CELL_SIZE);
+    }
+
+    /** 셀 좌표 3개를 21비트씩 long 하나로 압축 */
+    private static long cellKey(int cx, int cy, int cz) {
+        return ((cx & 0x1fffffL) << 42) | ((cy & 0x1fffffL) << 21) | (cz & 0x1fffffL);
+    }
+}
@@ -0,0 +1,308 @@
+package com.mtvs.flykidsbackend.domain.mission.course;
+
+import com.mtvs.flykidsbackend.domain.mission.entity.MissionObstacle;
+import com.mtvs.flykidsbackend.domain.mission.model.ObstacleShape;
+
+import java.util.List;
+
+/**
+ * 미션 장애물 BVH (Bounding Volume Hierarchy)
+ *
+ * 미션의 장애물(박스/캡슐)을 로딩 시점에 한 번 트리로 구성하고,
+ * 텔레메트리 샘플마다 드론 위치(구)와 겹치는 장애물을 O(log n) 으로 찾는다.
+ *
+ * <구성>
+ * - 노드는 배열 기반(평탄화)으로 저장해 노드 객체를 따로 두지 않는다.
+ * - 분할: 장애물 중심점의 가장 긴 축을 기준으로 중앙값 분할, 리프당 최대 LEAF_SIZE 개
+ * - 리프에서는 형태별 정확한 거리 판정(박스: 점-AABB, 캡슐: 점-선분)을 수행한다.
+ *
+ * 불변 객체이므로 여러 텔레메트리 스레드가 동시에 읽어도 안전하다.
+ */
+public final class ObstacleBvh {
+
+    /** 리프 노드당 최대 장애물 수 */
+    private static final int LEAF_SIZE = 4;
+
+    /** 순회 스택 크기 (중앙값 분할이므로 깊이는 log2(n) 수준) */
+    private static final int MAX_DEPTH = 64;
+
+    private static final ObstacleBvh EMPTY = new ObstacleBvh(new boolean[0], new float[0], new float[0],
+            new float[0], new float[0], new float[0], new int[0], new int[0], new int[0], 0);
+
+    // ===== 장애물 (트리 순서로 재배치됨) =====
+    private final boolean[] capsule;
+    private final float[] a;       // BOX: 최소 좌표 / CAPSULE: 시작점 (x, y, z 연속)
+    private final float[] b;       // BOX: 최대 좌표 / CAPSULE: 끝점
+    private final float[] radius;  // CAPSULE 반지름
+
+    // ===== 노드 =====
+    private final float[] nodeMin;  // 노드 AABB 최소 (x, y, z 연속)
+    private final float[] nodeMax;  // 노드 AABB 최대
+    private final int[] nodeStart;  // 리프: 첫 장애물 인덱스 / 내부: 왼쪽 자식
+    private final int[] nodeCount;  // 리프: 장애물 수 / 내부: 0
+    private final int[] nodeRight;  // 내부: 오른쪽 자식
+    private final int nodeSize;
+
+    private ObstacleBvh(boolean[] capsule, float[] a, float[] b, float[] radius,
+                        float[] nodeMin, float[] nodeMax, int[] nodeStart, int[] nodeCount, int[] nodeRight,
+                        int nodeSize) {
+        this.capsule = capsule;
+        this.a = a;
+        this.b = b;
+        this.radius = radius;
+        this.nodeMin = nodeMin;
+        this.nodeMax = nodeMax;
+        this.nodeStart = nodeStart;
+        this.nodeCount = nodeCount;
+        this.nodeRight = nodeRight;
+        this.nodeSize = nodeSize;
+    }
+
+    /**
+     * 장애물 리스트로 BVH 를 구성한다.
+     *
+     * @param obstacles 미션 장애물 엔티티 리스트
+     * @return 구성된 BVH (장애물이 없으면 빈 BVH)
+     */
+    public static ObstacleBvh of(List<MissionObstacle> obstacles) {
+        int n = obstacles.size();
+        if (n == 0) {
+            return EMPTY;
+        }
+
+        // 장애물별 AABB 와 중심점
+        float[] boxMin = new float[n * 3];
+        float[] boxMax = new float[n * 3];
+        float[] centroid = new float[n * 3];
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            MissionObstacle o = obstacles.get(i);
+            float r = o.getShape() == ObstacleShape.CAPSULE ? (float) o.getRadius() : 0f;
+            double[] p = {o.getX1(), o.getY1(), o.getZ1()};
+            double[] q = {o.getX2(), o.getY2(), o.getZ2()};
+            for (int axis = 0; axis < 3; axis++) {
+                boxMin[i * 3 + axis] = (float) Math.min(p[axis], q[axis]) - r;
+                boxMax[i * 3 + axis] = (float) Math.max(p[axis], q[axis]) + r;
+                centroid[i * 3 + axis] = (boxMin[i * 3 + axis] + boxMax[i * 3 + axis]) * 0.5f;
+            }
+            order[i] = i;
+        }
+
+        int maxNodes = 2 * n;
+        Builder builder = new Builder(boxMin, boxMax, centroid, order, maxNodes);
+        builder.build(0, n);
+
+        // 장애물을 트리 순서로 재배치
+        boolean[] capsule = new boolean[n];
+        float[] a = new float[n * 3];
+        float[] b = new float[n * 3];
+        float[] radius = new float[n];
+        for (int i = 0; i < n; i++) {
+            MissionObstacle o = obstacles.get(order[i]);
+            boolean isCapsule = o.getShape() == ObstacleShape.CAPSULE;
+            capsule[i] = isCapsule;
+            radius[i] = isCapsule ? (float) o.getRadius() : 0f;
+            if (isCapsule) {
+                a[i * 3] = (float) o.getX1();
+                a[i * 3 + 1] = (float) o.getY1();
+                a[i * 3 + 2] = (float) o.getZ1();
+                b[i * 3] = (float) o.getX2();
+                b[i * 3 + 1] = (float) o.getY2();
+                b[i * 3 + 2] = (float) o.getZ2();
+            } else {
+                for (int axis = 0; axis < 3; axis++) {
+                    a[i * 3 + axis] = boxMin[order[i] * 3 + axis];
+                    b[i * 3 + axis] = boxMax[order[i] * 3 + axis];
+                }
+            }
+        }
+
+        return new ObstacleBvh(capsule, a, b, radius,
+                builder.nodeMin, builder.nodeMax, builder.nodeStart, builder.nodeCount, builder.nodeRight,
+                builder.size);
+    }
+
+    public boolean isEmpty() {
+        return nodeSize == 0;
+    }
+
+    public int obstacleCount() {
+        return capsule.length;
+    }
+
+    /**
+     * 드론(반지름 droneRadius 의 구)과 겹치는 장애물이 있는지 검사한다.
+     *
+     * @return 겹치는 장애물 인덱스 (없으면 -1)
+     */
+    public int findHit(float x, float y, float z, float droneRadius) {
+        if (nodeSize == 0) {
+            return -1;
+        }
+
+        int[] stack = new int[MAX_DEPTH];
+        int top = 0;
+        stack[top++] = 0;
+
+        while (top > 0) {
+            int node = stack[--top];
+            if (!overlapsNode(node, x, y, z, droneRadius)) {
+                continue;
+            }
+
+            int count = nodeCount[node];
+            if (count > 0) {
+                int start = nodeStart[node];
+                for (int i = start; i < start + count; i++) {
+                    if (hits(i, x, y, z, droneRadius)) {
+                        return i;
+                    }
+                }
+            } else if (top + 2 <= MAX_DEPTH) {
+                stack[top++] = nodeRight[node];
+                stack[top++] = nodeStart[node];
+            }
+        }
+        return -1;
+    }
+
+    private boolean overlapsNode(int node, float x, float y, float z, float r) {
+        int i = node * 3;
+        return x >= nodeMin[i] - r && x <= nodeMax[i] + r
+                && y >= nodeMin[i + 1] - r && y <= nodeMax[i + 1] + r
+                && z >= nodeMin[i + 2] - r && z <= nodeMax[i + 2] + r;
+    }
+
+    /**
+     * 장애물 하나에 대한 정확한 판정
+     * - BOX: 점과 AABB 간 최단 거리 ≤ 드론 반지름
+     * - CAPSULE: 점과 중심 선분 간 최단 거리 ≤ 캡슐 반지름 + 드론 반지름
+     */
+    private boolean hits(int i, float x, float y, float z, float droneRadius) {
+        int k = i * 3;
+        if (!capsule[i]) {
+            float dx = Math.max(Math.max(a[k] - x, 0f), x - b[k]);
+            float dy = Math.max(Math.max(a[k + 1] - y, 0f), y - b[k + 1]);
+            float dz = Math.max(Math.max(a[k + 2] - z, 0f), z - b[k + 2]);
+            return dx * dx + dy * dy + dz * dz <= droneRadius * droneRadius;
+        }
+
+        float sx = b[k] - a[k];
+        float sy = b[k + 1] - a[k + 1];
+        float sz = b[k + 2] - a[k + 2];
+        float px = x - a[k];
+        float py = y - a[k + 1];
+        float pz = z - a[k + 2];
+        float lengthSq = sx * sx + sy * sy + sz * sz;
+        float t = lengthSq > 0f ? (px * sx + py * sy + pz * sz) / lengthSq : 0f;
+        t = Math.max(0f, Math.min(1f, t));
+        float dx = px - sx * t;
+        float dy = py - sy * t;
+        float dz = pz - sz * t;
+        float reach = radius[i] + droneRadius;
+        return dx * dx + dy * dy + dz * dz <= reach * reach;
+    }
+
+    /**
+     * BVH 구성기 (구성 시에만 사용)
+     */
+    private static final class Builder {
+
+        private final float[] boxMin;
+        private final float[] boxMax;
+        private final float[] centroid;
+        private final int[] order;
+
+        private final float[] nodeMin;
+        private final float[] nodeMax;
+        private final int[] nodeStart;
+        private final int[] nodeCount;
+        private final int[] nodeRight;
+        private int size;
+
+        private Builder(float[] boxMin, float[] boxMax, float[] centroid, int[] order, int maxNodes) {
+            this.boxMin = boxMin;
+            this.boxMax = boxMax;
+            this.centroid = centroid;
+            this.order = order;
+            this.nodeMin = new float[maxNodes * 3];
+            this.nodeMax = new float[maxNodes * 3];
+            this.nodeStart = new int[maxNodes];
+            this.nodeCount = new int[maxNodes];
+            this.nodeRight = new int[maxNodes];
+        }
+
+        /**
+         * order[from, to) 범위의 장애물로 노드를 만들고 노드 번호를 반환한다.
+         */
+        private int build(int from, int to) {
+            int node = size++;
+
+            float[] cMin = {Float.MAX_VALUE, Float.MAX_VALUE, Float.MAX_VALUE};
+            float[] cMax = {-Float.MAX_VALUE, -Float.MAX_VALUE, -Float.MAX_VALUE};
+            for (int axis = 0; axis < 3; axis++) {
+                nodeMin[node * 3 + axis] = Float.MAX_VALUE;
+                nodeMax[node * 3 + axis] = -Float.MAX_VALUE;
+            }
+            for (int i = from; i < to; i++) {
+                int o = order[i];
+                for (int axis = 0; axis < 3; axis++) {
+                    nodeMin[node * 3 + axis] = Math.min(nodeMin[node * 3 + axis], boxMin[o * 3 + axis]);
+                    nodeMax[node * 3 + axis] = Math.max(nodeMax[node * 3 + axis], boxMax[o * 3 + axis]);
+                    cMin[axis] = Math.min(cMin[axis], centroid[o * 3 + axis]);
+                    cMax[axis] = Math.max(cMax[axis], centroid[o * 3 + axis]);
+                }
+            }
+
+            if (to - from <= LEAF_SIZE) {
+                nodeStart[node] = from;
+                nodeCount[node] = to - from;
+                return node;
+            }
+
+            // 중심점 분포가 가장 넓은 축으로 중앙값 분할
+            int axis = 0;
+            for (int i = 1; i < 3; i++) {
+                if (cMax[i] - cMin[i] > cMax[axis] - cMin[axis]) {
+                    axis = i;
+                }
+            }
+            int mid = (from + to) >>> 1;
+            selectNth(from, to - 1, mid, axis);
+
+            nodeStart[node] = build(from, mid);
+            nodeRight[node] = build(mid, to);
+            nodeCount[node] = 0;
+            return node;
+        }
+
+        /**
+         * order[lo..hi] 를 축 기준 중심점으로 부분 정렬해 k 번째 원소를 제자리에 둔다. (quickselect)
+         */
+        private void selectNth(int lo, int hi, int k, int axis) {
+            while (lo < hi) {
+                float pivot = centroid[order[(lo + hi) >>> 1] * 3 + axis];
+                int i = lo;
+                int j = hi;
+                while (i <= j) {
+                    while (centroid[order[i] * 3 + axis] < pivot) i++;
+                    while (centroid[order[j] * 3 + axis] > pivot) j--;
+                    if (i <= j) {
+                        int tmp = order[i];
+                        order[i] = order[j];
+                        order[j] = tmp;
+                        i++;
+                        j--;
+                    }
+                }
+                if (k <= j) {
+                    hi = j;
+                } else if (k >= i) {
+                    lo = i;
+                } else {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.mtvs.flykidsbackend.domain.mission.course;
+
+import com.mtvs.flykidsbackend.domain.mission.entity.MissionPhotoTarget;
+
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * 미션 사진 촬영 목표 (각도 룩업 사전 계산)
+ *
+ * 목표마다 시야 원뿔을 로딩 시점에 한 번 계산해 두고,
+ * 텔레메트리 샘플마다 삼각함수 호출 없이 촬영 조건을 검사한다.
+ *
+ * <판정 조건>
+ * 1. 기수(rotationY)가 허용 방향 범위 안 - 1도 단위 360칸 비트셋 룩업
+ * 2. 촬영 대상까지 거리 ≤ maxDistance
+ * 3. 드론 → 대상 수평 방향이 촬영 방향 기준 원뿔 안 - 사전 계산한 방향 벡터와 cos(반각)으로 내적 비교
+ *    (대상 바로 위/아래에서는 수평 방향이 없으므로 통과하지 않는다)
+ *
+ * 불변 객체이므로 여러 텔레메트리 스레드가 동시에 읽어도 안전하다.
+ */
+public final class PhotoTargetSet {
+
+    private static final int HEADING_BINS = 360;
+    private static final int HEADING_WORDS = (HEADING_BINS + 63) / 64;
+
+    /** 수평 거리 제곱이 이보다 작으면 (대상 바로 위/아래) 방향을 정할 수 없으므로 촬영으로 보지 않는다. (1cm) */
+    private static final float MIN_HORIZONTAL_SQ = 1e-4f;
+
+    private static final PhotoTargetSet EMPTY = new PhotoTargetSet(
+            new float[0], new float[0], new float[0], new float[0], new float[0],
+            new float[0], new float[0], new long[0]);
+
+    private final float[] xs;
+    private final float[] ys;
+    private final float[] zs;
+    private final float[] dirX;         // 촬영 방향 단위 벡터 (수평)
+    private final float[] dirZ;
+    private final float[] cosHalf;      // cos(원뿔 반각)
+    private final float[] maxDistSq;    // 최대 촬영 거리 제곱
+    private final long[] headingBits;   // 목표별 허용 기수 비트셋 (HEADING_WORDS 개씩 연속)
+
+    private PhotoTargetSet(float[] xs, float[] ys, float[] zs, float[] dirX, float[] dirZ,
+                           float[] cosHalf, float[] maxDistSq, long[] headingBits) {
+        this.xs = xs;
+        this.ys = ys;
+        this.zs = zs;
+        this.dirX = dirX;
+        this.dirZ = dirZ;
+        this.cosHalf = cosHalf;
+        this.maxDistSq = maxDistSq;
+        this.headingBits = headingBits;
+    }
+
+    /**
+     * 촬영 목표 리스트로 각도 룩업을 구성한다.
+     *
+     * @param targets 미션 촬영 목표 엔티티 리스트 (순번 순)
+     * @return 구성된 목표 집합 (목표가 없으면 빈 집합)
+     */
+    public static PhotoTargetSet of(List<MissionPhotoTarget> targets) {
+        int n = targets.size();
+        if (n == 0) {
+            return EMPTY;
+        }
+
+        float[] xs = new float[n];
+        float[] ys = new float[n];
+        float[] zs = new float[n];
+        float[] dirX = new float[n];
+        float[] dirZ = new float[n];
+        float[] cosHalf = new float[n];
+        float[] maxDistSq = new float[n];
+        long[] headingBits = new long[n * HEADING_WORDS];
+
+        for (MissionPhotoTarget target : targets) {
+            int i = target.getTargetIndex();
+            double yaw = Math.toRadians(target.getViewYaw());
+            double half = target.getConeHalfAngle();
+
+            xs[i] = (float) target.getX();
+            ys[i] = (float) target.getY();
+            zs[i] = (float) target.getZ();
+            dirX[i] = (float) Math.sin(yaw);
+            dirZ[i] = (float) Math.cos(yaw);
+            cosHalf[i] = (float) Math.cos(Math.toRadians(half));
+            maxDistSq[i] = (float) (target.getMaxDistance() * target.getMaxDistance());
+
+            for (int bin = 0; bin < HEADING_BINS; bin++) {
+                if (angleBetween(bin + 0.5, target.getViewYaw()) <= half) {
+                    headingBits[i * HEADING_WORDS + (bin >>> 6)] |= 1L << (bin & 63);
+                }
+            }
+        }
+        return new PhotoTargetSet(xs, ys, zs, dirX, dirZ, cosHalf, maxDistSq, headingBits);
+    }
+
+    public boolean isEmpty() {
+        return xs.length == 0;
+    }
+
+    public int size() {
+        return xs.length;
+    }
+
+    /**
+     * 현재 위치와 기수로 촬영 조건을 만족하는 목표마다 action 을 호출한다.
+     *
+     * @param rotationY 드론 기수 (yaw, 도 단위)
+     * @param action    목표 순번을 받는 콜백
+     */
+    public void forEachCapture(float x, float y, float z, float rotationY, IntConsumer action) {
+        if (xs.length == 0) {
+            return;
+        }
+
+        int bin = Math.floorMod((int) Math.floor(rotationY), HEADING_BINS);
+        int word = bin >>> 6;
+        long mask = 1L << (bin & 63);
+
+        for (int i = 0; i < xs.length; i++) {
+            if ((headingBits[i * HEADING_WORDS + word] & mask) == 0) {
+                continue;
+            }
+
+            float dx = xs[i] - x;
+            float dy = ys[i] - y;
+            float dz = zs[i] - z;
+            float horizontalSq = dx * dx + dz * dz;
+            if (horizontalSq < MIN_HORIZONTAL_SQ || horizontalSq + dy * dy > maxDistSq[i]) {
+                continue;
+            }
+
+            // 대상이 촬영 방향 원뿔 안에 있는지 (dot ≥ |d|·cos(반각))
+            float dot = dx * dirX[i] + dz * dirZ[i];
+            if (dot >= 0f && dot * dot >= horizontalSq * cosHalf[i] * cosHalf[i]) {
+                action.accept(i);
+            }
+        }
+    }
+
+    /** 두 방향(도) 사이의 최소 각도 차이 (0 ~ 180) */
+    private static double angleBetween(double a, double b) {
+        double diff = Math.abs((a - b) % 360.0);
+        return diff > 180.0 ? 360.0 - diff : diff;
+    }
+}
@@ -0,0 +1,36 @@
+package com.mtvs.flykidsbackend.domain.mission.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 유저별 최고 기록 리더보드 응답 DTO
+ * - 유저마다 최고 기록 하나만 순위에 오르며, 같은 점수는 같은 순위다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class BestScoreLeaderboardResponseDto {
+
+    @Schema(description = "미션 ID", example = "1")
+    private Long missionId;
+
+    @Schema(description = "성공 기록이 있는 유저 수", example = "42")
+    private int totalPlayers;
+
+    @Schema(description = "상위 유저 최고 기록 (최대 10명)")
+    private List<LeaderboardEntryDto> top;
+
+    @Schema(description = "내 순위 (성공 기록이 없으면 null)", example = "7")
+    private Integer myRank;
+
+    @Schema(description = "내 최고 기록 (성공 기록이 없으면 null)")
+    private LeaderboardEntryDto myEntry;
+
+    @Schema(description = "내 앞뒤 순위의 기록 (나 포함, 순위 순서)")
+    private List<LeaderboardEntryDto> neighbours;
+}
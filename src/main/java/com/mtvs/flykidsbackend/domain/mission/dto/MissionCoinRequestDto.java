@@ -0,0 +1,25 @@
+package com.mtvs.flykidsbackend.domain.mission.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * 미션 코인 위치 등록 요청 DTO
+ * - 목록 순서가 코인 순번(0부터)이 된다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MissionCoinRequestDto {
+
+    @Schema(description = "코인 X 좌표", example = "3.0")
+    private double x;
+
+    @Schema(description = "코인 Y 좌표 (고도)", example = "1.5")
+    private double y;
+
+    @Schema(description = "코인 Z 좌표", example = "7.0")
+    private double z;
+}
@@ -0,0 +1,42 @@
+package com.mtvs.flykidsbackend.domain.mission.dto;
+
+import com.mtvs.flykidsbackend.domain.mission.model.ObstacleShape;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * 미션 장애물 등록 요청 DTO
+ * - BOX: (x1, y1, z1) 최소 좌표, (x2, y2, z2) 최대 좌표
+ * - CAPSULE: (x1, y1, z1) ~ (x2, y2, z2) 중심 선분 + radius
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MissionObstacleRequestDto {
+
+    @Schema(description = "장애물 형태 (BOX, CAPSULE)", example = "BOX")
+    private ObstacleShape shape;
+
+    @Schema(description = "BOX 최소 X / CAPSULE 시작점 X", example = "1.0")
+    private double x1;
+
+    @Schema(description = "BOX 최소 Y / CAPSULE 시작점 Y", example = "0.0")
+    private double y1;
+
+    @Schema(description = "BOX 최소 Z / CAPSULE 시작점 Z", example = "4.0")
+    private double z1;
+
+    @Schema(description = "BOX 최대 X / CAPSULE 끝점 X", example = "2.0")
+    private double x2;
+
+    @Schema(description = "BOX 최대 Y / CAPSULE 끝점 Y", example = "2.5")
+    private double y2;
+
+    @Schema(description = "BOX 최대 Z / CAPSULE 끝점 Z", example = "4.5")
+    private double z2;
+
+    @Schema(description = "CAPSULE 반지름 (BOX 는 무시)", example = "0.3")
+    private double radius;
+}
@@ -0,0 +1,34 @@
+package com.mtvs.flykidsbackend.domain.mission.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * 미션 사진 촬영 목표 등록 요청 DTO
+ * - 목록 순서가 목표 순번(0부터)이 된다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MissionPhotoTargetRequestDto {
+
+    @Schema(description = "촬영 대상 X 좌표", example = "5.0")
+    private double x;
+
+    @Schema(description = "촬영 대상 Y 좌표 (고도)", example = "1.0")
+    private double y;
+
+    @Schema(description = "촬영 대상 Z 좌표", example = "10.0")
+    private double z;
+
+    @Schema(description = "드론이 바라봐야 하는 방향 (yaw, 도 단위, 0 = +Z)", example = "0")
+    private double viewYaw;
+
+    @Schema(description = "허용 시야 원뿔 반각 (도 단위, 0 초과 90 이하)", example = "20")
+    private double coneHalfAngle;
+
+    @Schema(description = "최대 촬영 거리 (m)", example = "4.0")
+    private double maxDistance;
+}
@@ -0,0 +1,86 @@
+package com.mtvs.flykidsbackend.domain.mission.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지난 시즌 리더보드 스냅샷 엔티티
+ *
+ * 시즌(월)이 끝나면 미션별 유저 최고 기록 순위를 이 테이블에 고정해 둔다.
+ * 이후 닉네임 변경이나 결과 상태 변경과 관계없이 저장 시점의 순위를 그대로 보여준다.
+ *
+ * Fields:
+ * - missionId: 미션 ID
+ * - season: 시즌 (yyyy-MM)
+ * - ranking: 순위표 위치 (1부터, 같은 점수라도 서로 다름, 표시 순위는 조회 시 점수로 계산)
+ * - userId, nickname: 유저 ID와 저장 시점의 닉네임 (비활성 유저면 null)
+ * - resultId: 순위에 오른 결과 ID
+ * - score, totalTime, completedAt: 최고 기록
+ * - archivedAt: 스냅샷 저장 시각
+ *
+ * (mission_id, season, ranking) 유니크 제약으로 같은 시즌 스냅샷이 두 번 저장되지 않는다. (여러 서버 동시 저장)
+ * 성공 기록이 없는 시즌은 ranking 0 인 빈 시즌 표시 행 하나만 저장해, 재시작 후에도 다시 집계하지 않는다.
+ */
+@Entity
+@Table(
+        name = "leaderboard_season_snapshot",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_season_snapshot_mission_season_ranking",
+                columnNames = {"mission_id", "season", "ranking"})
+)
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class LeaderboardSeasonSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "mission_id", nullable = false)
+    private Long missionId;
+
+    @Column(nullable = false, length = 7)
+    private String season;
+
+    @Column(nullable = false)
+    private int ranking;
+
+    private Long userId;
+
+    private String nickname;
+
+    private Long resultId;
+
+    private int score;
+
+    private double totalTime;
+
+    private LocalDateTime completedAt;
+
+    @Builder.Default
+    private LocalDateTime archivedAt = LocalDateTime.now();
+
+    /** 빈 시즌 표시 행의 ranking */
+    public static final int EMPTY_SEASON_RANKING = 0;
+
+    /**
+     * 성공 기록이 없는 시즌의 표시 행 (시즌 스냅샷 저장 완료 표시용, 순위 조회에서는 제외)
+     */
+    public static LeaderboardSeasonSnapshot emptySeason(Long missionId, String season) {
+        return LeaderboardSeasonSnapshot.builder()
+                .missionId(missionId)
+                .season(season)
+                .ranking(EMPTY_SEASON_RANKING)
+                .build();
+    }
+
+    /** 빈 시즌 표시 행 여부 */
+    public boolean isEmptySeason() {
+        return ranking == EMPTY_SEASON_RANKING;
+    }
+}
@@ -0,0 +1,35 @@
+package com.mtvs.flykidsbackend.domain.mission.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 미션 코인 위치 엔티티
+ * - COIN 미션 코스에 배치된 코인의 위치를 저장한다.
+ * - coinIndex 는 미션 내 코인 순번(0부터)으로, 세션별 수집 비트셋의 비트 위치로 사용된다.
+ */
+@Entity
+@Table(name = "mission_coin", indexes = @Index(name = "idx_mission_coin_mission", columnList = "mission_id"))
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class MissionCoin {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 코인이 속한 미션 ID */
+    @Column(name = "mission_id", nullable = false)
+    private Long missionId;
+
+    /** 미션 내 코인 순번 (0부터) */
+    @Column(name = "coin_index", nullable = false)
+    private int coinIndex;
+
+    private double x;
+    private double y;
+    private double z;
+}
@@ -0,0 +1,48 @@
+package com.mtvs.flykidsbackend.domain.mission.entity;
+
+import com.mtvs.flykidsbackend.domain.mission.model.ObstacleShape;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 미션 장애물 형상 엔티티
+ * - OBSTACLE 미션 코스의 장애물을 박스(AABB) 또는 캡슐로 저장한다.
+ * - 서버는 미션별로 BVH 를 구성해 텔레메트리 샘플마다 충돌을 판정한다.
+ *
+ * 좌표 해석
+ * - BOX: (x1, y1, z1) 최소 좌표, (x2, y2, z2) 최대 좌표
+ * - CAPSULE: (x1, y1, z1) ~ (x2, y2, z2) 중심 선분, radius 반지름
+ */
+@Entity
+@Table(name = "mission_obstacle", indexes = @Index(name = "idx_mission_obstacle_mission", columnList = "mission_id"))
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class MissionObstacle {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 장애물이 속한 미션 ID */
+    @Column(name = "mission_id", nullable = false)
+    private Long missionId;
+
+    /** 장애물 형태 */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ObstacleShape shape;
+
+    private double x1;
+    private double y1;
+    private double z1;
+
+    private double x2;
+    private double y2;
+    private double z2;
+
+    /** 캡슐 반지름 (BOX 는 0) */
+    private double radius;
+}
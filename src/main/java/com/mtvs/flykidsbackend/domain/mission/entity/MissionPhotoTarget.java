@@ -0,0 +1,47 @@
+package com.mtvs.flykidsbackend.domain.mission.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 미션 사진 촬영 목표 엔티티
+ * - PHOTO 미션에서 드론이 촬영해야 하는 대상의 위치와 촬영 조건(시야 원뿔)을 저장한다.
+ * - 드론이 maxDistance 이내에서, viewYaw 방향 기준 ±coneHalfAngle 안에 위치하고
+ *   기수(rotationY)도 같은 범위 안을 향하면 촬영 성공으로 판정한다.
+ * - targetIndex 는 미션 내 목표 순번(0부터)으로, 세션별 촬영 비트셋의 비트 위치로 사용된다.
+ */
+@Entity
+@Table(name = "mission_photo_target", indexes = @Index(name = "idx_mission_photo_target_mission", columnList = "mission_id"))
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class MissionPhotoTarget {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 목표가 속한 미션 ID */
+    @Column(name = "mission_id", nullable = false)
+    private Long missionId;
+
+    /** 미션 내 목표 순번 (0부터) */
+    @Column(name = "target_index", nullable = false)
+    private int targetIndex;
+
+    /** 촬영 대상 위치 */
+    private double x;
+    private double y;
+    private double z;
+
+    /** 촬영 방향 (드론이 바라봐야 하는 yaw, 도 단위, 0 = +Z) */
+    private double viewYaw;
+
+    /** 허용 시야 원뿔 반각 (도 단위) */
+    private double coneHalfAngle;
+
+    /** 최대 촬영 거리(m) */
+    private double maxDistance;
+}
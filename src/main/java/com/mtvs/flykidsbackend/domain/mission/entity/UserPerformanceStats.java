@@ -0,0 +1,90 @@
+package com.mtvs.flykidsbackend.domain.mission.entity;
+
+import com.mtvs.flykidsbackend.domain.mission.model.MissionResultStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 유저 미션 통계 엔티티 (집계 결과를 미리 저장해 두는 행)
+ *
+ * 미션 결과가 저장될 때 같은 트랜잭션에서 누적해, 통계 조회는 이 행 하나를 PK 로 읽기만 한다.
+ * 집계 기준은 기존 통계 조회와 같다.
+ * - attempts: 중단(ABORT)을 제외한 결과 수
+ * - resultCount, scoreSum, totalFlightTime: 모든 결과 기준 (평균 점수 = scoreSum / resultCount)
+ * - successCountByMission: 미션별 성공 횟수, successfulSets: 성공 횟수가 SET_SUCCESS_COUNT 이상인 미션 수
+ *
+ * 결과 상태 변경(FAIL → NOT_ATTEMPTED 재도전 초기화)은 위 기준 어느 값도 바꾸지 않는다.
+ */
+@Entity
+@Table(name = "user_performance_stats")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class UserPerformanceStats {
+
+    /** 성공 세트로 인정하는 미션별 성공 횟수 */
+    public static final int SET_SUCCESS_COUNT = 3;
+
+    /** 유저 ID (PK) */
+    @Id
+    private Long userId;
+
+    /** 중단을 제외한 결과 수 */
+    private long attempts;
+
+    /** 모든 결과 수 */
+    private long resultCount;
+
+    /** 모든 결과의 점수 합 */
+    private long scoreSum;
+
+    /** 모든 결과의 비행 시간 합 (초) */
+    private double totalFlightTime;
+
+    /** 성공 세트 수 */
+    private int successfulSets;
+
+    /** 미션별 성공 횟수 (결과 반영 시에만 로딩됨) */
+    @Builder.Default
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "user_performance_mission_success", joinColumns = @JoinColumn(name = "user_id"))
+    @MapKeyColumn(name = "mission_id")
+    @Column(name = "success_count")
+    private Map<Long, Integer> successCountByMission = new HashMap<>();
+
+    /** 마지막 갱신 시각 */
+    private LocalDateTime updatedAt;
+
+    /**
+     * 저장된 미션 결과 하나를 통계에 누적한다.
+     *
+     * @param missionId 미션 ID
+     * @param status    결과 상태
+     * @param score     점수
+     * @param totalTime 비행 시간 (초)
+     */
+    public void recordResult(Long missionId, MissionResultStatus status, int score, double totalTime) {
+        resultCount++;
+        scoreSum += score;
+        totalFlightTime += totalTime;
+        if (status != null && status != MissionResultStatus.ABORT) {
+            attempts++;
+        }
+        if (status == MissionResultStatus.SUCCESS && missionId != null
+                && successCountByMission.merge(missionId, 1, Integer::sum) == SET_SUCCESS_COUNT) {
+            successfulSets++;
+        }
+        updatedAt = LocalDateTime.now();
+    }
+
+    /** 평균 점수 (결과가 없으면 0) */
+    public double getAverageScore() {
+        return resultCount == 0 ? 0.0 : (double) scoreSum / resultCount;
+    }
+}
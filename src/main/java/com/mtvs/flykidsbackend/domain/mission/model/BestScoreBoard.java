@@ -0,0 +1,105 @@
+package com.mtvs.flykidsbackend.domain.mission.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 미션 하나의 유저별 최고 기록 랭킹
+ *
+ * 유저마다 가장 좋은 성공 결과(LeaderboardEntry.RANKING 기준) 하나만 남겨, 한 유저가 상위권을 모두 차지하지 않게 한다.
+ * - 정렬된 최고 기록(TreeSet): 상위 목록과 내 주변 기록을 순서대로 읽는다.
+ * - 점수 펜윅 트리: 순위 = 1 + (나보다 점수가 높은 유저 수) 를 O(log S) 로 구한다.
+ *   같은 점수는 같은 순위이며 (공동 순위), 목록 안에서는 소요 시간이 짧은 순으로 놓인다.
+ * 모든 메서드는 이 객체로 동기화된다.
+ */
+public final class BestScoreBoard {
+
+    /** 처음 수용할 최대 점수 (넘으면 펜윅 트리가 늘어난다) */
+    private static final int INITIAL_MAX_SCORE = 127;
+
+    /** 순위가 붙은 기록 */
+    public record Ranked(int rank, LeaderboardEntry entry) {
+    }
+
+    /**
+     * 조회 결과
+     *
+     * @param totalPlayers 기록이 있는 유저 수
+     * @param top          상위 기록
+     * @param me           내 최고 기록 (기록이 없으면 null)
+     * @param neighbours   내 앞뒤 기록 (나 포함, 기록 순서)
+     */
+    public record View(int totalPlayers, List<Ranked> top, Ranked me, List<Ranked> neighbours) {
+    }
+
+    private final Map<Long, LeaderboardEntry> bestByUser = new HashMap<>();
+    private final TreeSet<LeaderboardEntry> ranking = new TreeSet<>(LeaderboardEntry.RANKING);
+    private final ScoreFenwickTree scores = new ScoreFenwickTree(INITIAL_MAX_SCORE);
+
+    /**
+     * 성공 기록을 반영한다. 유저의 기존 최고 기록보다 좋을 때만 교체한다.
+     *
+     * @param entry 성공 기록
+     * @return 최고 기록이 바뀌었으면 true
+     */
+    public synchronized boolean offer(LeaderboardEntry entry) {
+        LeaderboardEntry current = bestByUser.get(entry.userId());
+        if (current != null) {
+            if (LeaderboardEntry.RANKING.compare(entry, current) >= 0) {
+                return false;
+            }
+            ranking.remove(current);
+            scores.add(current.score(), -1);
+        }
+        bestByUser.put(entry.userId(), entry);
+        ranking.add(entry);
+        scores.add(entry.score(), 1);
+        return true;
+    }
+
+    /**
+     * 상위 기록과 유저의 순위, 앞뒤 기록을 조회한다.
+     *
+     * @param userId     조회하는 유저 ID (null 이면 상위 기록만)
+     * @param limit      상위 기록 수
+     * @param neighbours 내 앞뒤로 함께 볼 기록 수 (한쪽 기준)
+     * @return 조회 결과
+     */
+    public synchronized View view(Long userId, int limit, int neighbours) {
+        List<Ranked> top = new ArrayList<>(limit);
+        Iterator<LeaderboardEntry> it = ranking.iterator();
+        while (it.hasNext() && top.size() < limit) {
+            top.add(ranked(it.next()));
+        }
+
+        LeaderboardEntry mine = userId != null ? bestByUser.get(userId) : null;
+        if (mine == null) {
+            return new View(scores.size(), top, null, List.of());
+        }
+
+        List<Ranked> around = new ArrayList<>(neighbours * 2 + 1);
+        List<LeaderboardEntry> above = new ArrayList<>(neighbours);
+        Iterator<LeaderboardEntry> up = ranking.headSet(mine, false).descendingIterator();
+        while (up.hasNext() && above.size() < neighbours) {
+            above.add(up.next());
+        }
+        for (int i = above.size() - 1; i >= 0; i--) {
+            around.add(ranked(above.get(i)));
+        }
+        Ranked me = ranked(mine);
+        around.add(me);
+        Iterator<LeaderboardEntry> down = ranking.tailSet(mine, false).iterator();
+        for (int i = 0; i < neighbours && down.hasNext(); i++) {
+            around.add(ranked(down.next()));
+        }
+        return new View(scores.size(), top, me, around);
+    }
+
+    private Ranked ranked(LeaderboardEntry entry) {
+        return new Ranked(scores.countAbove(entry.score()) + 1, entry);
+    }
+}
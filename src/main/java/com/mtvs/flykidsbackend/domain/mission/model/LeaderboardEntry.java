@@ -0,0 +1,34 @@
+package com.mtvs.flykidsbackend.domain.mission.model;
+
+import com.mtvs.flykidsbackend.domain.mission.entity.DroneMissionResult;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * 메모리 리더보드 항목 (성공 결과 하나)
+ * - 닉네임은 변경될 수 있으므로 담지 않고, 조회할 때 닉네임 캐시에서 읽는다.
+ *
+ * @param resultId    결과 ID
+ * @param userId      유저 ID
+ * @param score       점수
+ * @param totalTime   소요 시간(초)
+ * @param completedAt 미션 완료 시각
+ */
+public record LeaderboardEntry(Long resultId, Long userId, int score, double totalTime, LocalDateTime completedAt) {
+
+    /**
+     * 순위 정렬 기준
+     * - 점수 높은 순 → 소요 시간 짧은 순 → 먼저 완료한 순 → 결과 ID 순
+     */
+    public static final Comparator<LeaderboardEntry> RANKING = Comparator
+            .comparingInt(LeaderboardEntry::score).reversed()
+            .thenComparingDouble(LeaderboardEntry::totalTime)
+            .thenComparing(LeaderboardEntry::completedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(LeaderboardEntry::resultId);
+
+    public static LeaderboardEntry from(DroneMissionResult result) {
+        return new LeaderboardEntry(result.getId(), result.getUserId(), result.getScore(),
+                result.getTotalTime(), result.getCompletedAt());
+    }
+}
@@ -0,0 +1,23 @@
+package com.mtvs.flykidsbackend.domain.mission.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리더보드 조회 프로젝션 (미션 결과 + 작성자 닉네임)
+ * - 결과 엔티티와 미션을 로딩하지 않고 한 번의 쿼리로 필요한 컬럼만 읽는다.
+ *
+ * @param resultId    결과 ID
+ * @param userId      유저 ID
+ * @param nickname    활성 사용자의 닉네임 (탈퇴 등 비활성 사용자면 null)
+ * @param score       점수
+ * @param totalTime   소요 시간(초)
+ * @param completedAt 미션 완료 시각
+ */
+public record LeaderboardRow(Long resultId, Long userId, String nickname,
+                             int score, double totalTime, LocalDateTime completedAt) {
+
+    /** 메모리 리더보드 항목으로 변환 (닉네임 제외) */
+    public LeaderboardEntry toEntry() {
+        return new LeaderboardEntry(resultId, userId, score, totalTime, completedAt);
+    }
+}
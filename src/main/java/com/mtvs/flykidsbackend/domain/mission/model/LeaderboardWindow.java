@@ -0,0 +1,21 @@
+package com.mtvs.flykidsbackend.domain.mission.model;
+
+/**
+ * 기간별 리더보드 구간
+ */
+public enum LeaderboardWindow {
+    /**
+     * 오늘 (자정부터)
+     */
+    DAILY,
+
+    /**
+     * 최근 7일 (오늘 포함)
+     */
+    WEEKLY,
+
+    /**
+     * 이번 시즌 (이번 달 1일부터)
+     */
+    SEASON
+}
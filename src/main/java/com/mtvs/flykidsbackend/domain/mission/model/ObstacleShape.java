@@ -0,0 +1,11 @@
+package com.mtvs.flykidsbackend.domain.mission.model;
+
+/**
+ * 장애물 형태 ENUM
+ * - BOX: 축 정렬 박스 (AABB) - (x1, y1, z1) = 최소 좌표, (x2, y2, z2) = 최대 좌표
+ * - CAPSULE: 캡슐 - (x1, y1, z1) ~ (x2, y2, z2) 선분 + 반지름(radius)
+ */
+public enum ObstacleShape {
+    BOX,
+    CAPSULE
+}
@@ -0,0 +1,98 @@
+package com.mtvs.flykidsbackend.domain.mission.model;
+
+/**
+ * 점수 구간별 인원 수 펜윅 트리 (Binary Indexed Tree)
+ *
+ * 점수(0 이상의 정수)를 버킷 인덱스로 사용해, "이 점수보다 높은 인원 수"를 O(log S) 에 구한다. (S = 최대 점수)
+ * - 최대 점수를 넘는 점수가 들어오면 두 배씩 늘려 다시 만든다. (코인 미션은 점수 상한이 없음)
+ * - 음수 점수는 0 으로 취급한다.
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화한다.
+ */
+public final class ScoreFenwickTree {
+
+    /** 점수별 인원 수 (트리를 다시 만들 때 사용) */
+    private int[] counts;
+
+    /** 1-based 펜윅 트리 (tree[i] = counts 의 구간 합) */
+    private int[] tree;
+
+    private int total;
+
+    /**
+     * @param maxScore 처음 수용할 최대 점수
+     */
+    public ScoreFenwickTree(int maxScore) {
+        this.counts = new int[Math.max(1, maxScore + 1)];
+        this.tree = new int[counts.length + 1];
+    }
+
+    /**
+     * 점수 버킷의 인원 수를 더한다.
+     *
+     * @param score 점수
+     * @param delta 더할 인원 수 (제거는 -1)
+     */
+    public void add(int score, int delta) {
+        int bucket = Math.max(0, score);
+        if (bucket >= counts.length) {
+            grow(bucket);
+        }
+        counts[bucket] += delta;
+        total += delta;
+        for (int i = bucket + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * 주어진 점수보다 높은 점수의 인원 수
+     *
+     * @param score 기준 점수
+     * @return 인원 수
+     */
+    public int countAbove(int score) {
+        int bucket = Math.max(0, score);
+        if (bucket >= counts.length) {
+            return 0;
+        }
+        return total - countAtMost(bucket);
+    }
+
+    /** 전체 인원 수 */
+    public int size() {
+        return total;
+    }
+
+    /**
+     * 0 ~ bucket 점수의 인원 수 (접두 합)
+     */
+    private int countAtMost(int bucket) {
+        int sum = 0;
+        for (int i = bucket + 1; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * bucket 을 담을 수 있도록 배열을 늘리고 트리를 O(S) 로 다시 만든다.
+     */
+    private void grow(int bucket) {
+        int length = counts.length;
+        while (length <= bucket) {
+            length *= 2;
+        }
+        int[] grown = new int[length];
+        System.arraycopy(counts, 0, grown, 0, counts.length);
+        counts = grown;
+
+        tree = new int[length + 1];
+        for (int i = 1; i <= length; i++) {
+            tree[i] += counts[i - 1];
+            int parent = i + (i & -i);
+            if (parent <= length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+}
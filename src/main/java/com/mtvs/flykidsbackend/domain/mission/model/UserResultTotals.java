@@ -0,0 +1,13 @@
+package com.mtvs.flykidsbackend.domain.mission.model;
+
+/**
+ * 유저 전체 결과 집계 프로젝션 (통계 행을 처음 만들 때 기존 결과로 채우는 용도)
+ * - 결과가 없으면 합계 값은 null 이다. (SQL SUM)
+ *
+ * @param resultCount 모든 결과 수
+ * @param scoreSum    모든 결과의 점수 합
+ * @param flightTime  모든 결과의 비행 시간 합 (초)
+ * @param attempts    중단(ABORT)을 제외한 결과 수
+ */
+public record UserResultTotals(Long resultCount, Long scoreSum, Double flightTime, Long attempts) {
+}
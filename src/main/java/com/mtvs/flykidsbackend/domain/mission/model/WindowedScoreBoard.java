@@ -0,0 +1,148 @@
+package com.mtvs.flykidsbackend.domain.mission.model;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 미션 하나의 기간별(일간 / 주간 / 시즌) 유저별 최고 기록
+ *
+ * 요청마다 완료 시각 조건으로 결과 테이블을 다시 읽지 않도록, 성공 기록을 기간 버킷에 미리 모아 둔다.
+ * - 일 버킷 DAYS 개를 링으로 돌려 쓴다. (슬롯 = epochDay % DAYS)
+ *   날짜가 바뀌면 해당 슬롯의 맵을 통째로 새로 만들어 7일 지난 기록을 O(1) 로 버린다.
+ * - 각 버킷에는 그 날의 유저별 최고 기록만 둔다.
+ *   일간은 오늘 버킷, 주간은 최근 7개 버킷을 합쳐 유저별 최고 기록을 구한다.
+ * - 시즌(월) 최고 기록은 별도 맵에 두고, 달이 바뀌면 새 맵으로 바꾼다.
+ *   지난 시즌은 LeaderboardSeasonArchiver 가 스냅샷으로 저장한다.
+ * - 정렬된 결과는 기록이 추가되거나 날짜가 바뀔 때까지 구간별로 캐시한다.
+ * 모든 메서드는 이 객체로 동기화된다.
+ */
+public final class WindowedScoreBoard {
+
+    /** 일 버킷 수 (주간 구간 길이) */
+    public static final int DAYS = 7;
+
+    private final long[] bucketDays = new long[DAYS];
+    private final List<Map<Long, LeaderboardEntry>> buckets = new ArrayList<>(DAYS);
+
+    private YearMonth season;
+    private Map<Long, LeaderboardEntry> seasonBest = new HashMap<>();
+
+    private final Map<LeaderboardWindow, List<LeaderboardEntry>> sorted = new EnumMap<>(LeaderboardWindow.class);
+    private LocalDate sortedDay;
+
+    /**
+     * @param season 현재 시즌 (월)
+     */
+    public WindowedScoreBoard(YearMonth season) {
+        this.season = season;
+        Arrays.fill(bucketDays, Long.MIN_VALUE);
+        for (int i = 0; i < DAYS; i++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * 성공 기록을 완료일의 버킷과 시즌에 반영한다.
+     * - 7일보다 오래된 기록, 지난 시즌 기록은 해당 구간에 반영하지 않는다.
+     *
+     * @param entry 성공 기록 (완료 시각 필수)
+     */
+    public synchronized void record(LeaderboardEntry entry) {
+        if (entry.completedAt() == null) {
+            return;
+        }
+        LocalDate day = entry.completedAt().toLocalDate();
+        YearMonth entrySeason = YearMonth.from(day);
+        advanceSeason(entrySeason);
+        if (entrySeason.equals(season)) {
+            offerBest(seasonBest, entry);
+        }
+
+        long epochDay = day.toEpochDay();
+        int slot = (int) Math.floorMod(epochDay, (long) DAYS);
+        if (bucketDays[slot] < epochDay) {
+            bucketDays[slot] = epochDay;
+            buckets.set(slot, new HashMap<>());
+        }
+        if (bucketDays[slot] == epochDay) {
+            offerBest(buckets.get(slot), entry);
+        }
+        sorted.clear();
+    }
+
+    /**
+     * 구간의 유저별 최고 기록을 순위순으로 조회한다.
+     *
+     * @param window 구간
+     * @param today  기준 날짜
+     * @param limit  최대 인원
+     * @return 순위순 기록 (유저당 하나)
+     */
+    public synchronized List<LeaderboardEntry> top(LeaderboardWindow window, LocalDate today, int limit) {
+        advanceSeason(YearMonth.from(today));
+        if (!today.equals(sortedDay)) {
+            sorted.clear();
+            sortedDay = today;
+        }
+        List<LeaderboardEntry> ranking = sorted.computeIfAbsent(window, w -> rank(w, today));
+        return List.copyOf(ranking.subList(0, Math.min(limit, ranking.size())));
+    }
+
+    /** 현재 시즌 */
+    public synchronized YearMonth getSeason() {
+        return season;
+    }
+
+    /**
+     * 기록 목록에서 유저별 최고 기록만 남겨 순위순으로 정렬한다.
+     *
+     * @param entries 성공 기록
+     * @return 순위순 기록 (유저당 하나)
+     */
+    public static List<LeaderboardEntry> bestPerUser(Iterable<LeaderboardEntry> entries) {
+        Map<Long, LeaderboardEntry> best = new HashMap<>();
+        for (LeaderboardEntry entry : entries) {
+            offerBest(best, entry);
+        }
+        List<LeaderboardEntry> ranking = new ArrayList<>(best.values());
+        ranking.sort(LeaderboardEntry.RANKING);
+        return ranking;
+    }
+
+    private List<LeaderboardEntry> rank(LeaderboardWindow window, LocalDate today) {
+        if (window == LeaderboardWindow.SEASON) {
+            return bestPerUser(seasonBest.values());
+        }
+        long to = today.toEpochDay();
+        long from = window == LeaderboardWindow.DAILY ? to : to - (DAYS - 1);
+        List<LeaderboardEntry> entries = new ArrayList<>();
+        for (int slot = 0; slot < DAYS; slot++) {
+            if (bucketDays[slot] >= from && bucketDays[slot] <= to) {
+                entries.addAll(buckets.get(slot).values());
+            }
+        }
+        return bestPerUser(entries);
+    }
+
+    /**
+     * 더 최근 시즌이 되면 시즌 최고 기록을 새 맵으로 바꾼다. (지난 시즌은 스냅샷으로 따로 저장됨)
+     */
+    private void advanceSeason(YearMonth current) {
+        if (current.isAfter(season)) {
+            season = current;
+            seasonBest = new HashMap<>();
+            sorted.clear();
+        }
+    }
+
+    private static void offerBest(Map<Long, LeaderboardEntry> best, LeaderboardEntry entry) {
+        best.merge(entry.userId(), entry,
+                (current, next) -> LeaderboardEntry.RANKING.compare(next, current) < 0 ? next : current);
+    }
+}
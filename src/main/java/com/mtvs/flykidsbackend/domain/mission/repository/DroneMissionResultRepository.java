@@ -1,12 +1,15 @@
 package com.mtvs.flykidsbackend.domain.mission.repository;
 
 import com.mtvs.flykidsbackend.domain.mission.entity.DroneMissionResult;
+import com.mtvs.flykidsbackend.domain.mission.model.LeaderboardRow;
 import com.mtvs.flykidsbackend.domain.mission.model.MissionResultStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -52,6 +55,79 @@ public interface DroneMissionResultRepository extends JpaRepository<DroneMission
     List<DroneMissionResult> findTop10ByMission_IdAndStatusOrderByScoreDesc(
             Long missionId, MissionResultStatus status);
 
+    /**
+     * 특정 미션에서 성공 상태인 상위 결과를 닉네임과 함께 한 번의 쿼리로 조회한다.
+     *
+     * - 유저는 활성 상태일 때만 조인되므로, 비활성 유저의 결과는 닉네임이 null 로 남는다.
+     * - 미션은 외래 키로만 비교하므로 Mission 엔티티를 로딩하지 않는다.
+     * - 정렬 기준은 LeaderboardEntry.RANKING 과 같다.
+     *
+     * @param missionId 조회할 미션 ID
+     * @param status    미션 결과 상태 (예: SUCCESS)
+     * @param pageable  조회 개수 (예: PageRequest.of(0, 10))
+     * @return 순위순 리더보드 행 리스트
+     */
+    @Query("SELECT new com.mtvs.flykidsbackend.domain.mission.model.LeaderboardRow(" +
+            "r.id, r.userId, u.nickname, r.score, r.totalTime, r.completedAt) " +
+            "FROM DroneMissionResult r " +
+            "LEFT JOIN User u ON u.id = r.userId AND u.status = 'ACTIVE' " +
+            "WHERE r.mission.id = :missionId AND r.status = :status " +
+            "ORDER BY r.score DESC, r.totalTime ASC, r.completedAt ASC, r.id ASC")
+    List<LeaderboardRow> findLeaderboardRows(@Param("missionId") Long missionId,
+                                             @Param("status") MissionResultStatus status,
+                                             Pageable pageable);
+
+    /**
+     * 특정 미션에서 유저별 최고 점수에 해당하는 결과를 닉네임과 함께 조회한다. (유저별 최고 기록 리더보드 재구성용)
+     *
+     * - 같은 최고 점수의 결과가 여러 개인 유저는 모두 반환되므로, 호출하는 쪽에서 유저별로 하나만 남긴다.
+     *
+     * @param missionId 조회할 미션 ID
+     * @param status    미션 결과 상태 (예: SUCCESS)
+     * @return 유저별 최고 점수 결과 행 리스트
+     */
+    @Query("SELECT new com.mtvs.flykidsbackend.domain.mission.model.LeaderboardRow(" +
+            "r.id, r.userId, u.nickname, r.score, r.totalTime, r.completedAt) " +
+            "FROM DroneMissionResult r " +
+            "LEFT JOIN User u ON u.id = r.userId AND u.status = 'ACTIVE' " +
+            "WHERE r.mission.id = :missionId AND r.status = :status " +
+            "AND r.score = (SELECT MAX(b.score) FROM DroneMissionResult b " +
+            "WHERE b.mission.id = :missionId AND b.status = :status AND b.userId = r.userId)")
+    List<LeaderboardRow> findBestScoreRows(@Param("missionId") Long missionId,
+                                           @Param("status") MissionResultStatus status);
+
+    /**
+     * 특정 미션에서 기간 안에 완료된 결과를 닉네임과 함께 조회한다. (기간별 리더보드 재구성, 시즌 스냅샷용)
+     *
+     * @param missionId 조회할 미션 ID
+     * @param status    미션 결과 상태 (예: SUCCESS)
+     * @param from      완료 시각 시작 (포함)
+     * @param to        완료 시각 끝 (제외)
+     * @return 기간 안의 결과 행 리스트
+     */
+    @Query("SELECT new com.mtvs.flykidsbackend.domain.mission.model.LeaderboardRow(" +
+            "r.id, r.userId, u.nickname, r.score, r.totalTime, r.completedAt) " +
+            "FROM DroneMissionResult r " +
+            "LEFT JOIN User u ON u.id = r.userId AND u.status = 'ACTIVE' " +
+            "WHERE r.mission.id = :missionId AND r.status = :status " +
+            "AND r.completedAt >= :from AND r.completedAt < :to")
+    List<LeaderboardRow> findLeaderboardRowsCompletedBetween(@Param("missionId") Long missionId,
+                                                             @Param("status") MissionResultStatus status,
+                                                             @Param("from") LocalDateTime from,
+                                                             @Param("to") LocalDateTime to);
+
+    /**
+     * 특정 미션에서 가장 먼저 완료된 결과의 완료 시각 (시즌 스냅샷 시작 시즌 계산용)
+     *
+     * @param missionId 조회할 미션 ID
+     * @param status    미션 결과 상태 (예: SUCCESS)
+     * @return 가장 이른 완료 시각 (결과가 없으면 null)
+     */
+    @Query("SELECT MIN(r.completedAt) FROM DroneMissionResult r " +
+            "WHERE r.mission.id = :missionId AND r.status = :status")
+    LocalDateTime findFirstCompletedAt(@Param("missionId") Long missionId,
+                                       @Param("status") MissionResultStatus status);
+
     /**
      * 특정 유저가 특정 미션에서 특정 상태를 가진 미션 결과들을 조회한다.
      *
@@ -62,6 +138,32 @@ public interface DroneMissionResultRepository extends JpaRepository<DroneMission
      */
     List<DroneMissionResult> findByUserIdAndMissionIdAndStatus(Long userId, Long missionId, MissionResultStatus status);
 
+    /**
+     * 특정 유저의 전체 결과 집계 (결과 수, 점수 합, 비행 시간 합, 중단 제외 결과 수)
+     *
+     * @param userId 유저 ID
+     * @param abort  시도 횟수에서 제외할 상태 (ABORT)
+     * @return 집계 값 (결과가 없으면 합계는 null)
+     */
+    @Query("SELECT new com.mtvs.flykidsbackend.domain.mission.model.UserResultTotals(" +
+            "COUNT(r), SUM(r.score), SUM(r.totalTime), " +
+            "SUM(CASE WHEN r.status <> :abort THEN 1 ELSE 0 END)) " +
+            "FROM DroneMissionResult r WHERE r.userId = :userId")
+    UserResultTotals findTotalsByUserId(@Param("userId") Long userId,
+                                        @Param("abort") MissionResultStatus abort);
+
+    /**
+     * 특정 유저의 미션별 성공 횟수
+     *
+     * @param userId 유저 ID
+     * @param status 성공 상태 (SUCCESS)
+     * @return [미션 ID, 성공 횟수] 리스트
+     */
+    @Query("SELECT r.mission.id, COUNT(r) FROM DroneMissionResult r " +
+            "WHERE r.userId = :userId AND r.status = :status GROUP BY r.mission.id")
+    List<Object[]> countByMissionForUser(@Param("userId") Long userId,
+                                         @Param("status") MissionResultStatus status);
+
     /**
      * 특정 유저의 평균 점수 조회
      *
@@ -0,0 +1,35 @@
+package com.mtvs.flykidsbackend.domain.mission.repository;
+
+import com.mtvs.flykidsbackend.domain.mission.entity.LeaderboardSeasonSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 지난 시즌 리더보드 스냅샷 리포지토리
+ */
+@Repository
+public interface LeaderboardSeasonSnapshotRepository extends JpaRepository<LeaderboardSeasonSnapshot, Long> {
+
+    /**
+     * 미션 시즌 스냅샷이 이미 저장되었는지 확인한다. (빈 시즌 표시 행 포함)
+     */
+    boolean existsByMissionIdAndSeason(Long missionId, String season);
+
+    /**
+     * 미션의 가장 최근에 저장된 시즌 (빈 시즌 표시 행 포함, 시즌 문자열 "yyyy-MM" 은 사전순이 곧 시간순)
+     *
+     * @return 최근 시즌 (저장된 스냅샷이 없으면 null)
+     */
+    @Query("SELECT MAX(s.season) FROM LeaderboardSeasonSnapshot s WHERE s.missionId = :missionId")
+    String findLatestSeason(@Param("missionId") Long missionId);
+
+    /**
+     * 미션 시즌 스냅샷을 순위표 순으로 조회한다. (ranking 이 minRanking 보다 큰 행, 빈 시즌 표시 행 제외용)
+     */
+    List<LeaderboardSeasonSnapshot> findByMissionIdAndSeasonAndRankingGreaterThanOrderByRankingAsc(
+            Long missionId, String season, int minRanking);
+}
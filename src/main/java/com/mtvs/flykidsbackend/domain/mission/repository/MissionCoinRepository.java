@@ -0,0 +1,20 @@
+package com.mtvs.flykidsbackend.domain.mission.repository;
+
+import com.mtvs.flykidsbackend.domain.mission.entity.MissionCoin;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 미션 코인 위치 리포지토리
+ */
+@Repository
+public interface MissionCoinRepository extends JpaRepository<MissionCoin, Long> {
+
+    /** 특정 미션의 코인을 순번 순으로 조회 */
+    List<MissionCoin> findByMissionIdOrderByCoinIndexAsc(Long missionId);
+
+    /** 특정 미션의 전체 코인 삭제 (재등록 시 사용) */
+    void deleteByMissionId(Long missionId);
+}
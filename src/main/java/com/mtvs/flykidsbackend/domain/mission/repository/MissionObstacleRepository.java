@@ -0,0 +1,20 @@
+package com.mtvs.flykidsbackend.domain.mission.repository;
+
+import com.mtvs.flykidsbackend.domain.mission.entity.MissionObstacle;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 미션 장애물 형상 리포지토리
+ */
+@Repository
+public interface MissionObstacleRepository extends JpaRepository<MissionObstacle, Long> {
+
+    /** 특정 미션의 전체 장애물 조회 */
+    List<MissionObstacle> findByMissionId(Long missionId);
+
+    /** 특정 미션의 전체 장애물 삭제 (재등록 시 사용) */
+    void deleteByMissionId(Long missionId);
+}
@@ -0,0 +1,20 @@
+package com.mtvs.flykidsbackend.domain.mission.repository;
+
+import com.mtvs.flykidsbackend.domain.mission.entity.MissionPhotoTarget;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 미션 사진 촬영 목표 리포지토리
+ */
+@Repository
+public interface MissionPhotoTargetRepository extends JpaRepository<MissionPhotoTarget, Long> {
+
+    /** 특정 미션의 촬영 목표를 순번 순으로 조회 */
+    List<MissionPhotoTarget> findByMissionIdOrderByTargetIndexAsc(Long missionId);
+
+    /** 특정 미션의 전체 촬영 목표 삭제 (재등록 시 사용) */
+    void deleteByMissionId(Long missionId);
+}
@@ -1,7 +1,11 @@
 package com.mtvs.flykidsbackend.domain.mission.repository;
 
 import com.mtvs.flykidsbackend.domain.mission.entity.Mission;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -22,4 +26,9 @@ public interface MissionRepository extends JpaRepository<Mission, Long> {
     // 현재 미션 순서보다 큰 locked 미션 중 가장 빠른 미션 찾기
     Optional<Mission> findFirstByOrderIndexGreaterThanAndLockedIsTrueOrderByOrderIndexAsc(Integer currentOrderIndex);
 
+    // 미션 행 잠금 조회 (SELECT ... FOR UPDATE) - 경로 버전 교체처럼 미션 단위 작업을 트랜잭션 끝까지 직렬화
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM Mission m WHERE m.id = :id")
+    Optional<Mission> findByIdForUpdate(@Param("id") Long id);
+
 }
@@ -0,0 +1,43 @@
+package com.mtvs.flykidsbackend.domain.mission.repository;
+
+import com.mtvs.flykidsbackend.domain.mission.entity.UserPerformanceStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 유저 미션 통계 리포지토리
+ */
+@Repository
+public interface UserPerformanceStatsRepository extends JpaRepository<UserPerformanceStats, Long> {
+
+    /**
+     * 결과 반영을 위해 통계 행을 쓰기 잠금으로 조회한다. (같은 유저의 동시 결과 저장 직렬화)
+     *
+     * @param userId 유저 ID
+     * @return 통계 행
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserPerformanceStats s WHERE s.userId = :userId")
+    Optional<UserPerformanceStats> findByIdForUpdate(@Param("userId") Long userId);
+
+    /**
+     * 빈 통계 행을 만든다. (이미 있으면 아무것도 하지 않음)
+     * - 동시에 호출돼도 중복 키 오류 없이 행 하나만 남는다. (INSERT ... ON CONFLICT DO NOTHING)
+     *
+     * @param userId 유저 ID
+     * @return 새로 만든 행 수 (0 또는 1)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_performance_stats " +
+            "(user_id, attempts, result_count, score_sum, total_flight_time, successful_sets, updated_at) " +
+            "VALUES (:userId, 0, 0, 0, 0, 0, now()) " +
+            "ON CONFLICT (user_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId);
+}
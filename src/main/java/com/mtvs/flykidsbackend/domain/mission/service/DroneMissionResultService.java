@@ -1,13 +1,15 @@
 package com.mtvs.flykidsbackend.domain.mission.service;
 
+import com.mtvs.flykidsbackend.domain.drone.service.DroneSessionService;
+import com.mtvs.flykidsbackend.domain.mission.dto.BestScoreLeaderboardResponseDto;
 import com.mtvs.flykidsbackend.domain.mission.dto.DroneMissionResultRequestDto;
 import com.mtvs.flykidsbackend.domain.mission.entity.DroneMissionResult;
 import com.mtvs.flykidsbackend.domain.mission.entity.Mission;
+import com.mtvs.flykidsbackend.domain.mission.model.LeaderboardWindow;
 import com.mtvs.flykidsbackend.domain.mission.model.MissionResultStatus;
 import com.mtvs.flykidsbackend.domain.mission.model.MissionType;
 import com.mtvs.flykidsbackend.domain.mission.repository.DroneMissionResultRepository;
 import com.mtvs.flykidsbackend.domain.mission.repository.MissionRepository;
-import com.mtvs.flykidsbackend.domain.user.repository.UserRepository;
 import com.mtvs.flykidsbackend.domain.mission.dto.LeaderboardEntryDto;
 import com.mtvs.flykidsbackend.domain.mission.dto.PlayerPerformanceStatsDto;
 import com.mtvs.flykidsbackend.domain.mission.dto.MissionHistoryResponseDto;
@@ -26,10 +28,16 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class DroneMissionResultService {
 
+    /** 리더보드 표시 인원 */
+    private static final int LEADERBOARD_SIZE = 10;
+
     private final DroneMissionResultRepository resultRepository;
     private final MissionRepository missionRepository;
     private final ScoreCalculator scoreCalculator;
-    private final UserRepository userRepository;
+    private final DroneSessionService droneSessionService;
+    private final MissionLeaderboardService missionLeaderboardService;
+    private final WindowedLeaderboardService windowedLeaderboardService;
+    private final PlayerStatsService playerStatsService;
 
     /**
      * 미션 결과 저장 (단일 미션 결과 저장)
@@ -62,7 +70,10 @@ public class DroneMissionResultService {
                 .status(success ? MissionResultStatus.SUCCESS : MissionResultStatus.FAIL)
                 .build();
 
-        return resultRepository.save(result);
+        DroneMissionResult saved = resultRepository.save(result);
+        playerStatsService.recordResult(saved);
+        missionLeaderboardService.recordAfterCommit(saved);
+        return saved;
     }
 
 
@@ -111,59 +122,58 @@ public class DroneMissionResultService {
 
     /**
      * 특정 미션의 리더보드 TOP10 조회
+     * - 메모리 리더보드(MissionLeaderboardService)에서 읽으며 DB 조회가 없다.
      *
      * @param missionId 미션 ID
      * @return 상위 10명의 랭킹 DTO 리스트
      */
     public List<LeaderboardEntryDto> getTopRankers(Long missionId) {
-        List<DroneMissionResult> results =
-                resultRepository.findTop10ByMission_IdAndStatusOrderByScoreDesc(
-                        missionId, MissionResultStatus.SUCCESS);
-
-        int[] rank = {1};
-        return results.stream()
-                .map(r -> LeaderboardEntryDto.builder()
-                        .rank(rank[0]++)
-                        .nickname(userRepository.findNicknameById(r.getUserId()))
-                        .score(r.getScore())
-                        .totalTime(r.getTotalTime())
-                        .completedAt(r.getCompletedAt())
-                        .build())
-                .collect(Collectors.toList());
+        return missionLeaderboardService.getTop(missionId, LEADERBOARD_SIZE);
+    }
+
+    /**
+     * 특정 미션의 유저별 최고 기록 리더보드 조회
+     * - 유저마다 최고 기록 하나만 순위에 오르며, 내 순위와 앞뒤 기록을 함께 반환한다.
+     *
+     * @param missionId 미션 ID
+     * @param userId    조회하는 유저 ID (null 가능)
+     * @return 최고 기록 리더보드 DTO
+     */
+    public BestScoreLeaderboardResponseDto getBestScoreLeaderboard(Long missionId, Long userId) {
+        return missionLeaderboardService.getBestScoreLeaderboard(missionId, userId);
+    }
+
+    /**
+     * 특정 미션의 기간별 리더보드 조회 (일간 / 주간 / 이번 시즌)
+     *
+     * @param missionId 미션 ID
+     * @param window    구간
+     * @return 상위 10명의 랭킹 DTO 리스트
+     */
+    public List<LeaderboardEntryDto> getWindowedRankers(Long missionId, LeaderboardWindow window) {
+        return windowedLeaderboardService.getTop(missionId, window);
+    }
+
+    /**
+     * 특정 미션의 지난 시즌 리더보드 스냅샷 조회
+     *
+     * @param missionId 미션 ID
+     * @param season    시즌 (yyyy-MM)
+     * @return 저장 시점의 랭킹 DTO 리스트
+     */
+    public List<LeaderboardEntryDto> getSeasonRankers(Long missionId, String season) {
+        return windowedLeaderboardService.getSeasonSnapshot(missionId, season);
     }
 
     /**
      * 사용자 전체 미션 통계 조회
+     * - 결과 저장 시 갱신되는 통계 행을 PK 로 한 번 읽는다. (PlayerStatsService)
      *
      * @param userId 사용자 ID
      * @return 통계 DTO
      */
     public PlayerPerformanceStatsDto getPlayerStats(Long userId) {
-        List<DroneMissionResult> results =
-                resultRepository.findByUserIdAndStatusNot(userId, MissionResultStatus.ABORT);
-        int totalAttempts = results.size();
-
-        // 같은 mission.id를 기준으로 COIN/OBSTACLE/PHOTO 모두 success=true일 때 1세트로 간주
-        Map<Long, Long> successCountByMission =
-                results.stream()
-                        .filter(r -> r.getStatus() == MissionResultStatus.SUCCESS)
-                        .collect(Collectors.groupingBy(r -> r.getMission().getId(), Collectors.counting()));
-
-        int successfulSets = (int) successCountByMission.values().stream()
-                .filter(c -> c >= 3)
-                .count();
-
-        double averageScore =
-                Optional.ofNullable(resultRepository.findAverageScoreByUserId(userId)).orElse(0.0);
-        double totalFlightSec =
-                Optional.ofNullable(resultRepository.findTotalFlightTimeByUserId(userId)).orElse(0.0);
-
-        return PlayerPerformanceStatsDto.builder()
-                .totalAttempts(totalAttempts)
-                .successfulSets(successfulSets)
-                .averageScore(Math.round(averageScore * 10) / 10.0)
-                .totalFlightTime(Math.round(totalFlightSec * 10) / 10.0)
-                .build();
+        return playerStatsService.getPlayerStats(userId);
     }
 
     /**
@@ -179,6 +189,12 @@ public class DroneMissionResultService {
         Mission mission = missionRepository.findById(missionId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 미션이 존재하지 않습니다."));
 
+        // 제한 시간 초과로 이미 실패 결과가 저장된 비행은 세션만 정리한다.
+        if (droneSessionService.isExpired(droneId, missionId)) {
+            droneSessionService.endSession(droneId, missionId);
+            return;
+        }
+
         DroneMissionResult result = DroneMissionResult.builder()
                 .userId(userId)
                 .droneId(droneId)
@@ -190,7 +206,41 @@ public class DroneMissionResultService {
                 .mission(mission)
                 .build();
 
-        resultRepository.save(result);
+        playerStatsService.recordResult(resultRepository.save(result));
+        droneSessionService.endSession(droneId, missionId);
+    }
+
+    /**
+     * 자동 만료된 비행 세션의 결과 저장
+     * - 제한 시간 초과(FAIL) 또는 텔레메트리 끊김(ABORT)으로 서버가 세션을 닫았을 때 호출된다.
+     * - 점수는 0점으로 기록한다.
+     *
+     * @param userId         세션 사용자 ID
+     * @param missionId      미션 ID
+     * @param droneId        드론 ID
+     * @param status         FAIL 또는 ABORT
+     * @param totalTime      세션 시작부터 종료 판정 시점까지의 비행 시간(초)
+     * @param deviationCount 세션 중 서버가 판정한 이탈 횟수
+     * @param collisionCount 세션 중 서버가 판정한 충돌 횟수
+     */
+    @Transactional
+    public void recordExpiredSession(Long userId, Long missionId, String droneId, MissionResultStatus status,
+                                     double totalTime, int deviationCount, int collisionCount) {
+        Mission mission = missionRepository.findById(missionId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 미션이 존재하지 않습니다."));
+
+        DroneMissionResult result = DroneMissionResult.builder()
+                .userId(userId)
+                .droneId(droneId)
+                .totalTime(totalTime)
+                .deviationCount(deviationCount)
+                .collisionCount(collisionCount)
+                .score(0)
+                .status(status)
+                .mission(mission)
+                .build();
+
+        playerStatsService.recordResult(resultRepository.save(result));
     }
 
     /**
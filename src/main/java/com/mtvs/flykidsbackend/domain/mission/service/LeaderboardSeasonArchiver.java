@@ -0,0 +1,172 @@
+package com.mtvs.flykidsbackend.domain.mission.service;
+
+import com.mtvs.flykidsbackend.domain.mission.entity.LeaderboardSeasonSnapshot;
+import com.mtvs.flykidsbackend.domain.mission.entity.Mission;
+import com.mtvs.flykidsbackend.domain.mission.model.MissionResultStatus;
+import com.mtvs.flykidsbackend.domain.mission.repository.DroneMissionResultRepository;
+import com.mtvs.flykidsbackend.domain.mission.repository.LeaderboardSeasonSnapshotRepository;
+import com.mtvs.flykidsbackend.domain.mission.repository.MissionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지난 시즌 리더보드 스냅샷 저장 작업
+ *
+ * 시즌(월)이 바뀌면 메모리 리더보드는 새 시즌으로 넘어가고, 지난 시즌 순위는 이 작업이 백그라운드에서 고정한다.
+ * - 미션마다 마지막으로 저장된 시즌 다음 달(저장된 시즌이 없으면 첫 성공 결과가 나온 달)부터 지난달까지
+ *   시즌마다 그 달의 성공 결과로 유저별 최고 기록 순위를 만들어 저장한다.
+ * - 서버가 꺼져 있던 사이에 시즌이 여러 번 바뀌어도 다음 실행 때 빠진 시즌이 모두 저장된다.
+ * - 시즌마다 따로 커밋하므로 중간에 실패해도 저장된 시즌은 남고, 다음 실행은 그 다음 시즌부터 이어간다.
+ * - 성공 기록이 없는 시즌도 빈 시즌 표시 행을 저장해, 재시작 후에 다시 집계하지 않는다.
+ * - 지난달까지 저장(또는 이미 저장됨)을 확인한 미션은 메모리에 기억해 다시 확인하지 않는다.
+ * - 여러 서버가 동시에 저장하면 유니크 제약에 걸린 쪽은 이미 저장된 것으로 본다.
+ */
+@Slf4j
+@Component
+public class LeaderboardSeasonArchiver implements SmartLifecycle {
+
+    /** 작업 주기 */
+    private static final long INTERVAL_MINUTES = 10L;
+
+    private final WindowedLeaderboardService windowedLeaderboardService;
+    private final LeaderboardSeasonSnapshotRepository snapshotRepository;
+    private final DroneMissionResultRepository resultRepository;
+    private final MissionRepository missionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /** 미션별 스냅샷 저장을 확인한 마지막 시즌 (이 시즌까지 빠짐없이 저장됨) */
+    private final ConcurrentHashMap<Long, YearMonth> archivedSeasons = new ConcurrentHashMap<>();
+
+    private volatile boolean running = false;
+    private ScheduledExecutorService executor;
+
+    public LeaderboardSeasonArchiver(WindowedLeaderboardService windowedLeaderboardService,
+                                     LeaderboardSeasonSnapshotRepository snapshotRepository,
+                                     DroneMissionResultRepository resultRepository,
+                                     MissionRepository missionRepository,
+                                     PlatformTransactionManager transactionManager) {
+        this.windowedLeaderboardService = windowedLeaderboardService;
+        this.snapshotRepository = snapshotRepository;
+        this.resultRepository = resultRepository;
+        this.missionRepository = missionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 모든 미션의 저장되지 않은 지난 시즌 스냅샷을 지난달까지 저장한다. (이미 있으면 건너뜀)
+     *
+     * @return 새로 저장한 미션 시즌 수 (빈 시즌 제외)
+     */
+    public int archive() {
+        YearMonth previous = YearMonth.now().minusMonths(1);
+
+        int archived = 0;
+        for (Mission mission : missionRepository.findAll()) {
+            Long missionId = mission.getId();
+            if (previous.equals(archivedSeasons.get(missionId))) {
+                continue;
+            }
+            YearMonth season = null;
+            try {
+                season = firstUnarchivedSeason(missionId);
+                for (; season != null && !season.isAfter(previous); season = season.plusMonths(1)) {
+                    if (archiveSeason(missionId, season)) {
+                        archived++;
+                    }
+                }
+                archivedSeasons.put(missionId, previous);
+            } catch (Exception e) {
+                log.warn("시즌 리더보드 스냅샷 저장 실패 - mission {}, season {}", missionId, season, e);
+            }
+        }
+        return archived;
+    }
+
+    /**
+     * 스냅샷을 저장해야 할 첫 시즌
+     * - 마지막으로 저장된 시즌의 다음 달, 저장된 시즌이 없으면 첫 성공 결과가 나온 달
+     *
+     * @return 첫 시즌 (저장된 시즌도 성공 결과도 없으면 null)
+     */
+    private YearMonth firstUnarchivedSeason(Long missionId) {
+        String latest = snapshotRepository.findLatestSeason(missionId);
+        if (latest != null) {
+            return YearMonth.parse(latest).plusMonths(1);
+        }
+        LocalDateTime firstCompletedAt = resultRepository.findFirstCompletedAt(missionId, MissionResultStatus.SUCCESS);
+        return firstCompletedAt != null ? YearMonth.from(firstCompletedAt) : null;
+    }
+
+    /**
+     * 미션 시즌 하나의 스냅샷을 저장한다. (시즌마다 별도 트랜잭션)
+     * - 다른 서버가 먼저 저장해 유니크 제약에 걸리면 이미 저장된 것으로 본다.
+     *
+     * @return 성공 기록이 있는 스냅샷을 새로 저장했으면 true
+     */
+    private boolean archiveSeason(Long missionId, YearMonth season) {
+        try {
+            Integer saved = transactionTemplate.execute(status -> {
+                if (snapshotRepository.existsByMissionIdAndSeason(missionId, season.toString())) {
+                    return 0;
+                }
+                List<LeaderboardSeasonSnapshot> snapshot =
+                        windowedLeaderboardService.buildSeasonSnapshot(missionId, season);
+                snapshotRepository.saveAllAndFlush(snapshot);
+                return (int) snapshot.stream().filter(s -> !s.isEmptySeason()).count();
+            });
+            if (saved != null && saved > 0) {
+                log.info("시즌 리더보드 스냅샷 저장 - mission {}, season {}, {}명", missionId, season, saved);
+                return true;
+            }
+            return false;
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버가 먼저 저장함
+            log.debug("시즌 리더보드 스냅샷 이미 저장됨 - mission {}, season {}", missionId, season);
+            return false;
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "leaderboard-season-archiver");
+            thread.setPriority(Thread.MIN_PRIORITY);
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                archive();
+            } catch (Exception e) {
+                log.error("시즌 리더보드 스냅샷 작업 실패", e);
+            }
+        }, 1L, INTERVAL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,297 @@
+package com.mtvs.flykidsbackend.domain.mission.service;
+
+import com.mtvs.flykidsbackend.domain.drone.state.LiveDroneStateStore;
+import com.mtvs.flykidsbackend.domain.mission.course.CoinField;
+import com.mtvs.flykidsbackend.domain.mission.course.ObstacleBvh;
+import com.mtvs.flykidsbackend.domain.mission.course.PhotoTargetSet;
+import com.mtvs.flykidsbackend.domain.mission.dto.MissionCoinRequestDto;
+import com.mtvs.flykidsbackend.domain.mission.dto.MissionObstacleRequestDto;
+import com.mtvs.flykidsbackend.domain.mission.dto.MissionPhotoTargetRequestDto;
+import com.mtvs.flykidsbackend.domain.mission.entity.Mission;
+import com.mtvs.flykidsbackend.domain.mission.entity.MissionCoin;
+import com.mtvs.flykidsbackend.domain.mission.entity.MissionObstacle;
+import com.mtvs.flykidsbackend.domain.mission.entity.MissionPhotoTarget;
+import com.mtvs.flykidsbackend.domain.mission.model.MissionType;
+import com.mtvs.flykidsbackend.domain.mission.model.ObstacleShape;
+import com.mtvs.flykidsbackend.domain.mission.repository.MissionCoinRepository;
+import com.mtvs.flykidsbackend.domain.mission.repository.MissionObstacleRepository;
+import com.mtvs.flykidsbackend.domain.mission.repository.MissionPhotoTargetRepository;
+import com.mtvs.flykidsbackend.domain.mission.repository.MissionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * 미션 코스 형상 서비스
+ *
+ * 미션 코스에 배치된 형상(장애물 등)을 저장하고,
+ * 텔레메트리 판단용으로 컴파일한 구조를 미션별로 메모리에 캐시한다.
+ * - 장애물: 미션별 BVH (최초 조회 시 구성, 재등록 시 무효화)
+ * - 코인: 미션별 공간 해시 (최초 조회 시 구성, 재등록 시 무효화)
+ * - 사진 촬영 목표: 미션별 각도 룩업 (최초 조회 시 구성, 재등록 시 무효화)
+ * - 제한 시간: 세션 만료 판정용 (미션 수정/삭제 시 무효화)
+ */
+@Service
+@RequiredArgsConstructor
+public class MissionCourseService {
+
+    private final MissionRepository missionRepository;
+    private final MissionObstacleRepository missionObstacleRepository;
+    private final MissionCoinRepository missionCoinRepository;
+    private final MissionPhotoTargetRepository missionPhotoTargetRepository;
+
+    /** 세션당 수집 비트셋 크기에 맞춘 미션별 최대 코인 수 */
+    public static final int MAX_COINS = LiveDroneStateStore.MAX_COINS;
+
+    /** 세션당 촬영 비트셋 크기에 맞춘 미션별 최대 촬영 목표 수 */
+    public static final int MAX_PHOTO_TARGETS = LiveDroneStateStore.MAX_PHOTO_TARGETS;
+
+    private final ConcurrentHashMap<Long, ObstacleBvh> obstacleBvhs = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, CoinField> coinFields = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, PhotoTargetSet> photoTargetSets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> timeLimits = new ConcurrentHashMap<>();
+
+    /**
+     * 미션의 장애물 형상을 일괄 등록한다.
+     * - 기존 장애물은 모두 삭제 후 새로 저장한다.
+     * - 커밋 이후 해당 미션의 BVH 캐시를 무효화한다.
+     *
+     * @param missionId 미션 ID
+     * @param obstacles 장애물 목록
+     * @return 저장된 장애물 수
+     */
+    @Transactional
+    public int saveObstacles(Long missionId, List<MissionObstacleRequestDto> obstacles) {
+        Mission mission = missionRepository.findById(missionId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 미션이 존재하지 않습니다."));
+        if (mission.getType() != MissionType.OBSTACLE) {
+            throw new IllegalArgumentException("장애물은 OBSTACLE 미션에만 등록할 수 있습니다.");
+        }
+        if (obstacles == null) {
+            throw new IllegalArgumentException("장애물 목록이 없습니다.");
+        }
+
+        List<MissionObstacle> entities = obstacles.stream()
+                .map(dto -> {
+                    if (dto.getShape() == null) {
+                        throw new IllegalArgumentException("장애물 형태가 지정되지 않았습니다.");
+                    }
+                    if (dto.getShape() == ObstacleShape.CAPSULE && dto.getRadius() <= 0) {
+                        throw new IllegalArgumentException("캡슐 장애물의 반지름은 0보다 커야 합니다.");
+                    }
+                    return MissionObstacle.builder()
+                            .missionId(missionId)
+                            .shape(dto.getShape())
+                            .x1(dto.getX1())
+                            .y1(dto.getY1())
+                            .z1(dto.getZ1())
+                            .x2(dto.getX2())
+                            .y2(dto.getY2())
+                            .z2(dto.getZ2())
+                            .radius(dto.getShape() == ObstacleShape.CAPSULE ? dto.getRadius() : 0)
+                            .build();
+                })
+                .toList();
+
+        missionObstacleRepository.deleteByMissionId(missionId);
+        missionObstacleRepository.saveAll(entities);
+        evictAfterCommit(obstacleBvhs, missionId);
+        return entities.size();
+    }
+
+    /**
+     * 미션의 장애물 목록을 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public List<MissionObstacle> getObstacles(Long missionId) {
+        return missionObstacleRepository.findByMissionId(missionId);
+    }
+
+    /**
+     * 텔레메트리 판단용 장애물 BVH 를 조회한다.
+     * - 최초 조회 시에만 DB 에서 읽어 구성하고, 이후에는 캐시를 사용한다.
+     *
+     * @param missionId 미션 ID
+     * @return 장애물 BVH (장애물이 없으면 빈 BVH)
+     */
+    public ObstacleBvh getObstacleBvh(Long missionId) {
+        return obstacleBvhs.computeIfAbsent(missionId,
+                id -> ObstacleBvh.of(missionObstacleRepository.findByMissionId(id)));
+    }
+
+    /**
+     * 미션의 코인 위치를 일괄 등록한다.
+     * - 기존 코인은 모두 삭제 후 새로 저장하며, 목록 순서가 코인 순번이 된다.
+     * - 미션의 totalCoinCount 를 등록한 코인 수로 맞춘다.
+     * - 커밋 이후 해당 미션의 코인 배치 캐시를 무효화한다.
+     *
+     * @param missionId 미션 ID
+     * @param coins     코인 위치 목록
+     * @return 저장된 코인 수
+     */
+    @Transactional
+    public int saveCoins(Long missionId, List<MissionCoinRequestDto> coins) {
+        Mission mission = missionRepository.findById(missionId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 미션이 존재하지 않습니다."));
+        if (mission.getType() != MissionType.COIN) {
+            throw new IllegalArgumentException("코인은 COIN 미션에만 등록할 수 있습니다.");
+        }
+        if (coins == null) {
+            throw new IllegalArgumentException("코인 목록이 없습니다.");
+        }
+        if (coins.size() > MAX_COINS) {
+            throw new IllegalArgumentException("미션당 코인은 최대 " + MAX_COINS + "개까지 등록할 수 있습니다.");
+        }
+
+        List<MissionCoin> entities = IntStream.range(0, coins.size())
+                .mapToObj(i -> MissionCoin.builder()
+                        .missionId(missionId)
+                        .coinIndex(i)
+                        .x(coins.get(i).getX())
+                        .y(coins.get(i).getY())
+                        .z(coins.get(i).getZ())
+                        .build())
+                .toList();
+
+        missionCoinRepository.deleteByMissionId(missionId);
+        missionCoinRepository.saveAll(entities);
+        mission.setTotalCoinCount(entities.size());
+        evictAfterCommit(coinFields, missionId);
+        return entities.size();
+    }
+
+    /**
+     * 미션의 코인 위치 목록을 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public List<MissionCoin> getCoins(Long missionId) {
+        return missionCoinRepository.findByMissionIdOrderByCoinIndexAsc(missionId);
+    }
+
+    /**
+     * 텔레메트리 판단용 코인 배치를 조회한다.
+     * - 최초 조회 시에만 DB 에서 읽어 구성하고, 이후에는 캐시를 사용한다.
+     *
+     * @param missionId 미션 ID
+     * @return 코인 배치 (코인이 없으면 빈 배치)
+     */
+    public CoinField getCoinField(Long missionId) {
+        return coinFields.computeIfAbsent(missionId,
+                id -> CoinField.of(missionCoinRepository.findByMissionIdOrderByCoinIndexAsc(id)));
+    }
+
+    /**
+     * 미션의 사진 촬영 목표를 일괄 등록한다.
+     * - 기존 목표는 모두 삭제 후 새로 저장하며, 목록 순서가 목표 순번이 된다.
+     * - 커밋 이후 해당 미션의 각도 룩업 캐시를 무효화한다.
+     *
+     * @param missionId 미션 ID
+     * @param targets   촬영 목표 목록
+     * @return 저장된 목표 수
+     */
+    @Transactional
+    public int savePhotoTargets(Long missionId, List<MissionPhotoTargetRequestDto> targets) {
+        Mission mission = missionRepository.findById(missionId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 미션이 존재하지 않습니다."));
+        if (mission.getType() != MissionType.PHOTO) {
+            throw new IllegalArgumentException("촬영 목표는 PHOTO 미션에만 등록할 수 있습니다.");
+        }
+        if (targets == null) {
+            throw new IllegalArgumentException("촬영 목표 목록이 없습니다.");
+        }
+        if (targets.size() > MAX_PHOTO_TARGETS) {
+            throw new IllegalArgumentException("미션당 촬영 목표는 최대 " + MAX_PHOTO_TARGETS + "개까지 등록할 수 있습니다.");
+        }
+
+        List<MissionPhotoTarget> entities = IntStream.range(0, targets.size())
+                .mapToObj(i -> {
+                    MissionPhotoTargetRequestDto dto = targets.get(i);
+                    if (dto.getConeHalfAngle() <= 0 || dto.getConeHalfAngle() > 90) {
+                        throw new IllegalArgumentException("시야 원뿔 반각은 0도 초과 90도 이하여야 합니다.");
+                    }
+                    if (dto.getMaxDistance() <= 0) {
+                        throw new IllegalArgumentException("최대 촬영 거리는 0보다 커야 합니다.");
+                    }
+                    return MissionPhotoTarget.builder()
+                            .missionId(missionId)
+                            .targetIndex(i)
+                            .x(dto.getX())
+                            .y(dto.getY())
+                            .z(dto.getZ())
+                            .viewYaw(dto.getViewYaw())
+                            .coneHalfAngle(dto.getConeHalfAngle())
+                            .maxDistance(dto.getMaxDistance())
+                            .build();
+                })
+                .toList();
+
+        missionPhotoTargetRepository.deleteByMissionId(missionId);
+        missionPhotoTargetRepository.saveAll(entities);
+        evictAfterCommit(photoTargetSets, missionId);
+        return entities.size();
+    }
+
+    /**
+     * 미션의 사진 촬영 목표 목록을 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public List<MissionPhotoTarget> getPhotoTargets(Long missionId) {
+        return missionPhotoTargetRepository.findByMissionIdOrderByTargetIndexAsc(missionId);
+    }
+
+    /**
+     * 텔레메트리 판단용 촬영 목표 각도 룩업을 조회한다.
+     * - 최초 조회 시에만 DB 에서 읽어 구성하고, 이후에는 캐시를 사용한다.
+     *
+     * @param missionId 미션 ID
+     * @return 촬영 목표 집합 (목표가 없으면 빈 집합)
+     */
+    public PhotoTargetSet getPhotoTargetSet(Long missionId) {
+        return photoTargetSets.computeIfAbsent(missionId,
+                id -> PhotoTargetSet.of(missionPhotoTargetRepository.findByMissionIdOrderByTargetIndexAsc(id)));
+    }
+
+    /**
+     * 세션 만료 판정용 미션 제한 시간을 조회한다.
+     * - 최초 조회 시에만 DB 에서 읽고, 이후에는 캐시를 사용한다.
+     *
+     * @param missionId 미션 ID
+     * @return 제한 시간(ms), 제한이 없거나 미션이 없으면 0
+     */
+    public long getTimeLimitMillis(Long missionId) {
+        return timeLimits.computeIfAbsent(missionId, id -> missionRepository.findById(id)
+                .map(mission -> Math.max(0, mission.getTimeLimit()) * 1000L)
+                .orElse(0L));
+    }
+
+    /**
+     * 미션 정보가 수정/삭제되었을 때 미션 단위 캐시를 무효화한다.
+     */
+    public void evictMission(Long missionId) {
+        evictAfterCommit(timeLimits, missionId);
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 캐시를 무효화한다.
+     * - 커밋 전에 무효화하면 다른 스레드가 이전 데이터로 캐시를 다시 채울 수 있다.
+     */
+    private void evictAfterCommit(Map<Long, ?> cache, Long missionId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.remove(missionId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.remove(missionId);
+            }
+        });
+    }
+}
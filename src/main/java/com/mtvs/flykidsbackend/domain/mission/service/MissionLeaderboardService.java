@@ -0,0 +1,242 @@
+package com.mtvs.flykidsbackend.domain.mission.service;
+
+import com.mtvs.flykidsbackend.domain.mission.dto.BestScoreLeaderboardResponseDto;
+import com.mtvs.flykidsbackend.domain.mission.dto.LeaderboardEntryDto;
+import com.mtvs.flykidsbackend.domain.mission.entity.DroneMissionResult;
+import com.mtvs.flykidsbackend.domain.mission.entity.Mission;
+import com.mtvs.flykidsbackend.domain.mission.model.BestScoreBoard;
+import com.mtvs.flykidsbackend.domain.mission.model.LeaderboardEntry;
+import com.mtvs.flykidsbackend.domain.mission.model.LeaderboardRow;
+import com.mtvs.flykidsbackend.domain.mission.model.MissionResultStatus;
+import com.mtvs.flykidsbackend.domain.mission.repository.DroneMissionResultRepository;
+import com.mtvs.flykidsbackend.domain.mission.repository.MissionRepository;
+import com.mtvs.flykidsbackend.domain.user.service.UserNicknameCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 미션별 메모리 리더보드
+ *
+ * 리더보드 조회마다 결과 테이블 전체를 정렬하지 않도록, 미션별 성공 결과를 정렬된 채로 메모리에 둔다.
+ * - 미션마다 ConcurrentSkipListSet (LeaderboardEntry.RANKING 순) 하나를 사용한다.
+ * - 애플리케이션 시작 시 미션별 상위 CAPACITY 개로 다시 만들고,
+ *   이후 SUCCESS 결과가 저장되면 커밋 이후 해당 미션에만 추가한다.
+ * - 결과는 삭제되지 않으므로 상위 CAPACITY 개만 유지해도 상위 순위는 정확하다.
+ * - 조회는 앞에서부터 k 개를 읽는 O(k) 이며, 닉네임은 UserNicknameCache 에서 읽어 DB 접근이 없다.
+ *
+ * 유저별 최고 기록 리더보드(BestScoreBoard)도 같은 방식으로 미션별로 유지한다.
+ * - 유저마다 최고 기록 하나만 두므로 순위 계산을 위해 성공 유저 전체를 담는다.
+ * - 내 순위는 점수 펜윅 트리로 O(log S), 앞뒤 기록은 정렬된 집합에서 O(log n + k) 로 읽는다.
+ * 기간별(일간 / 주간 / 시즌) 리더보드는 WindowedLeaderboardService 에 함께 반영한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MissionLeaderboardService {
+
+    /** 미션별로 유지하는 최대 항목 수 */
+    private static final int CAPACITY = 100;
+
+    /** 최고 기록 리더보드 상위 인원 */
+    private static final int BEST_TOP_SIZE = 10;
+
+    /** 최고 기록 리더보드에서 내 앞뒤로 보여줄 인원 (한쪽 기준) */
+    private static final int NEIGHBOUR_COUNT = 2;
+
+    private final DroneMissionResultRepository resultRepository;
+    private final MissionRepository missionRepository;
+    private final UserNicknameCache userNicknameCache;
+    private final WindowedLeaderboardService windowedLeaderboardService;
+
+    private final ConcurrentHashMap<Long, Board> boards = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, BestScoreBoard> bestBoards = new ConcurrentHashMap<>();
+
+    /** 미션 하나의 정렬된 성공 결과 (크기는 skip list 의 size() 가 O(n) 이라 따로 센다) */
+    private static final class Board {
+        private final ConcurrentSkipListSet<LeaderboardEntry> entries =
+                new ConcurrentSkipListSet<>(LeaderboardEntry.RANKING);
+        private final AtomicInteger size = new AtomicInteger();
+
+        void add(LeaderboardEntry entry) {
+            if (size.get() >= CAPACITY && LeaderboardEntry.RANKING.compare(entry, entries.last()) > 0) {
+                return;
+            }
+            if (entries.add(entry) && size.incrementAndGet() > CAPACITY && entries.pollLast() != null) {
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 모든 미션의 리더보드를 다시 만든다.
+     */
+    @PostConstruct
+    public void rebuild() {
+        for (Mission mission : missionRepository.findAll()) {
+            boards.put(mission.getId(), load(mission.getId()));
+            bestBoards.put(mission.getId(), loadBest(mission.getId()));
+        }
+    }
+
+    /**
+     * 미션 리더보드 상위 항목을 조회한다.
+     *
+     * @param missionId 미션 ID
+     * @param limit     조회 인원
+     * @return 순위순 랭킹 DTO 리스트
+     */
+    public List<LeaderboardEntryDto> getTop(Long missionId, int limit) {
+        List<LeaderboardEntryDto> top = new ArrayList<>(limit);
+        Iterator<LeaderboardEntry> it = board(missionId).entries.iterator();
+        while (it.hasNext() && top.size() < limit) {
+            LeaderboardEntry entry = it.next();
+            top.add(LeaderboardEntryDto.builder()
+                    .rank(top.size() + 1)
+                    .nickname(userNicknameCache.getNickname(entry.userId()))
+                    .score(entry.score())
+                    .totalTime(entry.totalTime())
+                    .completedAt(entry.completedAt())
+                    .build());
+        }
+        return top;
+    }
+
+    /**
+     * 유저별 최고 기록 리더보드를 조회한다.
+     *
+     * @param missionId 미션 ID
+     * @param userId    조회하는 유저 ID (null 이면 내 순위 없이 상위 기록만)
+     * @return 상위 기록, 내 순위와 앞뒤 기록
+     */
+    public BestScoreLeaderboardResponseDto getBestScoreLeaderboard(Long missionId, Long userId) {
+        BestScoreBoard.View view = bestBoard(missionId).view(userId, BEST_TOP_SIZE, NEIGHBOUR_COUNT);
+
+        return BestScoreLeaderboardResponseDto.builder()
+                .missionId(missionId)
+                .totalPlayers(view.totalPlayers())
+                .top(view.top().stream().map(this::toDto).toList())
+                .myRank(view.me() != null ? view.me().rank() : null)
+                .myEntry(view.me() != null ? toDto(view.me()) : null)
+                .neighbours(view.neighbours().stream().map(this::toDto).toList())
+                .build();
+    }
+
+    /**
+     * 저장된 미션 결과를 리더보드에 반영한다. (SUCCESS 만, 커밋 이후)
+     * - 롤백된 결과가 순위에 보이지 않도록 트랜잭션 커밋 이후에 추가한다.
+     *
+     * @param result 저장된 결과 (ID, 완료 시각 할당됨)
+     */
+    public void recordAfterCommit(DroneMissionResult result) {
+        if (result.getStatus() != MissionResultStatus.SUCCESS) {
+            return;
+        }
+        Long missionId = result.getMission().getId();
+        LeaderboardEntry entry = LeaderboardEntry.from(result);
+        Runnable add = () -> {
+            board(missionId).add(entry);
+            bestBoard(missionId).offer(entry);
+            windowedLeaderboardService.record(missionId, entry);
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add.run();
+            }
+        });
+    }
+
+    /**
+     * 삭제된 미션의 리더보드를 제거한다.
+     *
+     * @param missionId 미션 ID
+     */
+    public void evictMission(Long missionId) {
+        boards.remove(missionId);
+        bestBoards.remove(missionId);
+        windowedLeaderboardService.evictMission(missionId);
+    }
+
+    /**
+     * 미션 리더보드 (시작 이후 생긴 미션이면 처음 조회할 때 DB에서 만든다)
+     * - 존재하지 않는 미션은 캐시하지 않고 빈 리더보드를 반환한다. (임의 ID 조회로 캐시가 늘어나지 않도록)
+     */
+    private Board board(Long missionId) {
+        Board cached = boards.get(missionId);
+        if (cached != null) {
+            return cached;
+        }
+        if (missionId == null || !missionRepository.existsById(missionId)) {
+            return new Board();
+        }
+        return boards.computeIfAbsent(missionId, this::load);
+    }
+
+    /**
+     * 미션 최고 기록 리더보드 (시작 이후 생긴 미션이면 처음 조회할 때 DB에서 만든다)
+     * - 존재하지 않는 미션은 캐시하지 않고 빈 리더보드를 반환한다.
+     */
+    private BestScoreBoard bestBoard(Long missionId) {
+        BestScoreBoard cached = bestBoards.get(missionId);
+        if (cached != null) {
+            return cached;
+        }
+        if (missionId == null || !missionRepository.existsById(missionId)) {
+            return new BestScoreBoard();
+        }
+        return bestBoards.computeIfAbsent(missionId, this::loadBest);
+    }
+
+    /**
+     * 미션의 상위 CAPACITY 개 성공 결과로 리더보드를 만들고, 닉네임 캐시도 함께 채운다.
+     */
+    private Board load(Long missionId) {
+        List<LeaderboardRow> rows = resultRepository.findLeaderboardRows(
+                missionId, MissionResultStatus.SUCCESS, PageRequest.of(0, CAPACITY));
+
+        Board board = new Board();
+        for (LeaderboardRow row : rows) {
+            userNicknameCache.preload(row.userId(), row.nickname());
+            board.add(row.toEntry());
+        }
+        return board;
+    }
+
+    /**
+     * 유저별 최고 점수 결과로 최고 기록 리더보드를 만든다. (같은 점수는 offer 가 더 좋은 기록 하나만 남김)
+     */
+    private BestScoreBoard loadBest(Long missionId) {
+        BestScoreBoard board = new BestScoreBoard();
+        for (LeaderboardRow row : resultRepository.findBestScoreRows(missionId, MissionResultStatus.SUCCESS)) {
+            userNicknameCache.preload(row.userId(), row.nickname());
+            board.offer(row.toEntry());
+        }
+        return board;
+    }
+
+    private LeaderboardEntryDto toDto(BestScoreBoard.Ranked ranked) {
+        LeaderboardEntry entry = ranked.entry();
+        return LeaderboardEntryDto.builder()
+                .rank(ranked.rank())
+                .nickname(userNicknameCache.getNickname(entry.userId()))
+                .score(entry.score())
+                .totalTime(entry.totalTime())
+                .completedAt(entry.completedAt())
+                .build();
+    }
+}
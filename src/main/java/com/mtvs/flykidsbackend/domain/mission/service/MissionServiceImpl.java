@@ -1,6 +1,7 @@
 package com.mtvs.flykidsbackend.domain.mission.service;
 
 import com.mtvs.flykidsbackend.common.AudioFilePath;
+import com.mtvs.flykidsbackend.domain.drone.service.DroneSessionService;
 import com.mtvs.flykidsbackend.domain.mission.dto.DroneMissionResultRequestDto;
 import com.mtvs.flykidsbackend.domain.mission.dto.MissionCompleteResponseDto;
 import com.mtvs.flykidsbackend.domain.mission.dto.MissionRequestDto;
@@ -36,6 +37,10 @@ public class MissionServiceImpl implements MissionService {
     private final ScoreCalculator scoreCalculator;
     private final UserMissionProgressService userMissionProgressService;
     private final UserRepository userRepository;
+    private final MissionCourseService missionCourseService;
+    private final DroneSessionService droneSessionService;
+    private final MissionLeaderboardService missionLeaderboardService;
+    private final PlayerStatsService playerStatsService;
 
     /**
      * 미션 등록
@@ -74,6 +79,7 @@ public class MissionServiceImpl implements MissionService {
         mission.setType(dto.getType());
         mission.setTotalCoinCount(dto.getTotalCoinCount());
         mission.setIntroMessage(dto.getIntroMessage());
+        missionCourseService.evictMission(id);
         return MissionResponseDto.from(mission);
     }
 
@@ -86,6 +92,8 @@ public class MissionServiceImpl implements MissionService {
             throw new IllegalArgumentException("삭제할 미션이 존재하지 않습니다.");
         }
         missionRepository.deleteById(id);
+        missionCourseService.evictMission(id);
+        missionLeaderboardService.evictMission(id);
     }
 
     /**
@@ -114,7 +122,7 @@ public class MissionServiceImpl implements MissionService {
      *
      * <처리 절차>
      * 1. 유저 및 미션 조회
-     * 2. 점수 계산 및 성공 여부 판단
+     * 2. 점수 계산 및 성공 여부 판단 (코인/촬영 목표가 등록된 미션은 서버 세션 비트셋 기준)
      * 3. 결과 저장 (DroneMissionResult)
      * 4. 성공 시 다음 미션 오픈
      * 5. 클라이언트용 텍스트 메시지 구성
@@ -134,10 +142,31 @@ public class MissionServiceImpl implements MissionService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 사용자가 존재하지 않습니다."));
 
+        // 제한 시간 초과로 서버가 이미 실패 결과를 저장한 비행이면 결과를 다시 저장하지 않는다.
+        // (만료 표시를 해제해 다음 비행은 새 세션으로 시작)
+        if (droneSessionService.isExpired(dto.getDroneId(), missionId)) {
+            droneSessionService.endSession(dto.getDroneId(), missionId);
+            throw new IllegalArgumentException("제한 시간이 지나 이미 실패 처리된 비행입니다.");
+        }
+
         MissionType type = mission.getType();
         DroneMissionResultRequestDto.MissionItemResult item = dto.getItemResult();
 
         // 2. 점수 계산 및 성공 여부 판단
+        // 코인 위치가 등록된 미션은 클라이언트 보고값 대신 텔레메트리로 판정한 수집 수를 사용 (세션이 없으면 0개)
+        if (type == MissionType.COIN && !missionCourseService.getCoinField(missionId).isEmpty()) {
+            int collected = droneSessionService.getCollectedCoinCount(dto.getDroneId(), missionId);
+            item.setCollectedCoinCount(Math.max(collected, 0));
+        }
+        // 촬영 목표가 등록된 미션은 텔레메트리로 판정한 촬영 결과로 성공 여부 결정 (모든 목표 촬영 시 성공)
+        if (type == MissionType.PHOTO) {
+            int targetCount = missionCourseService.getPhotoTargetSet(missionId).size();
+            if (targetCount > 0) {
+                int captured = droneSessionService.getCapturedPhotoCount(dto.getDroneId(), missionId);
+                item.setPhotoCaptured(captured >= targetCount);
+            }
+        }
+
         int score = scoreCalculator.calculateScore(type, dto);
         boolean success = scoreCalculator.isMissionSuccess(type, dto, mission);
 
@@ -155,6 +184,13 @@ public class MissionServiceImpl implements MissionService {
 
         DroneMissionResult saved = resultRepository.save(result);
 
+        // 유저 통계는 같은 트랜잭션에서 누적, 성공 결과는 커밋 이후 메모리 리더보드에 반영
+        playerStatsService.recordResult(saved);
+        missionLeaderboardService.recordAfterCommit(saved);
+
+        // 서버 측 비행 세션 종료 (만료 타이머는 세션이 사라졌으므로 무시됨)
+        droneSessionService.endSession(dto.getDroneId(), missionId);
+
         // 4. 성공 시 다음 미션 자동 오픈 처리
         if (success) {
             getNextMission(mission).ifPresent(nextMission -> {
@@ -0,0 +1,115 @@
+package com.mtvs.flykidsbackend.domain.mission.service;
+
+import com.mtvs.flykidsbackend.domain.mission.dto.PlayerPerformanceStatsDto;
+import com.mtvs.flykidsbackend.domain.mission.entity.DroneMissionResult;
+import com.mtvs.flykidsbackend.domain.mission.entity.UserPerformanceStats;
+import com.mtvs.flykidsbackend.domain.mission.model.MissionResultStatus;
+import com.mtvs.flykidsbackend.domain.mission.model.UserResultTotals;
+import com.mtvs.flykidsbackend.domain.mission.repository.DroneMissionResultRepository;
+import com.mtvs.flykidsbackend.domain.mission.repository.UserPerformanceStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 유저 미션 통계 서비스
+ *
+ * 미션 결과가 저장될 때마다 같은 트랜잭션에서 유저 통계 행(UserPerformanceStats)을 갱신하고,
+ * 통계 조회는 그 행 하나를 PK 로 읽는다.
+ * - 통계 행은 회원가입 때 빈 행으로 만든다. 기존 유저는 새 버전으로 전환한 뒤 user_performance_stats_rebuild.sql 로
+ *   결과 테이블에서 다시 계산한다. (전환 전까지 이전 버전이 저장한 결과도 포함되도록 반드시 전환 후 실행)
+ * - 결과 반영은 항상 "빈 행 보장(ON CONFLICT DO NOTHING) → 쓰기 잠금 조회 → 누적" 순서로,
+ *   쓰기 경로에서 결과 테이블 전체를 집계하지 않는다.
+ * - 같은 유저의 결과가 동시에 저장되면 통계 행 쓰기 잠금으로 순서대로 반영한다.
+ *   (행이 없던 유저도 INSERT 충돌 없이 같은 행을 잠그므로 첫 결과끼리도 직렬화된다.)
+ */
+@Service
+@RequiredArgsConstructor
+public class PlayerStatsService {
+
+    private final UserPerformanceStatsRepository statsRepository;
+    private final DroneMissionResultRepository resultRepository;
+
+    /**
+     * 신규 유저의 빈 통계 행을 만든다. (회원가입 시)
+     *
+     * @param userId 유저 ID
+     */
+    @Transactional
+    public void createStats(Long userId) {
+        statsRepository.insertIfAbsent(userId);
+    }
+
+    /**
+     * 저장된 미션 결과를 유저 통계에 반영한다. (결과를 저장한 트랜잭션 안에서 호출)
+     * - 행이 없는 유저(재계산 전의 기존 유저, 가입 시 행 생성이 누락된 유저)도 빈 행부터 누적한다.
+     *   기존 유저의 이전 결과는 재계산 스크립트가 채운다.
+     *
+     * @param result 저장된 결과
+     */
+    @Transactional
+    public void recordResult(DroneMissionResult result) {
+        Long userId = result.getUserId();
+        statsRepository.insertIfAbsent(userId);
+        UserPerformanceStats stats = statsRepository.findByIdForUpdate(userId)
+                .orElseThrow(() -> new IllegalStateException("유저 통계 행이 없습니다 - user " + userId));
+        stats.recordResult(result.getMission().getId(), result.getStatus(),
+                result.getScore(), result.getTotalTime());
+    }
+
+    /**
+     * 유저 통계를 조회한다.
+     * - 통계 행이 없으면 (아직 새 결과가 없는 기존 유저) 결과 테이블에서 계산만 하고 저장하지 않는다.
+     *
+     * @param userId 유저 ID
+     * @return 통계 DTO
+     */
+    @Transactional(readOnly = true)
+    public PlayerPerformanceStatsDto getPlayerStats(Long userId) {
+        UserPerformanceStats stats = statsRepository.findById(userId)
+                .orElseGet(() -> aggregate(userId));
+
+        return PlayerPerformanceStatsDto.builder()
+                .totalAttempts((int) stats.getAttempts())
+                .successfulSets(stats.getSuccessfulSets())
+                .averageScore(Math.round(stats.getAverageScore() * 10) / 10.0)
+                .totalFlightTime(Math.round(stats.getTotalFlightTime() * 10) / 10.0)
+                .build();
+    }
+
+    /**
+     * 결과 테이블 전체로 유저 통계 행을 계산한다. (저장하지 않음)
+     */
+    private UserPerformanceStats aggregate(Long userId) {
+        UserResultTotals totals = resultRepository.findTotalsByUserId(userId, MissionResultStatus.ABORT);
+
+        Map<Long, Integer> successCountByMission = new HashMap<>();
+        int successfulSets = 0;
+        for (Object[] row : resultRepository.countByMissionForUser(userId, MissionResultStatus.SUCCESS)) {
+            int count = ((Number) row[1]).intValue();
+            successCountByMission.put((Long) row[0], count);
+            if (count >= UserPerformanceStats.SET_SUCCESS_COUNT) {
+                successfulSets++;
+            }
+        }
+
+        return UserPerformanceStats.builder()
+                .userId(userId)
+                .attempts(orZero(totals.attempts()))
+                .resultCount(orZero(totals.resultCount()))
+                .scoreSum(orZero(totals.scoreSum()))
+                .totalFlightTime(totals.flightTime() != null ? totals.flightTime() : 0.0)
+                .successfulSets(successfulSets)
+                .successCountByMission(successCountByMission)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static long orZero(Long value) {
+        return value != null ? value : 0L;
+    }
+}
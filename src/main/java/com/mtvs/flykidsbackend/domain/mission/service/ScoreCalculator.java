@@ -56,8 +56,10 @@ public class ScoreCalculator {
     /**
      * 미션 성공 여부 판별
      * - COIN: 수집한 코인 개수가 Mission 기준과 동일해야 성공
+     *   (코인 위치가 등록된 미션은 완료 처리 시 서버 세션 비트셋의 수집 수로 대체된 값)
      * - OBSTACLE: 충돌 횟수가 3회 미만이면 성공
      * - PHOTO: 사진 촬영 성공 여부가 true여야 성공
+     *   (촬영 목표가 등록된 미션은 완료 처리 시 서버 세션 비트셋으로 판정한 값)
      *
      * @param type 미션 타입
      * @param dto 클라이언트에서 전달받은 미션 결과
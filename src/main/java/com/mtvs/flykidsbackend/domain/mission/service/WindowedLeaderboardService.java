@@ -0,0 +1,213 @@
+package com.mtvs.flykidsbackend.domain.mission.service;
+
+import com.mtvs.flykidsbackend.domain.mission.dto.LeaderboardEntryDto;
+import com.mtvs.flykidsbackend.domain.mission.entity.LeaderboardSeasonSnapshot;
+import com.mtvs.flykidsbackend.domain.mission.entity.Mission;
+import com.mtvs.flykidsbackend.domain.mission.model.LeaderboardEntry;
+import com.mtvs.flykidsbackend.domain.mission.model.LeaderboardRow;
+import com.mtvs.flykidsbackend.domain.mission.model.LeaderboardWindow;
+import com.mtvs.flykidsbackend.domain.mission.model.MissionResultStatus;
+import com.mtvs.flykidsbackend.domain.mission.model.WindowedScoreBoard;
+import com.mtvs.flykidsbackend.domain.mission.repository.DroneMissionResultRepository;
+import com.mtvs.flykidsbackend.domain.mission.repository.LeaderboardSeasonSnapshotRepository;
+import com.mtvs.flykidsbackend.domain.mission.repository.MissionRepository;
+import com.mtvs.flykidsbackend.domain.user.service.UserNicknameCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 기간별(일간 / 주간 / 시즌) 리더보드 서비스
+ *
+ * 미션별 WindowedScoreBoard 를 메모리에 두고 성공 결과가 저장될 때마다 갱신한다.
+ * - 애플리케이션 시작 시 최근 7일과 이번 시즌에 완료된 성공 결과로 다시 만든다.
+ * - 조회는 메모리에서만 하며, 날짜와 시즌이 바뀌면 버킷을 통째로 버려 구간을 넘긴다.
+ * - 지난 시즌 순위는 LeaderboardSeasonArchiver 가 저장한 스냅샷에서 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class WindowedLeaderboardService {
+
+    /** 기간별 리더보드 표시 인원 */
+    private static final int LEADERBOARD_SIZE = 10;
+
+    private final DroneMissionResultRepository resultRepository;
+    private final MissionRepository missionRepository;
+    private final LeaderboardSeasonSnapshotRepository snapshotRepository;
+    private final UserNicknameCache userNicknameCache;
+
+    private final ConcurrentHashMap<Long, WindowedScoreBoard> boards = new ConcurrentHashMap<>();
+
+    /**
+     * 애플리케이션 시작 시 모든 미션의 기간별 리더보드를 다시 만든다.
+     */
+    @PostConstruct
+    public void rebuild() {
+        for (Mission mission : missionRepository.findAll()) {
+            boards.put(mission.getId(), load(mission.getId()));
+        }
+    }
+
+    /**
+     * 기간별 리더보드 상위 기록을 조회한다. (유저당 최고 기록 하나, 같은 점수는 같은 순위)
+     *
+     * @param missionId 미션 ID
+     * @param window    구간 (DAILY / WEEKLY / SEASON)
+     * @return 순위순 랭킹 DTO 리스트
+     */
+    public List<LeaderboardEntryDto> getTop(Long missionId, LeaderboardWindow window) {
+        List<LeaderboardEntry> top = board(missionId).top(window, LocalDate.now(), LEADERBOARD_SIZE);
+
+        List<LeaderboardEntryDto> result = new ArrayList<>(top.size());
+        int rank = 0;
+        for (int i = 0; i < top.size(); i++) {
+            LeaderboardEntry entry = top.get(i);
+            if (i == 0 || entry.score() != top.get(i - 1).score()) {
+                rank = i + 1;
+            }
+            result.add(LeaderboardEntryDto.builder()
+                    .rank(rank)
+                    .nickname(userNicknameCache.getNickname(entry.userId()))
+                    .score(entry.score())
+                    .totalTime(entry.totalTime())
+                    .completedAt(entry.completedAt())
+                    .build());
+        }
+        return result;
+    }
+
+    /**
+     * 지난 시즌 리더보드 스냅샷을 조회한다.
+     *
+     * @param missionId 미션 ID
+     * @param season    시즌 (yyyy-MM)
+     * @return 저장 시점의 순위 리스트 (스냅샷이 없으면 빈 리스트)
+     * @throws IllegalArgumentException 시즌 형식이 잘못된 경우
+     */
+    public List<LeaderboardEntryDto> getSeasonSnapshot(Long missionId, String season) {
+        try {
+            YearMonth.parse(season);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("시즌은 yyyy-MM 형식이어야 합니다.");
+        }
+        List<LeaderboardSeasonSnapshot> snapshot = snapshotRepository
+                .findByMissionIdAndSeasonAndRankingGreaterThanOrderByRankingAsc(
+                        missionId, season, LeaderboardSeasonSnapshot.EMPTY_SEASON_RANKING);
+
+        // 같은 점수는 같은 순위
+        List<LeaderboardEntryDto> result = new ArrayList<>(snapshot.size());
+        int rank = 0;
+        for (int i = 0; i < snapshot.size(); i++) {
+            LeaderboardSeasonSnapshot s = snapshot.get(i);
+            if (i == 0 || s.getScore() != snapshot.get(i - 1).getScore()) {
+                rank = i + 1;
+            }
+            result.add(LeaderboardEntryDto.builder()
+                    .rank(rank)
+                    .nickname(s.getNickname())
+                    .score(s.getScore())
+                    .totalTime(s.getTotalTime())
+                    .completedAt(s.getCompletedAt())
+                    .build());
+        }
+        return result;
+    }
+
+    /**
+     * 성공 기록을 미션의 기간별 리더보드에 반영한다. (MissionLeaderboardService 가 커밋 이후 호출)
+     *
+     * @param missionId 미션 ID
+     * @param entry     성공 기록
+     */
+    public void record(Long missionId, LeaderboardEntry entry) {
+        board(missionId).record(entry);
+    }
+
+    /**
+     * 삭제된 미션의 기간별 리더보드를 제거한다.
+     *
+     * @param missionId 미션 ID
+     */
+    public void evictMission(Long missionId) {
+        boards.remove(missionId);
+    }
+
+    /**
+     * 시즌 스냅샷 저장용: 기간 안에 완료된 성공 결과의 유저별 최고 기록 (순위순)
+     *
+     * @param missionId 미션 ID
+     * @param season    시즌 (월)
+     * @return 순위순 기록과 저장 시점 닉네임을 담은 스냅샷 엔티티 (아직 저장 안 됨, 기록이 없으면 빈 시즌 표시 행 하나)
+     */
+    List<LeaderboardSeasonSnapshot> buildSeasonSnapshot(Long missionId, YearMonth season) {
+        List<LeaderboardRow> rows = resultRepository.findLeaderboardRowsCompletedBetween(
+                missionId, MissionResultStatus.SUCCESS,
+                season.atDay(1).atStartOfDay(), season.plusMonths(1).atDay(1).atStartOfDay());
+
+        List<LeaderboardEntry> ranking = WindowedScoreBoard.bestPerUser(
+                rows.stream().map(LeaderboardRow::toEntry).toList());
+
+        if (ranking.isEmpty()) {
+            return List.of(LeaderboardSeasonSnapshot.emptySeason(missionId, season.toString()));
+        }
+
+        List<LeaderboardSeasonSnapshot> snapshot = new ArrayList<>(ranking.size());
+        for (int i = 0; i < ranking.size(); i++) {
+            LeaderboardEntry entry = ranking.get(i);
+            snapshot.add(LeaderboardSeasonSnapshot.builder()
+                    .missionId(missionId)
+                    .season(season.toString())
+                    .ranking(i + 1)
+                    .userId(entry.userId())
+                    .nickname(userNicknameCache.getNickname(entry.userId()))
+                    .resultId(entry.resultId())
+                    .score(entry.score())
+                    .totalTime(entry.totalTime())
+                    .completedAt(entry.completedAt())
+                    .build());
+        }
+        return snapshot;
+    }
+
+    /**
+     * 미션 기간별 리더보드 (시작 이후 생긴 미션이면 처음 조회할 때 DB에서 만든다)
+     * - 존재하지 않는 미션은 캐시하지 않고 빈 리더보드를 반환한다. (임의 ID 조회로 캐시가 늘어나지 않도록)
+     */
+    private WindowedScoreBoard board(Long missionId) {
+        WindowedScoreBoard cached = boards.get(missionId);
+        if (cached != null) {
+            return cached;
+        }
+        if (missionId == null || !missionRepository.existsById(missionId)) {
+            return new WindowedScoreBoard(YearMonth.now());
+        }
+        return boards.computeIfAbsent(missionId, this::load);
+    }
+
+    /**
+     * 최근 7일과 이번 시즌 중 이른 날부터 완료된 성공 결과로 기간별 리더보드를 만든다.
+     */
+    private WindowedScoreBoard load(Long missionId) {
+        LocalDate today = LocalDate.now();
+        YearMonth season = YearMonth.from(today);
+        LocalDate weekStart = today.minusDays(WindowedScoreBoard.DAYS - 1);
+        LocalDate seasonStart = season.atDay(1);
+        LocalDateTime from = (weekStart.isBefore(seasonStart) ? weekStart : seasonStart).atStartOfDay();
+
+        WindowedScoreBoard board = new WindowedScoreBoard(season);
+        for (LeaderboardRow row : resultRepository.findLeaderboardRowsCompletedBetween(
+                missionId, MissionResultStatus.SUCCESS, from, today.plusDays(1).atStartOfDay())) {
+            userNicknameCache.preload(row.userId(), row.nickname());
+            board.record(row.toEntry());
+        }
+        return board;
+    }
+}
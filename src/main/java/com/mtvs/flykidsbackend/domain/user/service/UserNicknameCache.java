@@ -0,0 +1,85 @@
+package com.mtvs.flykidsbackend.domain.user.service;
+
+import com.mtvs.flykidsbackend.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저 닉네임 캐시 (리더보드 표시용)
+ *
+ * 리더보드 조회마다 닉네임을 DB에서 읽지 않도록 유저 ID별 닉네임을 메모리에 둔다.
+ * - 처음 보는 유저만 한 번 DB에서 읽는다.
+ * - 닉네임 변경, 회원 탈퇴 시 UserServiceImpl 이 캐시를 갱신한다.
+ * - 비활성(탈퇴) 유저는 닉네임 없음(null)으로 조회된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserNicknameCache {
+
+    /** 비활성 유저 표시 값 (닉네임은 2자 이상이므로 실제 닉네임과 겹치지 않음) */
+    private static final String INACTIVE = "";
+
+    private final UserRepository userRepository;
+
+    private final ConcurrentHashMap<Long, String> nicknames = new ConcurrentHashMap<>();
+
+    /**
+     * 유저 닉네임을 조회한다.
+     *
+     * @param userId 유저 ID
+     * @return 활성 유저의 닉네임 (비활성 또는 없는 유저면 null)
+     */
+    public String getNickname(Long userId) {
+        String nickname = nicknames.computeIfAbsent(userId, id -> {
+            String found = userRepository.findNicknameById(id);
+            return found != null ? found : INACTIVE;
+        });
+        return INACTIVE.equals(nickname) ? null : nickname;
+    }
+
+    /**
+     * 이미 읽은 닉네임을 캐시에 채운다. (리더보드 재구성 시 사용, 기존 값은 유지)
+     *
+     * @param userId   유저 ID
+     * @param nickname 활성 유저의 닉네임 (비활성이면 null)
+     */
+    public void preload(Long userId, String nickname) {
+        nicknames.putIfAbsent(userId, nickname != null ? nickname : INACTIVE);
+    }
+
+    /**
+     * 닉네임 변경을 반영한다. (커밋 이후)
+     *
+     * @param userId   유저 ID
+     * @param nickname 변경된 닉네임
+     */
+    public void updateNickname(Long userId, String nickname) {
+        afterCommit(() -> nicknames.put(userId, nickname));
+    }
+
+    /**
+     * 회원 탈퇴를 반영한다. (커밋 이후, 이후 조회는 null)
+     *
+     * @param userId 유저 ID
+     */
+    public void markWithdrawn(Long userId) {
+        afterCommit(() -> nicknames.put(userId, INACTIVE));
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
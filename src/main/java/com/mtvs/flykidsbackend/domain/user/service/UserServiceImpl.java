@@ -1,6 +1,7 @@
 package com.mtvs.flykidsbackend.domain.user.service;
 
 import com.mtvs.flykidsbackend.config.JwtUtil;
+import com.mtvs.flykidsbackend.domain.mission.service.PlayerStatsService;
 import com.mtvs.flykidsbackend.domain.user.dto.LoginRequestDto;
 import com.mtvs.flykidsbackend.domain.user.dto.SignupRequestDto;
 import com.mtvs.flykidsbackend.domain.user.dto.TokenResponseDto;
@@ -22,6 +23,8 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final UserNicknameCache userNicknameCache;
+    private final PlayerStatsService playerStatsService;
 
     /**
      * 회원가입 처리
@@ -29,6 +32,7 @@ public class UserServiceImpl implements UserService {
      * - 비밀번호 형식 검증
      * - 닉네임 길이 검증
      * - 사용자 정보 저장
+     * - 빈 미션 통계 행 생성
      */
     @Override
     public void signup(SignupRequestDto requestDto) {
@@ -71,6 +75,7 @@ public class UserServiceImpl implements UserService {
                 .build();
 
         userRepository.save(user);
+        playerStatsService.createStats(user.getId());
     }
 
     /**
@@ -186,6 +191,9 @@ public class UserServiceImpl implements UserService {
         // 5) 닉네임 업데이트 후 저장
         user.updateNickname(newNickname);
         userRepository.save(user);
+
+        // 6) 리더보드 닉네임 캐시 갱신
+        userNicknameCache.updateNickname(user.getId(), newNickname);
     }
 
     /**
@@ -236,6 +244,9 @@ public class UserServiceImpl implements UserService {
 
         // 변경된 사용자 정보 저장
         userRepository.save(user);
+
+        // 리더보드에서는 닉네임 없이 표시되도록 캐시 갱신
+        userNicknameCache.markWithdrawn(user.getId());
     }
 
     /**
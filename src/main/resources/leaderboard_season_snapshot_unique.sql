@@ -0,0 +1,43 @@
+-- 시즌 리더보드 스냅샷 유니크 제약 추가 스크립트 (PostgreSQL)
+-- 새 버전 배포 전에 1회 실행한다.
+-- 1. 같은 미션 시즌이 중복 저장된 경우 먼저 저장된 묶음(archived_at, id 가 이른 쪽)만 남긴다.
+-- 2. ranking 을 같은 점수도 서로 다른 순위표 위치(1부터)로 다시 매긴다. (표시 순위는 조회 시 점수로 계산)
+-- 3. (mission_id, season, ranking) 유니크 제약을 추가하고 기존 (mission_id, season) 인덱스를 제거한다.
+-- 전체를 한 트랜잭션으로 실행해 중간에 실패하면 아무것도 바뀌지 않는다.
+
+BEGIN;
+
+-- 중복 저장된 묶음 제거 (미션 시즌별 가장 먼저 저장된 시각의 행만 유지)
+DELETE FROM leaderboard_season_snapshot s
+USING (
+    SELECT mission_id, season, MIN(archived_at) AS first_archived_at
+    FROM leaderboard_season_snapshot
+    GROUP BY mission_id, season
+) f
+WHERE s.mission_id = f.mission_id
+  AND s.season = f.season
+  AND s.archived_at > f.first_archived_at;
+
+-- 같은 묶음 안에서 같은 유저가 두 번 들어간 경우 (같은 시각 저장) 하나만 유지
+DELETE FROM leaderboard_season_snapshot s
+USING leaderboard_season_snapshot d
+WHERE s.mission_id = d.mission_id
+  AND s.season = d.season
+  AND s.user_id = d.user_id
+  AND s.id > d.id;
+
+-- 순위표 위치로 다시 매김
+UPDATE leaderboard_season_snapshot s
+SET ranking = r.position
+FROM (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY mission_id, season ORDER BY ranking, id) AS position
+    FROM leaderboard_season_snapshot
+) r
+WHERE s.id = r.id;
+
+DROP INDEX IF EXISTS idx_season_snapshot_mission_season;
+
+ALTER TABLE leaderboard_season_snapshot
+    ADD CONSTRAINT uk_season_snapshot_mission_season_ranking UNIQUE (mission_id, season, ranking);
+
+COMMIT;
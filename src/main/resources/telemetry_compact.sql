@@ -0,0 +1,87 @@
+-- 텔레메트리 테이블 압축 스키마 전환 스크립트 (PostgreSQL)
+-- 새 버전 배포 전에 1회 실행한다.
+-- 1. drone_registry 생성 후 기존 문자열 드론 ID 등록
+-- 2. drone_key / epoch millisecond 컬럼 추가 및 기존 데이터 이관
+-- 3. 문자열 ID, timestamp 컬럼 제거 및 좌표 컬럼 float(real) 전환
+-- 드론 ID가 없는 기존 행은 자리표시 드론('unknown')으로, 시각이 없는 행은 삭제한다. (NOT NULL 전환 실패 방지)
+-- 전체를 한 트랜잭션으로 실행해 중간에 실패하면 아무것도 바뀌지 않는다.
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS drone_registry (
+    id            SERIAL PRIMARY KEY,
+    drone_id      VARCHAR(64) NOT NULL UNIQUE,
+    registered_at TIMESTAMP
+);
+
+INSERT INTO drone_registry (drone_id, registered_at)
+SELECT drone_id, now() FROM drone_position_log WHERE drone_id IS NOT NULL
+UNION
+SELECT drone_id, now() FROM route_deviation_log WHERE drone_id IS NOT NULL
+ON CONFLICT (drone_id) DO NOTHING;
+
+-- 드론 ID가 없던 기존 행을 모을 자리표시 드론
+INSERT INTO drone_registry (drone_id, registered_at)
+VALUES ('unknown', now())
+ON CONFLICT (drone_id) DO NOTHING;
+
+-- 드론 위치 로그
+ALTER TABLE drone_position_log
+    ADD COLUMN IF NOT EXISTS drone_key    INTEGER,
+    ADD COLUMN IF NOT EXISTS logged_at_ms BIGINT;
+
+UPDATE drone_position_log l
+SET drone_key    = r.id,
+    logged_at_ms = (EXTRACT(EPOCH FROM l.logged_at) * 1000)::bigint
+FROM drone_registry r
+WHERE r.drone_id = l.drone_id;
+
+UPDATE drone_position_log
+SET drone_key    = (SELECT id FROM drone_registry WHERE drone_id = 'unknown'),
+    logged_at_ms = (EXTRACT(EPOCH FROM logged_at) * 1000)::bigint
+WHERE drone_key IS NULL;
+
+DELETE FROM drone_position_log WHERE logged_at_ms IS NULL;
+
+ALTER TABLE drone_position_log
+    DROP COLUMN drone_id,
+    DROP COLUMN logged_at,
+    ALTER COLUMN drone_key SET NOT NULL,
+    ALTER COLUMN logged_at_ms SET NOT NULL,
+    ALTER COLUMN x TYPE real,
+    ALTER COLUMN y TYPE real,
+    ALTER COLUMN z TYPE real,
+    ALTER COLUMN rotation_y TYPE real;
+
+CREATE INDEX IF NOT EXISTS idx_drone_position_log_drone_time
+    ON drone_position_log (drone_key, logged_at_ms);
+
+-- 경로 이탈 로그
+ALTER TABLE route_deviation_log
+    ADD COLUMN IF NOT EXISTS drone_key    INTEGER,
+    ADD COLUMN IF NOT EXISTS timestamp_ms BIGINT;
+
+UPDATE route_deviation_log l
+SET drone_key    = r.id,
+    timestamp_ms = (EXTRACT(EPOCH FROM l.timestamp) * 1000)::bigint
+FROM drone_registry r
+WHERE r.drone_id = l.drone_id;
+
+UPDATE route_deviation_log
+SET drone_key    = (SELECT id FROM drone_registry WHERE drone_id = 'unknown'),
+    timestamp_ms = (EXTRACT(EPOCH FROM timestamp) * 1000)::bigint
+WHERE drone_key IS NULL;
+
+DELETE FROM route_deviation_log WHERE timestamp_ms IS NULL;
+
+ALTER TABLE route_deviation_log
+    DROP COLUMN drone_id,
+    DROP COLUMN timestamp,
+    ALTER COLUMN drone_key SET NOT NULL,
+    ALTER COLUMN timestamp_ms SET NOT NULL,
+    ALTER COLUMN x TYPE real,
+    ALTER COLUMN y TYPE real,
+    ALTER COLUMN z TYPE real,
+    ALTER COLUMN rotation_y TYPE real;
+
+COMMIT;
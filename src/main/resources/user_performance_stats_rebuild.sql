@@ -0,0 +1,56 @@
+-- 유저 미션 통계 행 재계산 스크립트 (PostgreSQL)
+-- 새 버전으로 전환(모든 서버 교체)이 끝난 뒤에 1회 실행한다.
+--   전환 전에 실행하면 그 사이 이전 버전이 저장한 결과가 통계 행에 반영되지 않는다.
+--   전환 후 ~ 실행 전에는 기존 유저의 통계 행이 새 버전이 저장한 결과만 담고 있을 수 있다.
+-- 모든 유저의 통계 행을 drone_mission_result 전체로 다시 계산해 덮어쓰므로, 언제 다시 실행해도 결과가 같다.
+-- 1. 통계 테이블 두 개를 SHARE ROW EXCLUSIVE 로 잠근다.
+--    결과 저장은 결과 행과 통계 행을 한 트랜잭션에서 쓰므로, 잠금 전에 커밋된 결과는 재계산에 포함되고
+--    실행 중 저장되는 결과는 통계 반영 단계에서 대기했다가 커밋 후 재계산된 행 위에 누적된다.
+-- 2. 누적 값(시도 수, 결과 수, 점수 합, 비행 시간 합, 성공 세트 수)을 다시 계산한다. (행이 없는 유저는 새로 만든다)
+--    시도 수는 중단(ABORT)을 제외하고, 성공 세트는 같은 미션 성공 3회 이상인 미션 수이다.
+-- 3. 미션별 성공 횟수를 다시 채운다.
+-- 전체를 한 트랜잭션으로 실행해 중간에 실패하면 아무것도 바뀌지 않는다.
+
+BEGIN;
+
+LOCK TABLE user_performance_stats, user_performance_mission_success IN SHARE ROW EXCLUSIVE MODE;
+
+-- 누적 값
+INSERT INTO user_performance_stats
+    (user_id, attempts, result_count, score_sum, total_flight_time, successful_sets, updated_at)
+SELECT ids.user_id,
+       COUNT(r.id) FILTER (WHERE r.status <> 'ABORT'),
+       COUNT(r.id),
+       COALESCE(SUM(r.score), 0),
+       COALESCE(SUM(r.total_time), 0),
+       (SELECT COUNT(*)
+        FROM (SELECT 1
+              FROM drone_mission_result sr
+              WHERE sr.user_id = ids.user_id AND sr.status = 'SUCCESS' AND sr.mission_id IS NOT NULL
+              GROUP BY sr.mission_id
+              HAVING COUNT(*) >= 3) sets),
+       now()
+FROM (SELECT u.id AS user_id FROM users u
+      UNION
+      SELECT s.user_id FROM user_performance_stats s) ids
+LEFT JOIN drone_mission_result r ON r.user_id = ids.user_id
+GROUP BY ids.user_id
+ON CONFLICT (user_id) DO UPDATE
+SET attempts          = EXCLUDED.attempts,
+    result_count      = EXCLUDED.result_count,
+    score_sum         = EXCLUDED.score_sum,
+    total_flight_time = EXCLUDED.total_flight_time,
+    successful_sets   = EXCLUDED.successful_sets,
+    updated_at        = EXCLUDED.updated_at;
+
+-- 미션별 성공 횟수
+DELETE FROM user_performance_mission_success;
+
+INSERT INTO user_performance_mission_success (user_id, mission_id, success_count)
+SELECT r.user_id, r.mission_id, COUNT(*)
+FROM drone_mission_result r
+JOIN user_performance_stats s ON s.user_id = r.user_id
+WHERE r.status = 'SUCCESS' AND r.mission_id IS NOT NULL
+GROUP BY r.user_id, r.mission_id;
+
+COMMIT;
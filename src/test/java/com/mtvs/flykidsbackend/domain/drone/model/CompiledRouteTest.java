@@ -0,0 +1,96 @@
+package com.mtvs.flykidsbackend.domain.drone.model;
+
+import com.mtvs.flykidsbackend.domain.drone.entity.RoutePoint;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompiledRouteTest {
+
+    /** x 축을 따라 1m 간격, 고도 1.5m 인 직선 경로 (구간 수 = count - 1) */
+    private static CompiledRoute straightRoute(int count) {
+        List<RoutePoint> points = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            points.add(RoutePoint.builder().missionId(1L).seq(i).x(i).y(1.5).z(0).build());
+        }
+        return CompiledRoute.of(1L, 1L, points);
+    }
+
+    @Test
+    void locateSegment_직전_구간_주변에서_가장_가까운_구간을_찾는다() {
+        CompiledRoute route = straightRoute(40);
+
+        assertThat(route.locateSegment(3, 5.5f, 1.5f, 0.3f)).isEqualTo(5);
+        assertThat(route.locateSegment(5, 4.2f, 1.5f, -0.3f)).isEqualTo(4);
+    }
+
+    @Test
+    void locateSegment_탐색_범위_밖으로는_옮기지_않는다() {
+        CompiledRoute route = straightRoute(40);
+
+        // 직전 구간 0 기준 탐색 범위(0 ~ 8)를 벗어난 지점 - 전체 재탐색은 호출자가 빈도를 제한해 수행
+        assertThat(route.locateSegment(0, 30.5f, 1.5f, 0.5f)).isEqualTo(8);
+        // 되돌아간 경우
+        assertThat(route.locateSegment(35, 2.5f, 1.5f, 0f)).isEqualTo(33);
+    }
+
+    @Test
+    void locateSegment_어느_통로에도_없으면_주변_구간을_유지한다() {
+        CompiledRoute route = straightRoute(40);
+
+        int segment = route.locateSegment(10, 30.5f, 1.5f, 50f);
+
+        assertThat(segment).isBetween(8, 18);
+    }
+
+    @Test
+    void locateSegment_범위를_벗어난_직전_구간도_안전하게_처리한다() {
+        CompiledRoute route = straightRoute(5);
+
+        assertThat(route.locateSegment(100, 3.5f, 1.5f, 0f)).isEqualTo(3);
+        assertThat(route.locateSegment(-1, 0.5f, 1.5f, 0f)).isEqualTo(0);
+    }
+
+    @Test
+    void 포인트가_하나_이하면_구간_0을_반환한다() {
+        assertThat(straightRoute(0).locateSegment(0, 1f, 1f, 1f)).isZero();
+        assertThat(straightRoute(1).locateSegment(0, 1f, 1f, 1f)).isZero();
+    }
+
+    @Test
+    void nearestSegment_전체_구간에서_가장_가까운_구간을_찾는다() {
+        CompiledRoute route = straightRoute(40);
+
+        assertThat(route.nearestSegment(21.7f, 1.5f, 0f)).isEqualTo(21);
+    }
+
+    @Test
+    void findCorridorSegment_통로_안에_들어가는_구간이_없으면_음수를_반환한다() {
+        CompiledRoute route = straightRoute(40);
+
+        assertThat(route.findCorridorSegment(25.5f, 1.5f, 1.0f)).isEqualTo(25);
+        assertThat(route.findCorridorSegment(25.5f, 1.5f, 10f)).isEqualTo(-1);
+        assertThat(route.findCorridorSegment(25.5f, 5.0f, 0f)).isEqualTo(-1);
+    }
+
+    @Test
+    void isWithinCorridor_수평_거리와_고도_범위를_모두_확인한다() {
+        CompiledRoute route = straightRoute(3);
+
+        assertThat(route.isWithinCorridor(0, 0.5f, 1.5f, 2.0f)).isTrue();
+        assertThat(route.isWithinCorridor(0, 0.5f, 1.5f, 3.0f)).isFalse();
+        assertThat(route.isWithinCorridor(0, 0.5f, 0.2f, 0f)).isFalse();
+        assertThat(route.isWithinCorridor(0, 0.5f, 3.5f, 0f)).isFalse();
+    }
+
+    @Test
+    void arcLengthOn_구간_투영_위치의_누적_길이를_반환한다() {
+        CompiledRoute route = straightRoute(10);
+
+        assertThat(route.arcLengthOn(4, 4.25f, 1.5f, 1f)).isEqualTo(4.25f);
+        assertThat(route.totalLength()).isEqualTo(9f);
+    }
+}
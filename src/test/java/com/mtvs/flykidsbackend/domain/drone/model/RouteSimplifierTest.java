@@ -0,0 +1,91 @@
+package com.mtvs.flykidsbackend.domain.drone.model;
+
+import com.mtvs.flykidsbackend.domain.drone.dto.RoutePointRequestDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RouteSimplifierTest {
+
+    private static RoutePointRequestDto point(double x, double y, double z) {
+        return RoutePointRequestDto.builder().missionId(1L).x(x).y(y).z(z).build();
+    }
+
+    @Test
+    void 일직선_경로는_양_끝_포인트만_남긴다() {
+        List<RoutePointRequestDto> points = new ArrayList<>();
+        for (int i = 0; i <= 100; i++) {
+            points.add(point(i * 0.5, 1.5, 0));
+        }
+
+        List<RoutePointRequestDto> result = RouteSimplifier.simplify(points);
+
+        assertThat(result).containsExactly(points.get(0), points.get(100));
+    }
+
+    @Test
+    void 최소_간격보다_가까운_포인트는_버리고_마지막_포인트는_남긴다() {
+        List<RoutePointRequestDto> points = List.of(
+                point(0, 1.5, 0),
+                point(0.1, 1.5, 0),
+                point(0.2, 1.5, 0.05),
+                point(5, 1.5, 0),
+                point(5.05, 1.5, 0));
+
+        List<RoutePointRequestDto> result = RouteSimplifier.simplify(points);
+
+        assertThat(result).containsExactly(points.get(0), points.get(4));
+    }
+
+    @Test
+    void 꺾이는_지점은_남긴다() {
+        List<RoutePointRequestDto> points = new ArrayList<>();
+        for (int i = 0; i <= 10; i++) {
+            points.add(point(i, 1.5, 0));
+        }
+        for (int i = 1; i <= 10; i++) {
+            points.add(point(10, 1.5, i));
+        }
+
+        List<RoutePointRequestDto> result = RouteSimplifier.simplify(points);
+
+        assertThat(result).containsExactly(points.get(0), points.get(10), points.get(20));
+    }
+
+    @Test
+    void 게이트와_통로_값이_바뀌는_포인트는_일직선_위라도_남긴다() {
+        List<RoutePointRequestDto> points = new ArrayList<>();
+        for (int i = 0; i <= 20; i++) {
+            points.add(point(i, 1.5, 0));
+        }
+        points.get(5).setGate(true);
+        for (int i = 12; i <= 20; i++) {
+            points.get(i).setMaxAltitude(4.0);
+        }
+
+        List<RoutePointRequestDto> result = RouteSimplifier.simplify(points);
+
+        assertThat(result).containsExactly(points.get(0), points.get(5), points.get(12), points.get(20));
+    }
+
+    @Test
+    void simplifyIndices_허용_거리를_넘는_포인트만_남긴다() {
+        double[] xs = {0, 1, 2, 3, 4};
+        double[] ys = {0, 0.05, 0.5, 0.05, 0};
+        double[] zs = {0, 0, 0, 0, 0};
+
+        int[] kept = RouteSimplifier.simplifyIndices(xs, ys, zs, new boolean[5], 0.1);
+
+        assertThat(kept).containsExactly(0, 2, 4);
+    }
+
+    @Test
+    void 포인트가_둘_이하면_그대로_반환한다() {
+        List<RoutePointRequestDto> points = List.of(point(0, 1, 0), point(0.01, 1, 0));
+
+        assertThat(RouteSimplifier.simplify(points)).containsExactly(points.get(0), points.get(1));
+    }
+}
@@ -0,0 +1,156 @@
+package com.mtvs.flykidsbackend.domain.drone.service;
+
+import com.mtvs.flykidsbackend.domain.drone.dto.RoutePointRequestDto;
+import com.mtvs.flykidsbackend.domain.drone.entity.RoutePoint;
+import com.mtvs.flykidsbackend.domain.drone.entity.RouteVersion;
+import com.mtvs.flykidsbackend.domain.drone.model.CompiledRoute;
+import com.mtvs.flykidsbackend.domain.drone.repository.RoutePointRepository;
+import com.mtvs.flykidsbackend.domain.drone.repository.RouteVersionRepository;
+import com.mtvs.flykidsbackend.domain.mission.entity.Mission;
+import com.mtvs.flykidsbackend.domain.mission.model.MissionType;
+import com.mtvs.flykidsbackend.domain.mission.repository.MissionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 미션에 경로가 동시에 등록될 때 DB 의 active 버전과 메모리 캐시 버전이 같은지 확인한다.
+ */
+@DataJpaTest
+@Import(RoutePointService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RoutePointServiceConcurrencyTest {
+
+    @Autowired
+    private RoutePointService routePointService;
+
+    @Autowired
+    private RoutePointRepository routePointRepository;
+
+    @Autowired
+    private RouteVersionRepository routeVersionRepository;
+
+    @Autowired
+    private MissionRepository missionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        routePointRepository.deleteAll();
+        routeVersionRepository.deleteAll();
+        missionRepository.deleteAll();
+    }
+
+    private Long createMission() {
+        return missionRepository.save(Mission.builder()
+                .title("경로 미션")
+                .timeLimit(120)
+                .type(MissionType.OBSTACLE)
+                .build()).getId();
+    }
+
+    private static List<RoutePointRequestDto> straight(Long missionId, double z) {
+        List<RoutePointRequestDto> points = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            points.add(RoutePointRequestDto.builder().missionId(missionId).x(i * 10.0).y(1.5).z(z).build());
+        }
+        return points;
+    }
+
+    @Test
+    void 먼저_버전을_만든_등록이_늦게_끝나도_DB와_캐시가_같은_버전을_쓴다() throws Exception {
+        Long missionId = createMission();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        CountDownLatch aCreated = new CountDownLatch(1);
+        AtomicLong aVersion = new AtomicLong();
+
+        // A: 버전을 만든 뒤 B 가 끼어들 시간을 주고 나서 포인트 저장, 활성화
+        CompletableFuture<Void> a = CompletableFuture.runAsync(() -> tx.executeWithoutResult(status -> {
+            RouteVersion version = routePointService.createVersion(missionId);
+            aVersion.set(version.getId());
+            aCreated.countDown();
+            sleep(300);
+
+            List<RoutePoint> points = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                points.add(RoutePoint.builder().missionId(missionId).routeVersionId(version.getId())
+                        .seq(i).x(i * 10.0).y(1.5).z(0).build());
+            }
+            routePointRepository.saveAll(points);
+            routePointService.activateVersion(version, CompiledRoute.of(missionId, version.getId(), points));
+        }));
+
+        // B: A 가 버전을 만든 직후 같은 미션에 등록
+        CompletableFuture<Void> b = CompletableFuture.runAsync(() -> {
+            await(aCreated);
+            routePointService.saveRoutePoints(straight(missionId, 5.0));
+        });
+
+        CompletableFuture.allOf(a, b).get(10, TimeUnit.SECONDS);
+
+        List<RouteVersion> active = routeVersionRepository.findAll().stream()
+                .filter(RouteVersion::isActive)
+                .toList();
+        assertThat(active).hasSize(1);
+        long activeId = active.get(0).getId();
+        // B 는 A 의 커밋까지 기다렸다가 버전을 만들므로 더 큰 ID로 마지막에 활성화된다.
+        assertThat(activeId).isGreaterThan(aVersion.get());
+        assertThat(routePointService.getCompiledRoute(missionId).getVersionId()).isEqualTo(activeId);
+        assertThat(routeVersionRepository.findFirstByMissionIdAndActiveTrueOrderByIdDesc(missionId))
+                .get().extracting(RouteVersion::getId).isEqualTo(activeId);
+    }
+
+    @Test
+    void 더_최신_active_버전은_교체하지_않는다() {
+        Long missionId = createMission();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        RouteVersion older = tx.execute(status -> routePointService.createVersion(missionId));
+        RouteVersion newer = tx.execute(status -> {
+            RouteVersion version = routePointService.createVersion(missionId);
+            routePointService.activateVersion(version, CompiledRoute.of(missionId, version.getId(), List.of()));
+            return version;
+        });
+        tx.executeWithoutResult(status ->
+                routePointService.activateVersion(older, CompiledRoute.of(missionId, older.getId(), List.of())));
+
+        assertThat(routeVersionRepository.findById(newer.getId())).get()
+                .extracting(RouteVersion::isActive).isEqualTo(true);
+        assertThat(routeVersionRepository.findFirstByMissionIdAndActiveTrueOrderByIdDesc(missionId))
+                .get().extracting(RouteVersion::getId).isEqualTo(newer.getId());
+        assertThat(routePointService.getCompiledRoute(missionId).getVersionId()).isEqualTo(newer.getId());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.mtvs.flykidsbackend.domain.drone.service;
+
+import com.mtvs.flykidsbackend.domain.drone.entity.RoutePoint;
+import com.mtvs.flykidsbackend.domain.drone.model.CompiledRoute;
+import com.mtvs.flykidsbackend.domain.drone.state.LiveDroneStateStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RouteProgressTrackerTest {
+
+    private final LiveDroneStateStore store = new LiveDroneStateStore();
+    private final RouteProgressTracker tracker = new RouteProgressTracker(store);
+
+    /** x 축을 따라 1m 간격, 고도 1.5m 인 직선 경로 (구간 수 = count - 1) */
+    private static CompiledRoute straightRoute(int count) {
+        List<RoutePoint> points = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            points.add(RoutePoint.builder().missionId(1L).seq(i).x(i).y(1.5).z(0).build());
+        }
+        return CompiledRoute.of(1L, 1L, points);
+    }
+
+    @Test
+    void advance_탐색_범위_밖이라도_통로_안이면_다시_잡는다() {
+        CompiledRoute route = straightRoute(40);
+        int slot = store.acquire(1);
+
+        // 직전 구간 0 기준 탐색 범위(0 ~ 8)를 벗어난 지점 (리스폰, 지름길 등)
+        tracker.advance(slot, route, 30.5f, 1.5f, 0.5f, 1_000L);
+
+        assertThat(store.getRouteSegment(slot)).isEqualTo(30);
+    }
+
+    @Test
+    void advance_전체_재탐색은_간격_안에서_한_번만_한다() {
+        CompiledRoute route = straightRoute(40);
+        int slot = store.acquire(2);
+
+        // 통로 밖 샘플로 재탐색 기회를 쓴다.
+        tracker.advance(slot, route, 4.5f, 1.5f, 50f, 1_000L);
+        assertThat(store.getRouteRescanAt(slot)).isEqualTo(1_000L);
+
+        // 간격 안: 멀리 떨어진 통로 안 지점이라도 주변 구간만 탐색
+        tracker.advance(slot, route, 30.5f, 1.5f, 0f, 1_100L);
+        assertThat(store.getRouteSegment(slot)).isLessThan(30);
+
+        // 간격이 지나면 다시 잡는다.
+        tracker.advance(slot, route, 30.5f, 1.5f, 0f, 1_600L);
+        assertThat(store.getRouteSegment(slot)).isEqualTo(30);
+    }
+
+    @Test
+    void corridorSegment_같은_샘플에서_advance_가_탐색했으면_다시_훑지_않는다() {
+        CompiledRoute route = straightRoute(40);
+        int slot = store.acquire(3);
+
+        tracker.advance(slot, route, 4.5f, 1.5f, 50f, 1_000L);
+        int tracked = store.getRouteSegment(slot);
+
+        assertThat(tracker.corridorSegment(slot, route, 30.5f, 1.5f, 0f, 1_000L)).isEqualTo(tracked);
+        assertThat(tracker.corridorSegment(slot, route, 30.5f, 1.5f, 0f, 1_500L)).isEqualTo(30);
+        assertThat(store.getRouteSegment(slot)).isEqualTo(30);
+    }
+}
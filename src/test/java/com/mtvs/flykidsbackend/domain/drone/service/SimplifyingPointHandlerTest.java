@@ -0,0 +1,85 @@
+package com.mtvs.flykidsbackend.domain.drone.service;
+
+import com.mtvs.flykidsbackend.domain.drone.dto.RoutePointRequestDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimplifyingPointHandlerTest {
+
+    private final List<double[]> emitted = new ArrayList<>();
+    private final SimplifyingPointHandler handler = new SimplifyingPointHandler(
+            point -> emitted.add(new double[]{point.getX(), point.getY(), point.getZ()}));
+
+    /** 파서처럼 DTO 하나를 재사용해 넘긴다. */
+    private final RoutePointRequestDto reused = new RoutePointRequestDto();
+
+    private void accept(double x, double y, double z) throws Exception {
+        reused.setX(x);
+        reused.setY(y);
+        reused.setZ(z);
+        handler.accept(reused);
+    }
+
+    @Test
+    void 재사용되는_DTO_스트림도_일괄_단순화와_같은_포인트를_남긴다() throws Exception {
+        for (int i = 0; i <= 10; i++) {
+            accept(i, 1.5, 0);
+        }
+        for (int i = 1; i <= 10; i++) {
+            accept(10, 1.5, i);
+        }
+
+        long count = handler.finish();
+
+        assertThat(count).isEqualTo(3);
+        assertThat(handler.getReceivedCount()).isEqualTo(21);
+        assertThat(emitted).containsExactly(
+                new double[]{0, 1.5, 0}, new double[]{10, 1.5, 0}, new double[]{10, 1.5, 10});
+    }
+
+    @Test
+    void 최소_간격_때문에_버린_마지막_포인트는_finish_에서_넘긴다() throws Exception {
+        accept(0, 1.5, 0);
+        accept(5, 1.5, 0);
+        accept(5.1, 1.5, 0);
+
+        handler.finish();
+
+        assertThat(emitted).containsExactly(
+                new double[]{0, 1.5, 0}, new double[]{5.1, 1.5, 0});
+    }
+
+    @Test
+    void 게이트는_항상_넘긴다() throws Exception {
+        accept(0, 1.5, 0);
+        accept(1, 1.5, 0);
+        reused.setGate(true);
+        accept(2, 1.5, 0);
+        reused.setGate(null);
+        accept(3, 1.5, 0);
+        accept(4, 1.5, 0);
+
+        handler.finish();
+
+        assertThat(emitted).extracting(p -> p[0]).containsExactly(0.0, 2.0, 4.0);
+    }
+
+    @Test
+    void 긴_일직선_구간은_버퍼_크기마다_끊어_메모리를_제한한다() throws Exception {
+        int total = SimplifyingPointHandler.WINDOW_SIZE * 3;
+        for (int i = 0; i < total; i++) {
+            accept(i, 1.5, 0);
+        }
+
+        long count = handler.finish();
+
+        // 첫 포인트 + 버퍼가 찰 때마다의 경계 포인트 + 마지막 포인트
+        assertThat(count).isLessThanOrEqualTo(5);
+        assertThat(emitted.get(0)[0]).isZero();
+        assertThat(emitted.get(emitted.size() - 1)[0]).isEqualTo(total - 1);
+    }
+}
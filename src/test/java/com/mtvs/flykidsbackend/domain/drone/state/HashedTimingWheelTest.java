@@ -0,0 +1,113 @@
+package com.mtvs.flykidsbackend.domain.drone.state;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HashedTimingWheelTest {
+
+    private static final long TICK_MILLIS = 10L;
+    private static final int WHEEL_SIZE = 8; // 한 바퀴 80ms
+
+    private record Fired(int droneKey, long token, long firedAt) {
+    }
+
+    private final List<Fired> fired = new CopyOnWriteArrayList<>();
+    private CountDownLatch latch = new CountDownLatch(1);
+
+    private final HashedTimingWheel wheel = new HashedTimingWheel("test-wheel", TICK_MILLIS, WHEEL_SIZE,
+            (droneKey, token) -> {
+                fired.add(new Fired(droneKey, token, System.currentTimeMillis()));
+                latch.countDown();
+            });
+
+    @AfterEach
+    void tearDown() {
+        wheel.stop();
+    }
+
+    @Test
+    void 마감_시각이_지나면_드론_키와_토큰으로_콜백한다() throws Exception {
+        wheel.start();
+        long deadline = System.currentTimeMillis() + 50L;
+
+        wheel.schedule(7, 1234L, deadline);
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(fired).hasSize(1);
+        assertThat(fired.get(0).droneKey()).isEqualTo(7);
+        assertThat(fired.get(0).token()).isEqualTo(1234L);
+        assertThat(fired.get(0).firedAt()).isGreaterThanOrEqualTo(deadline - TICK_MILLIS);
+    }
+
+    @Test
+    void 한_바퀴보다_먼_마감은_남은_바퀴_수만큼_기다린다() throws Exception {
+        wheel.start();
+        long deadline = System.currentTimeMillis() + 250L; // 약 3바퀴 뒤
+
+        wheel.schedule(1, 1L, deadline);
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(fired.get(0).firedAt()).isGreaterThanOrEqualTo(deadline - TICK_MILLIS);
+    }
+
+    @Test
+    void 이미_지난_마감은_다음_틱에_만료된다() throws Exception {
+        wheel.start();
+
+        wheel.schedule(3, 9L, System.currentTimeMillis() - 1_000L);
+
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(fired).extracting(Fired::droneKey).containsExactly(3);
+    }
+
+    @Test
+    void 여러_타이머를_각각_한_번씩_만료시킨다() throws Exception {
+        latch = new CountDownLatch(3);
+        wheel.start();
+        long now = System.currentTimeMillis();
+
+        wheel.schedule(1, 1L, now + 20L);
+        wheel.schedule(2, 2L, now + 20L);
+        wheel.schedule(3, 3L, now + 120L);
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(3 * TICK_MILLIS * WHEEL_SIZE);
+        assertThat(fired).extracting(Fired::droneKey).containsExactlyInAnyOrder(1, 2, 3);
+    }
+
+    @Test
+    void 콜백_예외가_휠을_멈추지_않는다() throws Exception {
+        CountDownLatch second = new CountDownLatch(1);
+        HashedTimingWheel failing = new HashedTimingWheel("failing-wheel", TICK_MILLIS, WHEEL_SIZE,
+                (droneKey, token) -> {
+                    if (droneKey == 1) {
+                        throw new IllegalStateException("boom");
+                    }
+                    second.countDown();
+                });
+        failing.start();
+        try {
+            long now = System.currentTimeMillis();
+            failing.schedule(1, 0L, now);
+            failing.schedule(2, 0L, now + 30L);
+
+            assertThat(second.await(2, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            failing.stop();
+        }
+    }
+
+    @Test
+    void 버킷_수가_2의_거듭제곱이_아니면_생성할_수_없다() {
+        assertThatThrownBy(() -> new HashedTimingWheel("bad", TICK_MILLIS, 10, (droneKey, token) -> { }))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,119 @@
+package com.mtvs.flykidsbackend.domain.drone.state;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LiveDroneStateStoreTest {
+
+    private final LiveDroneStateStore store = new LiveDroneStateStore();
+
+    @Test
+    void acquire_같은_키는_같은_슬롯을_반환한다() {
+        int slot = store.acquire(42);
+
+        assertThat(store.acquire(42)).isEqualTo(slot);
+        assertThat(store.find(42)).isEqualTo(slot);
+        assertThat(store.getDroneKey(slot)).isEqualTo(42);
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void release_후에는_조회되지_않는다() {
+        store.acquire(7);
+        store.release(7);
+
+        assertThat(store.find(7)).isEqualTo(-1);
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void 세션이_반복되어도_tombstone_이_쌓이지_않는다() {
+        // 매번 다른 키로 세션을 열고 닫아 인덱스 전체에 TOMBSTONE 을 뿌린다.
+        for (int key = 1; key <= LiveDroneStateStore.CAPACITY * 4; key++) {
+            store.acquire(key);
+            store.release(key);
+        }
+
+        assertThat(store.tombstoneCount()).isLessThanOrEqualTo(LiveDroneStateStore.CAPACITY / 2);
+        assertThat(store.size()).isZero();
+
+        int slot = store.acquire(123_456_789);
+        assertThat(store.find(123_456_789)).isEqualTo(slot);
+        assertThat(store.find(987_654_321)).isEqualTo(-1);
+    }
+
+    @Test
+    void 원본_샘플은_평활화_샘플과_따로_기록되고_새_세션에서_초기화된다() {
+        int slot = store.acquire(11);
+        store.recordSample(slot, 1f, 2f, 3f, 0f, 1_000L);
+        store.recordRawSample(slot, 1.5f, 2.5f, 3.5f, 4f);
+
+        assertThat(store.getX(slot)).isEqualTo(1f);
+        assertThat(store.getRawX(slot)).isEqualTo(1.5f);
+        assertThat(store.getRawY(slot)).isEqualTo(2.5f);
+        assertThat(store.getRawZ(slot)).isEqualTo(3.5f);
+        assertThat(store.getRawSpeed(slot)).isEqualTo(4f);
+
+        store.resetSession(slot, 2L, 2_000L);
+        assertThat(store.getRawX(slot)).isZero();
+        assertThat(store.getRawSpeed(slot)).isZero();
+    }
+
+    @Test
+    void 다시_해시해도_살아_있는_드론은_그대로_조회된다() {
+        int liveKey = -5;
+        int liveSlot = store.acquire(liveKey);
+        store.resetSession(liveSlot, 99L, 1_000L);
+
+        for (int key = 1; key <= LiveDroneStateStore.CAPACITY * 2; key++) {
+            store.acquire(key);
+            store.release(key);
+        }
+
+        assertThat(store.find(liveKey)).isEqualTo(liveSlot);
+        assertThat(store.getMissionId(liveSlot)).isEqualTo(99L);
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 가득_차면_유휴_레코드를_회수하되_락이_잡힌_드론은_건너뛴다() throws Exception {
+        for (int key = 1; key <= LiveDroneStateStore.CAPACITY; key++) {
+            store.acquire(key); // 샘플이 없어 모두 유휴 상태
+        }
+        int busyKey = 1;
+        int busySlot = store.find(busyKey);
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        Thread writer = new Thread(() -> {
+            ReentrantLock lock = store.lockFor(busyKey);
+            lock.lock();
+            try {
+                locked.countDown();
+                done.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                lock.unlock();
+            }
+        });
+        writer.start();
+        assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            int newSlot = store.acquire(LiveDroneStateStore.CAPACITY + 1);
+
+            assertThat(newSlot).isNotEqualTo(busySlot);
+            assertThat(store.find(busyKey)).isEqualTo(busySlot);
+            assertThat(store.size()).isLessThan(LiveDroneStateStore.CAPACITY);
+        } finally {
+            done.countDown();
+            writer.join();
+        }
+    }
+}
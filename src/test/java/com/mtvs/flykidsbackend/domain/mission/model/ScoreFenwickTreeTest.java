@@ -0,0 +1,83 @@
+package com.mtvs.flykidsbackend.domain.mission.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScoreFenwickTreeTest {
+
+    @Test
+    void countAbove_기준_점수보다_높은_인원_수를_센다() {
+        ScoreFenwickTree tree = new ScoreFenwickTree(100);
+        tree.add(10, 1);
+        tree.add(50, 1);
+        tree.add(50, 1);
+        tree.add(90, 1);
+
+        assertThat(tree.size()).isEqualTo(4);
+        assertThat(tree.countAbove(0)).isEqualTo(4);
+        assertThat(tree.countAbove(10)).isEqualTo(3);
+        assertThat(tree.countAbove(50)).isEqualTo(1);
+        assertThat(tree.countAbove(90)).isZero();
+        assertThat(tree.countAbove(1_000)).isZero();
+    }
+
+    @Test
+    void 제거하면_인원_수에서_빠진다() {
+        ScoreFenwickTree tree = new ScoreFenwickTree(100);
+        tree.add(70, 1);
+        tree.add(80, 1);
+
+        tree.add(80, -1);
+
+        assertThat(tree.size()).isEqualTo(1);
+        assertThat(tree.countAbove(70)).isZero();
+        assertThat(tree.countAbove(69)).isEqualTo(1);
+    }
+
+    @Test
+    void 최대_점수를_넘는_점수가_들어오면_늘려서_기존_인원을_유지한다() {
+        ScoreFenwickTree tree = new ScoreFenwickTree(10);
+        tree.add(3, 1);
+        tree.add(7, 2);
+
+        tree.add(1_000, 1);
+
+        assertThat(tree.size()).isEqualTo(4);
+        assertThat(tree.countAbove(3)).isEqualTo(3);
+        assertThat(tree.countAbove(7)).isEqualTo(1);
+        assertThat(tree.countAbove(999)).isEqualTo(1);
+    }
+
+    @Test
+    void 음수_점수는_0점으로_취급한다() {
+        ScoreFenwickTree tree = new ScoreFenwickTree(10);
+        tree.add(-5, 1);
+        tree.add(0, 1);
+
+        assertThat(tree.countAbove(-1)).isZero();
+        assertThat(tree.size()).isEqualTo(2);
+    }
+
+    @Test
+    void 무작위_점수에서도_단순_계산과_같다() {
+        Random random = new Random(42);
+        ScoreFenwickTree tree = new ScoreFenwickTree(16);
+        int[] counts = new int[5_001];
+        for (int i = 0; i < 2_000; i++) {
+            int score = random.nextInt(5_001);
+            tree.add(score, 1);
+            counts[score]++;
+        }
+
+        for (int score = 0; score <= 5_000; score += 37) {
+            int expected = 0;
+            for (int s = score + 1; s <= 5_000; s++) {
+                expected += counts[s];
+            }
+            assertThat(tree.countAbove(score)).isEqualTo(expected);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.mtvs.flykidsbackend.domain.mission.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WindowedScoreBoardTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 20);
+
+    private static long nextResultId = 1;
+
+    private static LeaderboardEntry entry(long userId, int score, LocalDate day) {
+        return new LeaderboardEntry(nextResultId++, userId, score, 30.0, day.atTime(12, 0));
+    }
+
+    private static List<Long> userIds(List<LeaderboardEntry> entries) {
+        return entries.stream().map(LeaderboardEntry::userId).toList();
+    }
+
+    @Test
+    void 일간은_오늘_기록만_주간은_최근_7일_기록만_포함한다() {
+        WindowedScoreBoard board = new WindowedScoreBoard(YearMonth.from(TODAY));
+        board.record(entry(1L, 90, TODAY));
+        board.record(entry(2L, 80, TODAY.minusDays(3)));
+        board.record(entry(3L, 70, TODAY.minusDays(7)));
+
+        assertThat(userIds(board.top(LeaderboardWindow.DAILY, TODAY, 10))).containsExactly(1L);
+        assertThat(userIds(board.top(LeaderboardWindow.WEEKLY, TODAY, 10))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void 유저별_최고_기록_하나만_순위에_오른다() {
+        WindowedScoreBoard board = new WindowedScoreBoard(YearMonth.from(TODAY));
+        board.record(entry(1L, 60, TODAY));
+        board.record(entry(1L, 95, TODAY.minusDays(1)));
+        board.record(entry(2L, 80, TODAY));
+
+        List<LeaderboardEntry> weekly = board.top(LeaderboardWindow.WEEKLY, TODAY, 10);
+
+        assertThat(userIds(weekly)).containsExactly(1L, 2L);
+        assertThat(weekly.get(0).score()).isEqualTo(95);
+        assertThat(board.top(LeaderboardWindow.DAILY, TODAY, 10).get(1).score()).isEqualTo(60);
+    }
+
+    @Test
+    void 같은_점수는_소요_시간이_짧은_기록이_앞선다() {
+        WindowedScoreBoard board = new WindowedScoreBoard(YearMonth.from(TODAY));
+        board.record(new LeaderboardEntry(1L, 1L, 80, 40.0, TODAY.atTime(9, 0)));
+        board.record(new LeaderboardEntry(2L, 2L, 80, 35.0, TODAY.atTime(10, 0)));
+
+        assertThat(userIds(board.top(LeaderboardWindow.DAILY, TODAY, 10))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 날짜가_지나면_7일_지난_버킷은_주간에서_빠진다() {
+        WindowedScoreBoard board = new WindowedScoreBoard(YearMonth.from(TODAY));
+        board.record(entry(1L, 90, TODAY.minusDays(6)));
+        assertThat(userIds(board.top(LeaderboardWindow.WEEKLY, TODAY, 10))).containsExactly(1L);
+
+        LocalDate nextDay = TODAY.plusDays(1);
+        board.record(entry(2L, 50, nextDay));
+
+        assertThat(userIds(board.top(LeaderboardWindow.WEEKLY, nextDay, 10))).containsExactly(2L);
+    }
+
+    @Test
+    void 달이_바뀌면_시즌_기록을_새로_시작한다() {
+        LocalDate lastDay = LocalDate.of(2026, 3, 31);
+        WindowedScoreBoard board = new WindowedScoreBoard(YearMonth.from(lastDay));
+        board.record(entry(1L, 90, lastDay));
+        assertThat(userIds(board.top(LeaderboardWindow.SEASON, lastDay, 10))).containsExactly(1L);
+
+        LocalDate firstDay = LocalDate.of(2026, 4, 1);
+        board.record(entry(2L, 50, firstDay));
+
+        assertThat(board.getSeason()).isEqualTo(YearMonth.of(2026, 4));
+        assertThat(userIds(board.top(LeaderboardWindow.SEASON, firstDay, 10))).containsExactly(2L);
+        // 주간은 달과 무관하게 최근 7일
+        assertThat(userIds(board.top(LeaderboardWindow.WEEKLY, firstDay, 10))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void 지난_시즌_기록은_현재_시즌에_반영하지_않는다() {
+        WindowedScoreBoard board = new WindowedScoreBoard(YearMonth.from(TODAY));
+
+        board.record(entry(1L, 99, LocalDate.of(2026, 2, 27)));
+
+        assertThat(board.top(LeaderboardWindow.SEASON, TODAY, 10)).isEmpty();
+    }
+
+    @Test
+    void limit_만큼만_반환하고_완료_시각이_없는_기록은_무시한다() {
+        WindowedScoreBoard board = new WindowedScoreBoard(YearMonth.from(TODAY));
+        for (long userId = 1; userId <= 5; userId++) {
+            board.record(entry(userId, (int) (100 - userId), TODAY));
+        }
+        board.record(new LeaderboardEntry(99L, 99L, 100, 1.0, null));
+
+        assertThat(userIds(board.top(LeaderboardWindow.DAILY, TODAY, 3))).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void bestPerUser_유저별_최고_기록을_순위순으로_정렬한다() {
+        List<LeaderboardEntry> ranking = WindowedScoreBoard.bestPerUser(List.of(
+                entry(1L, 50, TODAY), entry(2L, 70, TODAY), entry(1L, 90, TODAY)));
+
+        assertThat(ranking).extracting(LeaderboardEntry::score).containsExactly(90, 70);
+    }
+}
@@ -0,0 +1,114 @@
+package com.mtvs.flykidsbackend.domain.mission.repository;
+
+import com.mtvs.flykidsbackend.domain.mission.entity.DroneMissionResult;
+import com.mtvs.flykidsbackend.domain.mission.entity.Mission;
+import com.mtvs.flykidsbackend.domain.mission.model.LeaderboardRow;
+import com.mtvs.flykidsbackend.domain.mission.model.MissionResultStatus;
+import com.mtvs.flykidsbackend.domain.mission.model.MissionType;
+import com.mtvs.flykidsbackend.domain.user.entity.Role;
+import com.mtvs.flykidsbackend.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리더보드 프로젝션 쿼리가 결과 행 수와 무관하게 쿼리 한 번으로 끝나는지 확인한다. (유저별 닉네임 N+1 방지)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class DroneMissionResultRepositoryTest {
+
+    @Autowired
+    private DroneMissionResultRepository resultRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Mission seed(int userCount) {
+        Mission mission = Mission.builder()
+                .title("테스트 미션")
+                .timeLimit(120)
+                .type(MissionType.COIN)
+                .build();
+        entityManager.persist(mission);
+
+        for (int i = 0; i < userCount; i++) {
+            User user = User.builder()
+                    .username("user" + i)
+                    .password("pw")
+                    .nickname("닉네임" + i)
+                    .role(Role.USER)
+                    .status(i == 0 ? User.UserStatus.INACTIVE : User.UserStatus.ACTIVE)
+                    .build();
+            entityManager.persist(user);
+            entityManager.persist(DroneMissionResult.builder()
+                    .userId(user.getId())
+                    .mission(mission)
+                    .score(50 + i)
+                    .totalTime(30.0)
+                    .status(MissionResultStatus.SUCCESS)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return mission;
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 30})
+    void findLeaderboardRows_결과_수와_무관하게_쿼리_한_번으로_닉네임까지_읽는다(int userCount) {
+        Mission mission = seed(userCount);
+        Statistics statistics = statistics();
+
+        List<LeaderboardRow> rows = resultRepository.findLeaderboardRows(
+                mission.getId(), MissionResultStatus.SUCCESS, PageRequest.of(0, 100));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(rows).hasSize(userCount);
+        assertThat(rows.get(0).score()).isEqualTo(50 + userCount - 1);
+        assertThat(rows).filteredOn(row -> row.nickname() == null).hasSize(1); // 탈퇴 유저는 닉네임 없이 포함
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 30})
+    void findBestScoreRows_결과_수와_무관하게_쿼리_한_번으로_읽는다(int userCount) {
+        Mission mission = seed(userCount);
+        Statistics statistics = statistics();
+
+        List<LeaderboardRow> rows = resultRepository.findBestScoreRows(mission.getId(), MissionResultStatus.SUCCESS);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(rows).hasSize(userCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 30})
+    void findLeaderboardRowsCompletedBetween_결과_수와_무관하게_쿼리_한_번으로_읽는다(int userCount) {
+        Mission mission = seed(userCount);
+        Statistics statistics = statistics();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<LeaderboardRow> rows = resultRepository.findLeaderboardRowsCompletedBetween(
+                mission.getId(), MissionResultStatus.SUCCESS, now.minusDays(1), now.plusDays(1));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(rows).hasSize(userCount);
+    }
+}
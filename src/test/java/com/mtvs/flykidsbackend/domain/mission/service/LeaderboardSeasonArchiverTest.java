@@ -0,0 +1,123 @@
+package com.mtvs.flykidsbackend.domain.mission.service;
+
+import com.mtvs.flykidsbackend.domain.mission.entity.DroneMissionResult;
+import com.mtvs.flykidsbackend.domain.mission.entity.LeaderboardSeasonSnapshot;
+import com.mtvs.flykidsbackend.domain.mission.entity.Mission;
+import com.mtvs.flykidsbackend.domain.mission.model.MissionResultStatus;
+import com.mtvs.flykidsbackend.domain.mission.model.MissionType;
+import com.mtvs.flykidsbackend.domain.mission.repository.DroneMissionResultRepository;
+import com.mtvs.flykidsbackend.domain.mission.repository.LeaderboardSeasonSnapshotRepository;
+import com.mtvs.flykidsbackend.domain.mission.repository.MissionRepository;
+import com.mtvs.flykidsbackend.domain.user.service.UserNicknameCache;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서버가 여러 시즌 동안 꺼져 있었어도 빠진 시즌 스냅샷이 모두 저장되는지 확인한다.
+ */
+@DataJpaTest
+@Import({LeaderboardSeasonArchiver.class, WindowedLeaderboardService.class, UserNicknameCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LeaderboardSeasonArchiverTest {
+
+    @Autowired
+    private LeaderboardSeasonArchiver archiver;
+
+    @Autowired
+    private LeaderboardSeasonSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private DroneMissionResultRepository resultRepository;
+
+    @Autowired
+    private MissionRepository missionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        snapshotRepository.deleteAll();
+        resultRepository.deleteAll();
+        missionRepository.deleteAll();
+    }
+
+    /** 미션 하나와 지정한 달에 완료된 성공 결과 하나를 저장한다. */
+    private Long seed(YearMonth completedIn) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Mission mission = Mission.builder()
+                    .title("테스트 미션")
+                    .timeLimit(120)
+                    .type(MissionType.COIN)
+                    .build();
+            entityManager.persist(mission);
+            DroneMissionResult result = DroneMissionResult.builder()
+                    .userId(1L)
+                    .mission(mission)
+                    .score(80)
+                    .totalTime(30.0)
+                    .status(MissionResultStatus.SUCCESS)
+                    .build();
+            entityManager.persist(result);
+            entityManager.flush();
+            // 완료 시각은 저장 시점으로 채워지므로 지난 달로 옮긴다.
+            entityManager.createQuery("UPDATE DroneMissionResult r SET r.completedAt = :completedAt WHERE r.id = :id")
+                    .setParameter("completedAt", completedIn.atDay(15).atStartOfDay())
+                    .setParameter("id", result.getId())
+                    .executeUpdate();
+            return mission.getId();
+        });
+    }
+
+    private long seasonCount(Long missionId) {
+        return snapshotRepository.findAll().stream()
+                .filter(s -> s.getMissionId().equals(missionId))
+                .map(LeaderboardSeasonSnapshot::getSeason)
+                .distinct()
+                .count();
+    }
+
+    @Test
+    void archive_첫_성공_결과가_나온_달부터_지난달까지_모두_저장한다() {
+        YearMonth firstSeason = YearMonth.now().minusMonths(3);
+        Long missionId = seed(firstSeason);
+
+        assertThat(archiver.archive()).isEqualTo(1);
+
+        assertThat(seasonCount(missionId)).isEqualTo(3);
+        assertThat(snapshotRepository.findLatestSeason(missionId))
+                .isEqualTo(YearMonth.now().minusMonths(1).toString());
+        assertThat(snapshotRepository.findByMissionIdAndSeasonAndRankingGreaterThanOrderByRankingAsc(
+                missionId, firstSeason.toString(), LeaderboardSeasonSnapshot.EMPTY_SEASON_RANKING)).hasSize(1);
+    }
+
+    @Test
+    void archive_마지막으로_저장된_시즌_다음_달부터_이어서_저장한다() {
+        YearMonth firstSeason = YearMonth.now().minusMonths(4);
+        Long missionId = seed(firstSeason);
+        snapshotRepository.saveAndFlush(
+                LeaderboardSeasonSnapshot.emptySeason(missionId, YearMonth.now().minusMonths(2).toString()));
+
+        assertThat(archiver.archive()).isZero();
+
+        // 이미 저장된 시즌(2달 전) 이전은 다시 채우지 않고, 지난달만 추가된다.
+        assertThat(seasonCount(missionId)).isEqualTo(2);
+        assertThat(snapshotRepository.existsByMissionIdAndSeason(
+                missionId, YearMonth.now().minusMonths(1).toString())).isTrue();
+    }
+}